@@ -3,6 +3,8 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -93,7 +95,15 @@ public class MainApp extends Application {
         NusModsData nusModsData = new NusModsData();
         nusModsData.loadAllFromCache();
 
-        GmapsModelManager gmapsModelManager = new GmapsModelManager();
+        // Location data is only needed for closest common locations, so the window does not wait for it.
+        ExecutorService gmapsExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gmaps-init");
+            thread.setDaemon(true);
+            return thread;
+        });
+        GmapsModelManager gmapsModelManager = new GmapsModelManager(gmapsExecutor);
+        gmapsModelManager.getReadiness().thenRun(() -> logger.info("Location data is ready"));
+        gmapsExecutor.shutdown();
 
         return new ModelManager(timeBook, userPrefs, nusModsData, gmapsModelManager);
     }
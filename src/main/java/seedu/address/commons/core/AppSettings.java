@@ -3,6 +3,7 @@ package seedu.address.commons.core;
 import java.io.Serializable;
 import java.util.Objects;
 
+import seedu.address.model.gmaps.DistanceObjective;
 import seedu.address.model.module.AcadYear;
 import seedu.address.model.module.SemesterNo;
 
@@ -15,17 +16,45 @@ public class AppSettings implements Serializable {
     public static final AcadYear DEFAULT_ACAD_YEAR = new AcadYear("2019/2020");
     public static final SemesterNo DEFAULT_SEMESTER_NO = SemesterNo.SEMESTER_1;
 
+    // Non-positive values use the number of available processors.
+    public static final int DEFAULT_SCHEDULE_PARALLELISM = 0;
+
+    // Number of weeks that can be viewed in a schedule, up to a whole semester.
+    public static final int DEFAULT_SCHEDULE_WEEKS = 4;
+
+    // Number of closest common locations suggested, and how their distances are combined.
+    public static final int DEFAULT_CLOSEST_LOCATIONS = 3;
+    public static final DistanceObjective DEFAULT_CLOSEST_LOCATION_OBJECTIVE = DistanceObjective.AVERAGE;
+
+    // Memory kept for decoded location images.
+    public static final int DEFAULT_IMAGE_CACHE_MEGABYTES = 32;
+
     private String acadYear;
     private String semesterNo;
+    private int scheduleParallelism;
+    private int scheduleWeeks;
+    private int closestLocations;
+    private String closestLocationObjective;
+    private int imageCacheMegabytes;
 
     public AppSettings() {
         acadYear = DEFAULT_ACAD_YEAR.toString();
         semesterNo = DEFAULT_SEMESTER_NO.semesterNo();
+        scheduleParallelism = DEFAULT_SCHEDULE_PARALLELISM;
+        scheduleWeeks = DEFAULT_SCHEDULE_WEEKS;
+        closestLocations = DEFAULT_CLOSEST_LOCATIONS;
+        closestLocationObjective = DEFAULT_CLOSEST_LOCATION_OBJECTIVE.name();
+        imageCacheMegabytes = DEFAULT_IMAGE_CACHE_MEGABYTES;
     }
 
     public AppSettings(String acadYear, String semesterNo) {
         this.acadYear = acadYear;
         this.semesterNo = semesterNo;
+        this.scheduleParallelism = DEFAULT_SCHEDULE_PARALLELISM;
+        this.scheduleWeeks = DEFAULT_SCHEDULE_WEEKS;
+        this.closestLocations = DEFAULT_CLOSEST_LOCATIONS;
+        this.closestLocationObjective = DEFAULT_CLOSEST_LOCATION_OBJECTIVE.name();
+        this.imageCacheMegabytes = DEFAULT_IMAGE_CACHE_MEGABYTES;
     }
 
     public AcadYear getAcadYear() {
@@ -44,6 +73,62 @@ public class AppSettings implements Serializable {
         this.semesterNo = semesterNo;
     }
 
+    /**
+     * Returns the number of threads used to generate schedules, or a non-positive value to use
+     * the number of available processors.
+     */
+    public int getScheduleParallelism() {
+        return scheduleParallelism;
+    }
+
+    public void setScheduleParallelism(int scheduleParallelism) {
+        this.scheduleParallelism = scheduleParallelism;
+    }
+
+    /**
+     * Returns the number of weeks, starting from the current week, that can be viewed in a schedule.
+     */
+    public int getScheduleWeeks() {
+        return scheduleWeeks;
+    }
+
+    public void setScheduleWeeks(int scheduleWeeks) {
+        this.scheduleWeeks = scheduleWeeks;
+    }
+
+    /**
+     * Returns the number of closest common locations suggested for a group of venues.
+     */
+    public int getClosestLocations() {
+        return closestLocations;
+    }
+
+    public void setClosestLocations(int closestLocations) {
+        this.closestLocations = closestLocations;
+    }
+
+    /**
+     * Returns how the distances from a group of venues are combined to rank closest common locations.
+     */
+    public DistanceObjective getClosestLocationObjective() {
+        return DistanceObjective.findDistanceObjective(closestLocationObjective);
+    }
+
+    public void setClosestLocationObjective(String closestLocationObjective) {
+        this.closestLocationObjective = closestLocationObjective;
+    }
+
+    /**
+     * Returns the number of megabytes of memory kept for decoded location images.
+     */
+    public int getImageCacheMegabytes() {
+        return imageCacheMegabytes;
+    }
+
+    public void setImageCacheMegabytes(int imageCacheMegabytes) {
+        this.imageCacheMegabytes = imageCacheMegabytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,12 +141,18 @@ public class AppSettings implements Serializable {
         AppSettings o = (AppSettings) other;
 
         return acadYear.equals(o.getAcadYear().toString())
-                && semesterNo.equals(o.getSemesterNo().semesterNo());
+                && semesterNo.equals(o.getSemesterNo().semesterNo())
+                && scheduleParallelism == o.getScheduleParallelism()
+                && scheduleWeeks == o.getScheduleWeeks()
+                && closestLocations == o.getClosestLocations()
+                && getClosestLocationObjective() == o.getClosestLocationObjective()
+                && imageCacheMegabytes == o.getImageCacheMegabytes();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(acadYear, semesterNo);
+        return Objects.hash(acadYear, semesterNo, scheduleParallelism, scheduleWeeks, closestLocations,
+                getClosestLocationObjective(), imageCacheMegabytes);
     }
 
     @Override
@@ -69,6 +160,11 @@ public class AppSettings implements Serializable {
         StringBuilder sb = new StringBuilder();
         sb.append("Academic Year : " + acadYear + "\n");
         sb.append("Academic Semester : " + semesterNo + "\n");
+        sb.append("Schedule Parallelism : " + scheduleParallelism + "\n");
+        sb.append("Schedule Weeks : " + scheduleWeeks + "\n");
+        sb.append("Closest Locations : " + closestLocations + "\n");
+        sb.append("Closest Location Objective : " + getClosestLocationObjective() + "\n");
+        sb.append("Image Cache Megabytes : " + imageCacheMegabytes + "\n");
         return sb.toString();
     }
 }
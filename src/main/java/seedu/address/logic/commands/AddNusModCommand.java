@@ -45,7 +45,7 @@ public class AddNusModCommand extends Command {
     public static final String MESSAGE_PERSON_NOT_FOUND = "couldn't find person!";
     public static final String MESSAGE_MODULE_NOT_FOUND = "invalid module %s";
     public static final String MESSAGE_EVENTS_CLASH = "there is a timing clash between the module you're adding and"
-            + " the events in the person's schedule!";
+            + " the events in the person's schedule!\n%s";
     public static final String MESSAGE_DUPLICATE_EVENT = "module already exists in the schedule";
 
     private final Name name;
@@ -90,9 +90,16 @@ public class AddNusModCommand extends Command {
         }
 
         try {
-            person.addEvent(event);
+            if (name == null) {
+                model.addEvent(event);
+            } else {
+                model.addEvent(name, event);
+            }
         } catch (EventClashException e) {
-            return new CommandResultBuilder(String.format(MESSAGE_FAILURE, MESSAGE_EVENTS_CLASH)).build();
+            return new CommandResultBuilder(String.format(MESSAGE_FAILURE,
+                    String.format(MESSAGE_EVENTS_CLASH, e.getMessage()))).build();
+        } catch (PersonNotFoundException e) {
+            return new CommandResultBuilder(String.format(MESSAGE_FAILURE, MESSAGE_PERSON_NOT_FOUND)).build();
         }
 
         // updates UI.
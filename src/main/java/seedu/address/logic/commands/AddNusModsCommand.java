@@ -30,6 +30,8 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.EventClashException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.schedule.Event;
+import seedu.address.model.person.schedule.TimeslotClash;
+import seedu.address.model.person.schedule.TimeslotClashChecker;
 
 /**
  * Add an an NUSMods timetable to a person's schedule.
@@ -47,7 +49,7 @@ public class AddNusModsCommand extends Command {
     public static final String MESSAGE_PERSON_NOT_FOUND = "couldn't find person!";
     public static final String MESSAGE_MODULE_NOT_FOUND = "invalid module %s in link";
     public static final String MESSAGE_EVENTS_CLASH = "there's a timing clash somewhere "
-            + "between the modules you're adding and the person's schedule!";
+            + "between the modules you're adding and the person's schedule!\n%s";
 
     private final Name name;
     private final NusModsShareLink link;
@@ -84,9 +86,12 @@ public class AddNusModsCommand extends Command {
         }
 
         try {
-            addEventsToPerson(person, eventsToAdd);
+            addEventsToPerson(model, person, eventsToAdd);
         } catch (EventClashException e) {
-            return new CommandResultBuilder(String.format(MESSAGE_FAILURE, MESSAGE_EVENTS_CLASH)).build();
+            return new CommandResultBuilder(String.format(MESSAGE_FAILURE,
+                    String.format(MESSAGE_EVENTS_CLASH, e.getMessage()))).build();
+        } catch (PersonNotFoundException e) {
+            return new CommandResultBuilder(String.format(MESSAGE_FAILURE, MESSAGE_PERSON_NOT_FOUND)).build();
         }
 
         // updates UI.
@@ -129,24 +134,28 @@ public class AddNusModsCommand extends Command {
 
     /**
      * Add events to a person's schedule.
+     * @param model model object.
      * @param person person to add events to.
      * @param eventsToAdd events to add to schedule.
      * @throws EventClashException if there is a clash in event to add and person's schedule.
+     * @throws PersonNotFoundException if the person is no longer in the model.
      */
-    private void addEventsToPerson(Person person, List<Event> eventsToAdd)
-            throws EventClashException {
-        if (checkClashingModuleEvents(eventsToAdd)) {
-            throw new EventClashException();
+    private void addEventsToPerson(Model model, Person person, List<Event> eventsToAdd)
+            throws EventClashException, PersonNotFoundException {
+        ArrayList<TimeslotClash> clashes = TimeslotClashChecker.findClashes(eventsToAdd);
+        if (clashes.isEmpty()) {
+            clashes = person.getSchedule().findClashes(eventsToAdd);
         }
-
-        for (Event event: eventsToAdd) {
-            if (person.getSchedule().isClash(event)) {
-                throw new EventClashException(event);
-            }
+        if (!clashes.isEmpty()) {
+            throw new EventClashException(clashes.get(0));
         }
 
         for (Event event : eventsToAdd) {
-            person.addEvent(event);
+            if (name == null) {
+                model.addEvent(event);
+            } else {
+                model.addEvent(name, event);
+            }
         }
     }
 
@@ -160,23 +169,6 @@ public class AddNusModsCommand extends Command {
         return person;
     }
 
-    /**
-     * Checks if the modules to add have clashing timeslots between one another.
-     */
-    private boolean checkClashingModuleEvents(List<Event> eventsToAdd) {
-        for (int i = 0; i < eventsToAdd.size() - 1; i++) {
-            Event event = eventsToAdd.get(i);
-            for (int j = i + 1; j < eventsToAdd.size(); j++) {
-                Event otherEvent = eventsToAdd.get(j);
-                if (event.isClash(otherEvent)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-
     @Override
     public boolean equals(Command command) {
         return command == this // short circuit if same object
@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUPNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUORUM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.StringJoiner;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.display.timeslots.MeetingSlot;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.person.Name;
+
+/**
+ * Finds the best times for a group to meet when not every member has to be free.
+ */
+public class FindMeetingCommand extends Command {
+
+    public static final String COMMAND_WORD = "findmeeting";
+
+    public static final int DEFAULT_NUMBER_OF_SLOTS = 5;
+
+    public static final String MESSAGE_SUCCESS = "Best times to meet with at least %d of %d members of %s:\n";
+    public static final String MESSAGE_NO_SLOTS = "There is no time with at least %d of %d members of %s free.";
+    public static final String MESSAGE_QUORUM_TOO_LARGE = "%s only has %d members, including you.";
+    public static final String MESSAGE_GROUP_NOT_FOUND = "Group does not exist";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " "
+            + PREFIX_GROUPNAME + "GROUPNAME "
+            + PREFIX_QUORUM + "QUORUM "
+            + "[" + PREFIX_TOP + "NUMBER_OF_SLOTS]" + "\n"
+            + "QUORUM: the least number of members, including you, who must be free\n"
+            + "NUMBER_OF_SLOTS: 1 - 20   (if not specified, " + DEFAULT_NUMBER_OF_SLOTS + " are shown)";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("EEE dd/MM");
+
+    private final GroupName groupName;
+    private final int quorum;
+    private final int numberOfSlots;
+
+    public FindMeetingCommand(GroupName groupName, int quorum, int numberOfSlots) {
+        requireNonNull(groupName);
+        this.groupName = groupName;
+        this.quorum = quorum;
+        this.numberOfSlots = numberOfSlots;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        int members;
+        ArrayList<MeetingSlot> meetingSlots;
+        try {
+            // The user is a member of every group.
+            members = model.findPersonsOfGroup(model.findGroup(groupName).getGroupId()).size() + 1;
+            if (quorum > members) {
+                throw new CommandException(String.format(MESSAGE_QUORUM_TOO_LARGE, groupName, members));
+            }
+            meetingSlots = model.findMeetingSlots(groupName, quorum, numberOfSlots, LocalDateTime.now());
+        } catch (GroupNotFoundException e) {
+            throw new CommandException(MESSAGE_GROUP_NOT_FOUND);
+        }
+
+        if (meetingSlots.isEmpty()) {
+            return new CommandResultBuilder(String.format(MESSAGE_NO_SLOTS, quorum, members, groupName)).build();
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, quorum, members, groupName));
+        for (int i = 0; i < meetingSlots.size(); i++) {
+            feedback.append(i + 1).append(". ").append(toDisplayString(meetingSlots.get(i), members)).append("\n");
+        }
+        return new CommandResultBuilder(feedback.toString().trim()).build();
+    }
+
+    /**
+     * Returns a single line describing the MeetingSlot.
+     */
+    private static String toDisplayString(MeetingSlot meetingSlot, int members) {
+        StringJoiner attendees = new StringJoiner(", ");
+        for (Name attendee : meetingSlot.getAttendees()) {
+            attendees.add(attendee.toString());
+        }
+
+        String displayString = meetingSlot.getDate().format(DATE_FORMATTER) + " "
+                + meetingSlot.getStartTime() + " - " + meetingSlot.getEndTime()
+                + " (" + meetingSlot.getAttendees().size() + "/" + members + "): " + attendees;
+        if (meetingSlot.hasClosestCommonLocation()) {
+            displayString += " | Closest location: "
+                    + meetingSlot.getClosestCommonLocationData().getFirstClosest();
+        }
+        return displayString;
+    }
+
+    @Override
+    public boolean equals(Command command) {
+        if (command == null) {
+            return false;
+        } else if (!(command instanceof FindMeetingCommand)) {
+            return false;
+        } else {
+            FindMeetingCommand other = (FindMeetingCommand) command;
+            return other.groupName.equals(groupName)
+                    && other.quorum == quorum
+                    && other.numberOfSlots == numberOfSlots;
+        }
+    }
+}
@@ -4,6 +4,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.display.exceptions.PersonTimeslotNotFoundException;
@@ -26,7 +30,7 @@ public class SelectCommand extends Command {
             + PREFIX_NAME + "NAME "
             + "[" + PREFIX_WEEK + "WEEK_NUMBER] "
             + PREFIX_ID + "ID" + "\n"
-            + "WEEK_NUMBER: 1 - 4   (if not specified, first week will be selected)";
+            + "WEEK_NUMBER: 1 - number of weeks shown   (if not specified, first week will be selected)";
 
     public static final String MESSAGE_SUCCESS = "Selected timeslot";
     public static final String MESSAGE_FAILURE = "Unable to select: %s";
@@ -51,6 +55,9 @@ public class SelectCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
 
         ScheduleState status = model.getState();
+        if ((status == ScheduleState.GROUP || status == ScheduleState.PERSON) && week >= model.getScheduleWeeks()) {
+            throw new CommandException(String.format(Messages.MESSAGE_INVALID_WEEK, model.getScheduleWeeks()));
+        }
         if (status == ScheduleState.GROUP) {
             try {
                 if (name.equals(Name.emptyName())) {
@@ -60,6 +67,7 @@ public class SelectCommand extends Command {
                 GroupScheduleDisplay groupScheduleDisplay = (GroupScheduleDisplay) model.getScheduleDisplay();
                 PersonTimeslot personTimeslot = groupScheduleDisplay.getPersonTimeslot(name, week, id);
 
+                fillInLocationData(model, personTimeslot);
                 return new CommandResultBuilder(MESSAGE_SUCCESS)
                         .setSelect().setPersonTimeslotData(personTimeslot).build();
 
@@ -74,6 +82,7 @@ public class SelectCommand extends Command {
                 Name name = personScheduleDisplay.getPersonDisplays().get(0).getName();
                 PersonTimeslot personTimeslot = personScheduleDisplay.getPersonTimeslot(name, week, id);
 
+                fillInLocationData(model, personTimeslot);
                 return new CommandResultBuilder(MESSAGE_SUCCESS)
                         .setSelect().setPersonTimeslotData(personTimeslot).build();
 
@@ -88,6 +97,7 @@ public class SelectCommand extends Command {
                 Name name = model.getUser().getName();
                 PersonTimeslot personTimeslot = homeScheduleDisplay.getPersonTimeslotForToday(name, id);
 
+                fillInLocationData(model, personTimeslot);
                 return new CommandResultBuilder(MESSAGE_SUCCESS)
                         .setSelect().setPersonTimeslotData(personTimeslot).build();
 
@@ -100,6 +110,17 @@ public class SelectCommand extends Command {
         throw new CommandException(MESSAGE_FAILURE);
     }
 
+    /**
+     * Finds the closest common location of the timeslot again if the schedule was generated before the location data
+     * was ready.
+     */
+    private static void fillInLocationData(Model model, PersonTimeslot personTimeslot) {
+        if (personTimeslot.getLocationData() != null && personTimeslot.getLocationData().isPending()) {
+            personTimeslot.setLocationData(model.getClosestLocationData(
+                    new ArrayList<>(List.of(personTimeslot.getVenue().getVenue()))));
+        }
+    }
+
     @Override
     public boolean equals(Command command) {
         if (command == null) {
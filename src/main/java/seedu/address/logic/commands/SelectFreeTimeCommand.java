@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.display.locationdata.ClosestCommonLocationData;
@@ -29,7 +30,7 @@ public class SelectFreeTimeCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + " "
             + "[" + PREFIX_WEEK + "WEEK_NUMBER] "
             + PREFIX_ID + "FREETIMESLOTID" + "\n"
-            + "WEEK_NUMBER: 1 - 4   (if not specified, the first week will be selected)";
+            + "WEEK_NUMBER: 1 - number of weeks shown   (if not specified, the first week will be selected)";
 
     private final Logger logger = LogsCenter.getLogger(this.getClass());
 
@@ -46,10 +47,18 @@ public class SelectFreeTimeCommand extends Command {
 
         ScheduleState status = model.getState();
         if (status == ScheduleState.GROUP) {
+            if (week >= model.getScheduleWeeks()) {
+                throw new CommandException(String.format(Messages.MESSAGE_INVALID_WEEK, model.getScheduleWeeks()));
+            }
             try {
                 GroupScheduleDisplay groupScheduleDisplay = (GroupScheduleDisplay) model.getScheduleDisplay();
                 FreeTimeslot freeTimeslot = groupScheduleDisplay.getFreeTimeslot(week, id);
                 ClosestCommonLocationData commonLocationData = freeTimeslot.getClosestCommonLocationData();
+                if (commonLocationData.isPending()) {
+                    // The schedule was generated before the location data was ready.
+                    commonLocationData = model.getClosestLocationData(freeTimeslot.getVenues());
+                    freeTimeslot.setClosestCommonLocationData(commonLocationData);
+                }
 
                 if (!commonLocationData.isOk()) {
                     String errorResponse = "";
@@ -10,8 +10,8 @@ import seedu.address.model.display.scheduledisplay.ScheduleState;
 public class ToggleNextWeekCommand extends Command {
 
     public static final String COMMAND_WORD = "togglenext";
-    public static final String MESSAGE_SUCCESS = "Showing subsequent weeks' schedule! You can only view schedules up "
-            + "to 4 weeks ahead.";
+    public static final String MESSAGE_SUCCESS = "Showing subsequent weeks' schedule! You can view schedules up "
+            + "to the number of weeks set in your settings.";
     public static final String MESSAGE_USAGE = "To view next week's schedule, type togglenext!";
     public static final String MESSAGE_FAILURE = "No schedule is shown.\n"
             + "The toggle next command only works when there is an existing schedule in your schedule window!";
@@ -12,6 +12,7 @@ import seedu.address.model.Model;
 import seedu.address.model.module.Lesson;
 import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ModuleId;
 import seedu.address.model.module.SemesterNo;
 
 /**
@@ -36,9 +37,9 @@ public class AddNusModCommandSuggester extends NusModSuggester {
 
             return model
                     .getModuleList()
-                    .asUnmodifiableObservableList()
+                    .getModuleIds()
                     .stream()
-                    .map(Module::getModuleCode)
+                    .map(ModuleId::getModuleCode)
                     .map(ModuleCode::toString)
                     .filter(moduleCode -> {
                         return moduleCode.startsWith(searchModuleCode);
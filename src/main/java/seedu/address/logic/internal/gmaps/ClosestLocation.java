@@ -3,26 +3,110 @@ package seedu.address.logic.internal.gmaps;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.ArrayListUtil;
-import seedu.address.commons.util.LocationArrayListUtils;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.display.locationdata.ClosestCommonLocationData;
+import seedu.address.model.gmaps.DistanceObjective;
 import seedu.address.model.gmaps.Location;
 import seedu.address.model.gmaps.LocationGraph;
+import seedu.address.model.gmaps.LocationIndex;
+import seedu.address.model.gmaps.LocationKdTree;
+import seedu.address.model.gmaps.NearestMeetingPoints;
 
 /**
  * Class is used to get the closest location
+ *
+ * Every valid location is scored by combining its distances from the source locations under a DistanceObjective, and
+ * the best are kept in a heap bounded by the number of results. Valid locations that Google Maps resolved to the same
+ * place, such as a building and the venues within it, are only returned once.
+ *
+ * Distances missing from the distance matrix are estimated from the straight-line distance between the coordinates of
+ * the valid locations, scaled by how much longer walking distances in the matrix are than straight lines. A source
+ * location without any distances is replaced by the nearest valid location that has them.
+ *
+ * The closest meeting points from a single venue only depend on the venue, so they are looked up in a table of the
+ * NEAREST_MEETING_POINTS closest meeting points of every valid location. The table is taken from the LocationGraph if
+ * it has one, or else computed once.
  */
 public class ClosestLocation {
+    public static final int DEFAULT_NUMBER_OF_RESULTS = 3;
+    public static final int NEAREST_MEETING_POINTS = 10;
+
+    private static final long UNREACHABLE = Long.MAX_VALUE;
+    private static final String[] ORDINALS = {"First", "Second", "Third"};
+    private static final double DEFAULT_WALKING_FACTOR = 1.4;
+    // Pairs closer than this are left out of the walking factor, as their distances are mostly rounding.
+    private static final double MIN_CALIBRATION_METERS = 50;
 
     private LocationGraph locationGraph;
+    private LocationIndex locationIndex;
     private final Logger logger = LogsCenter.getLogger(this.getClass());
+
+    // Valid locations resolved to the same place share a place number.
+    private final int[] placeNumbers;
+    private final int placeCount;
+
+    // Coordinates of the valid locations, or NaN if they are not known.
+    private final double[] lats;
+    private final double[] lngs;
+    private final boolean[] hasDistances;
+    private final LocationKdTree locationsWithDistances;
+    private final double walkingFactor;
+    private final NearestMeetingPoints nearestMeetingPoints;
+
     public ClosestLocation(LocationGraph locationGraph) {
+        this(locationGraph, new LocationIndex(locationGraph.getLocations(), locationGraph.getValidLocationList()));
+    }
+
+    public ClosestLocation(LocationGraph locationGraph, LocationIndex locationIndex) {
         this.locationGraph = locationGraph;
+        this.locationIndex = locationIndex;
+
+        ArrayList<Location> validLocationList = locationGraph.getValidLocationList();
+        HashMap<String, Integer> places = new HashMap<>();
+        placeNumbers = new int[validLocationList.size()];
+        for (int i = 0; i < placeNumbers.length; i++) {
+            Location validLocation = validLocationList.get(i);
+            String place = validLocation.getPlaceId() != null
+                    ? validLocation.getPlaceId()
+                    : validLocation.getLocationName();
+            placeNumbers[i] = places.computeIfAbsent(place, p -> places.size());
+        }
+        placeCount = places.size();
+
+        lats = new double[validLocationList.size()];
+        lngs = new double[validLocationList.size()];
+        hasDistances = new boolean[validLocationList.size()];
+        double[] latsWithDistances = new double[validLocationList.size()];
+        for (int i = 0; i < lats.length; i++) {
+            lats[i] = parseCoordinate(validLocationList.get(i).getLat());
+            lngs[i] = parseCoordinate(validLocationList.get(i).getLng());
+            for (int j = 0; j < lats.length && !hasDistances[i]; j++) {
+                hasDistances[i] = j != i && locationGraph.getDistance(i, j) != LocationGraph.NO_DISTANCE;
+            }
+            latsWithDistances[i] = hasDistances[i] ? lats[i] : Double.NaN;
+        }
+        locationsWithDistances = new LocationKdTree(latsWithDistances, lngs);
+        walkingFactor = calibrateWalkingFactor();
+        nearestMeetingPoints = locationGraph.getNearestMeetingPoints()
+                .orElseGet(() -> computeNearestMeetingPoints(NEAREST_MEETING_POINTS));
+    }
+
+    /**
+     * Returns the table of the closest meeting points of every valid location.
+     */
+    public NearestMeetingPoints getNearestMeetingPoints() {
+        return nearestMeetingPoints;
     }
 
     /**
@@ -31,15 +115,24 @@ public class ClosestLocation {
      * @return
      */
     public String closestLocationDataString(ArrayList<String> locationNameList) {
-        ClosestCommonLocationData data = closestLocationData(locationNameList);
+        return closestLocationDataString(locationNameList, DEFAULT_NUMBER_OF_RESULTS, DistanceObjective.AVERAGE);
+    }
+
+    /**
+     * Returns up to numberOfResults closest locations to the venues under the objective, as text.
+     */
+    public String closestLocationDataString(ArrayList<String> locationNameList, int numberOfResults,
+                                            DistanceObjective objective) {
+        ClosestCommonLocationData data = closestLocationData(locationNameList, numberOfResults, objective);
         String result = "";
         if (data.isOk()) {
-            result = result + "\nFirst closest location: " + data.getFirstClosest()
-                    + " | Average travelling distance/meters " + data.getFirstAvg() + "\n";
-            result = result + "Second closest location: " + data.getSecondClosest()
-                    + " | Average travelling distance/meters " + data.getSecondAvg() + "\n";
-            result = result + "Third closest location: " + data.getThirdClosest()
-                    + " | Average travelling distance/meters " + data.getThirdAvg() + "\n";
+            result = result + "\n";
+            ArrayList<String> closestLocations = data.getClosestLocations();
+            for (int i = 0; i < closestLocations.size(); i++) {
+                String ordinal = i < ORDINALS.length ? ORDINALS[i] : "Number " + (i + 1);
+                result = result + ordinal + " closest location: " + closestLocations.get(i)
+                        + " | " + data.getObjective().getDescription() + " " + data.getDistance(i) + "\n";
+            }
             if (!data.getInvalidLocation().isEmpty()) {
                 result = result + "Could not recognise these locations:\n"
                         + ArrayListUtil
@@ -57,112 +150,77 @@ public class ClosestLocation {
      * @return
      */
     public ClosestCommonLocationData closestLocationData(ArrayList<String> locationNameListOriginal) {
+        return closestLocationData(locationNameListOriginal, DEFAULT_NUMBER_OF_RESULTS, DistanceObjective.AVERAGE);
+    }
+
+    /**
+     * Finds up to numberOfResults closest locations to the venues, best first, ranked by the objective.
+     *
+     * @param locationNameListOriginal venues to meet from.
+     * @param numberOfResults maximum number of closest locations.
+     * @param objective how the distances from the venues are combined.
+     * @return ClosestCommonLocationData of the closest locations.
+     */
+    public ClosestCommonLocationData closestLocationData(ArrayList<String> locationNameListOriginal,
+                                                         int numberOfResults, DistanceObjective objective) {
         requireNonNull(locationNameListOriginal);
+        requireNonNull(objective);
+        assert numberOfResults > 0;
         ArrayList<String> locationNameList = (ArrayList<String>) locationNameListOriginal.clone();
         ClosestCommonLocationData closestCommonLocationData = new ClosestCommonLocationData();
         closestCommonLocationData.setLocationEntered(locationNameList);
-        String firstClosest = null;
-        String secondClosest = null;
-        String thirdClosest = null;
         ArrayList<String> invalidLocation = new ArrayList<>();
         int groupSize = locationNameList.size();
         try {
             if (locationNameList.isEmpty()) {
                 throw new IllegalValueException("You must enter at least one location.");
             }
-            ArrayList<ArrayList<Long>> currMatrix = new ArrayList<ArrayList<Long>>();
+            ArrayList<Source> sources = new ArrayList<>();
             ArrayList<Location> validLocationList = locationGraph.getValidLocationList();
-            ArrayList<Location> locations = locationGraph.getLocations();
             for (int i = locationNameList.size() - 1; i >= 0; i--) {
-                String currLocationString = locationNameList.get(i);
-                int validLocationListIndex = -1;
-                if (LocationArrayListUtils.containLocationName(locations, currLocationString)) {
-                    int locationListIndex = LocationArrayListUtils.getIndex(locations, currLocationString);
-                    Location currLocation = locations.get(locationListIndex);
-                    validLocationListIndex = LocationArrayListUtils.getIndex(validLocationList,
-                            currLocation.getValidLocation());
-                } else if (LocationArrayListUtils.containLocationName(validLocationList,
-                        "NUS_" + currLocationString)) {
-                    validLocationListIndex = LocationArrayListUtils.getIndex(validLocationList,
-                            "NUS_" + currLocationString);
-                } else {
+                Source source = findSource(locationNameList.get(i));
+                if (source == null) {
                     invalidLocation.add(locationNameList.get(i));
                     locationNameList.remove(i);
                     continue;
                 }
-                ArrayList<Long> currRow = locationGraph.getLocationRow(validLocationListIndex);
-                currMatrix.add(currRow);
+                sources.add(source);
             }
 
             closestCommonLocationData.setInvalidLocation(invalidLocation);
-            if (currMatrix.isEmpty()) {
+            if (sources.isEmpty()) {
                 throw new IllegalValueException("All location entered cannot be identified by TimeBook. Refer to  "
                         + "Supported Location table in User Guide to ge the supported locations.");
             }
 
-            ArrayList<Long> totalDistance = new ArrayList<>();
-
-            for (int j = 0; j < currMatrix.get(0).size(); j++) {
-                totalDistance.add((long) 0);
-                boolean isAllNull = true;
-                for (int i = 0; i < locationNameList.size(); i++) {
-                    Long currDistance = (long) 0;
-                    if (currMatrix.get(i).get(j) != null) {
-                        isAllNull = false;
-                        currDistance = currMatrix.get(i).get(j);
+            ArrayList<String> closestLocations = new ArrayList<>();
+            ArrayList<Long> closestDistances = new ArrayList<>();
+            if (sources.size() == 1 && numberOfResults <= nearestMeetingPoints.getDepth()) {
+                // From a single venue, the total and the longest distance are both the distance from it.
+                int venue = sources.get(0).location;
+                for (int rank = 0; rank < numberOfResults; rank++) {
+                    int index = nearestMeetingPoints.getPoint(venue, rank);
+                    if (index == NearestMeetingPoints.NO_POINT) {
+                        break;
                     }
-                    Long newDistance = totalDistance.get(j) + currDistance;
-                    totalDistance.set(j, newDistance);
+                    long distance = nearestMeetingPoints.getDistance(venue, rank);
+                    closestLocations.add(StringUtil.removeNusPrefix(validLocationList.get(index).getValidLocation()));
+                    closestDistances.add(objective == DistanceObjective.AVERAGE ? distance / groupSize : distance);
                 }
-                if (totalDistance.get(j) == 0 && isAllNull) {
-                    totalDistance.set(j, Long.MAX_VALUE);
+            } else {
+                long[] costs = computeCosts(sources, objective);
+                for (int index : findClosest(costs, numberOfResults)) {
+                    closestLocations.add(StringUtil.removeNusPrefix(validLocationList.get(index).getValidLocation()));
+                    closestDistances.add(objective == DistanceObjective.AVERAGE
+                            ? costs[index] / groupSize
+                            : costs[index]);
                 }
             }
-            int firstClosestIndex = 0;
-            int secondClosestIndex = 0;
-            int thirdClosestIndex = 0;
-            ArrayList<Location> closestLocations = new ArrayList<>();
-            Long firstClosestTime = Long.MAX_VALUE;
-            Long secondClosestTime = Long.MAX_VALUE;
-            Long thirdClosestTime = Long.MAX_VALUE;
-            for (int i = 0; i < totalDistance.size(); i++) {
-                Location currValidLocation = validLocationList.get(i);
-                for (int j = 0; j < closestLocations.size(); j++) {
-                    String addedLocation = closestLocations.get(j).getValidLocation();
-                    if (addedLocation.contains(currValidLocation.getLocationName())
-                            || currValidLocation.getValidLocation().contains(addedLocation)) {
-                        continue;
-                    }
-                }
-                if (totalDistance.get(i) < firstClosestTime) {
-                    firstClosestIndex = i;
-                    firstClosestTime = totalDistance.get(i);
-                    closestLocations.add(currValidLocation);
-                } else if (totalDistance.get(i) < secondClosestTime) {
-                    secondClosestIndex = i;
-                    secondClosestTime = totalDistance.get(i);
-                    closestLocations.add(currValidLocation);
-                } else if (totalDistance.get(i) < thirdClosestTime) {
-                    thirdClosestIndex = i;
-                    thirdClosestTime = totalDistance.get(i);
-                    closestLocations.add(currValidLocation);
-                }
+            if (closestLocations.isEmpty()) {
+                throw new IllegalValueException("No location can be reached from all the locations entered.");
             }
 
-            firstClosest = StringUtil.removeNusPrefix(validLocationList.get(firstClosestIndex).getValidLocation());
-            secondClosest = StringUtil.removeNusPrefix(validLocationList.get(secondClosestIndex).getValidLocation());
-            thirdClosest = StringUtil.removeNusPrefix(validLocationList.get(thirdClosestIndex).getValidLocation());
-
-            long firstClosestAvgTime = firstClosestTime / groupSize;
-            long secondClosestAvgTime = secondClosestTime / groupSize;
-            long thirdClosestAvgTime = thirdClosestTime / groupSize;
-
-            closestCommonLocationData.setFirstClosest(firstClosest);
-            closestCommonLocationData.setSecondClosest(secondClosest);
-            closestCommonLocationData.setThirdClosest(thirdClosest);
-            closestCommonLocationData.setFirstAvg(firstClosestAvgTime);
-            closestCommonLocationData.setSecondAvg(secondClosestAvgTime);
-            closestCommonLocationData.setThirdAvg(thirdClosestAvgTime);
+            closestCommonLocationData.setClosestLocations(closestLocations, closestDistances, objective);
             closestCommonLocationData.setValidLocation(locationNameList);
             closestCommonLocationData.setOk(true);
         } catch (IllegalValueException e) {
@@ -170,4 +228,186 @@ public class ClosestLocation {
         }
         return closestCommonLocationData;
     }
+
+    /**
+     * Returns the cost of meeting at each valid location: the total distance from the sources for AVERAGE, or the
+     * longest distance for MINIMAX. Valid locations whose distance from one of the sources cannot be estimated either
+     * are UNREACHABLE.
+     */
+    private long[] computeCosts(ArrayList<Source> sources, DistanceObjective objective) throws IllegalValueException {
+        long[] costs = new long[locationGraph.getSize()];
+        // The rows are read one after another, in the order they are stored.
+        for (Source source : sources) {
+            int[] row = locationGraph.getLocationRow(source.index);
+            for (int j = 0; j < costs.length; j++) {
+                if (costs[j] == UNREACHABLE) {
+                    continue;
+                }
+                long distance = row[j] != LocationGraph.NO_DISTANCE ? row[j] : estimateDistance(source.index, j);
+                if (distance != UNREACHABLE) {
+                    distance += source.offset;
+                }
+                if (source.location != source.index) {
+                    distance = Math.min(distance, estimateDistance(source.location, j));
+                }
+                if (distance == UNREACHABLE) {
+                    costs[j] = UNREACHABLE;
+                } else if (objective == DistanceObjective.AVERAGE) {
+                    costs[j] += distance;
+                } else {
+                    costs[j] = Math.max(costs[j], distance);
+                }
+            }
+        }
+        return costs;
+    }
+
+    /**
+     * Returns the source for a location name, or null if it is not recognised. A valid location without any
+     * distances uses the distances of the nearest valid location with distances, offset by the distance between them.
+     */
+    private Source findSource(String locationName) {
+        int index = locationIndex.indexOfValidLocationFor(locationName);
+        return index == LocationIndex.NOT_FOUND ? null : sourceOf(index);
+    }
+
+    /**
+     * Returns the source for the valid location at index, using the distances of the nearest valid location with
+     * distances if it has none.
+     */
+    private Source sourceOf(int index) {
+        if (hasDistances[index] || Double.isNaN(lats[index]) || Double.isNaN(lngs[index])) {
+            return new Source(index, index, 0);
+        }
+        int nearest = locationsWithDistances.nearest(lats[index], lngs[index]);
+        if (nearest == LocationKdTree.NOT_FOUND) {
+            return new Source(index, index, 0);
+        }
+        return new Source(index, nearest, estimateDistance(index, nearest));
+    }
+
+    /**
+     * Returns the table of up to depth closest meeting points of every valid location, as found by findClosest.
+     */
+    private NearestMeetingPoints computeNearestMeetingPoints(int depth) {
+        int size = locationGraph.getSize();
+        int[] points = new int[size * depth];
+        int[] distances = new int[size * depth];
+        Arrays.fill(points, NearestMeetingPoints.NO_POINT);
+        for (int i = 0; i < size; i++) {
+            long[] costs;
+            try {
+                costs = computeCosts(new ArrayList<>(List.of(sourceOf(i))), DistanceObjective.AVERAGE);
+            } catch (IllegalValueException e) {
+                throw new AssertionError("Valid location index out of range", e);
+            }
+            int[] closest = findClosest(costs, depth);
+            for (int rank = 0; rank < closest.length; rank++) {
+                points[i * depth + rank] = closest[rank];
+                distances[i * depth + rank] = (int) Math.min(costs[closest[rank]], Integer.MAX_VALUE);
+            }
+        }
+        logger.info("Computed the " + depth + " nearest meeting points of " + size + " valid locations");
+        return new NearestMeetingPoints(size, depth, points, distances);
+    }
+
+    /**
+     * Returns the estimated walking distance between two valid locations, or UNREACHABLE if either of their
+     * coordinates is not known.
+     */
+    private long estimateDistance(int from, int to) {
+        if (Double.isNaN(lats[from]) || Double.isNaN(lngs[from]) || Double.isNaN(lats[to]) || Double.isNaN(lngs[to])) {
+            return UNREACHABLE;
+        }
+        return Math.round(LocationKdTree.haversine(lats[from], lngs[from], lats[to], lngs[to]) * walkingFactor);
+    }
+
+    /**
+     * Returns the median ratio of the walking distances in the matrix to the straight-line distances, or
+     * DEFAULT_WALKING_FACTOR if there are no distances to compare.
+     */
+    private double calibrateWalkingFactor() {
+        ArrayList<Double> ratios = new ArrayList<>();
+        for (int i = 0; i < lats.length; i++) {
+            for (int j = i + 1; j < lats.length; j++) {
+                int distance = locationGraph.getDistance(i, j);
+                if (distance == LocationGraph.NO_DISTANCE || Double.isNaN(lats[i]) || Double.isNaN(lngs[i])
+                        || Double.isNaN(lats[j]) || Double.isNaN(lngs[j])) {
+                    continue;
+                }
+                double straightLine = LocationKdTree.haversine(lats[i], lngs[i], lats[j], lngs[j]);
+                if (straightLine >= MIN_CALIBRATION_METERS) {
+                    ratios.add(distance / straightLine);
+                }
+            }
+        }
+        if (ratios.isEmpty()) {
+            return DEFAULT_WALKING_FACTOR;
+        }
+        Collections.sort(ratios);
+        return ratios.get(ratios.size() / 2);
+    }
+
+    /**
+     * Returns the coordinate, or NaN if it is missing or not a number.
+     */
+    private static double parseCoordinate(String coordinate) {
+        try {
+            return coordinate == null ? Double.NaN : Double.parseDouble(coordinate);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Returns the indexes of up to numberOfResults reachable valid locations with the lowest costs, lowest first,
+     * taking only the lowest cost valid location of each place. Ties go to the earlier valid location.
+     */
+    private int[] findClosest(long[] costs, int numberOfResults) {
+        int[] bestOfPlace = new int[placeCount];
+        Arrays.fill(bestOfPlace, -1);
+        for (int i = 0; i < costs.length; i++) {
+            int place = placeNumbers[i];
+            if (costs[i] != UNREACHABLE && (bestOfPlace[place] == -1 || costs[i] < costs[bestOfPlace[place]])) {
+                bestOfPlace[place] = i;
+            }
+        }
+
+        Comparator<Integer> ranking = Comparator.<Integer>comparingLong(index -> costs[index])
+                .thenComparingInt(index -> index);
+        // Worst location at the head, so it can be replaced by a better one.
+        PriorityQueue<Integer> best = new PriorityQueue<>(ranking.reversed());
+        for (int index : bestOfPlace) {
+            if (index == -1) {
+                continue;
+            }
+            if (best.size() < numberOfResults) {
+                best.add(index);
+            } else if (ranking.compare(index, best.peek()) < 0) {
+                best.poll();
+                best.add(index);
+            }
+        }
+
+        int[] closest = new int[best.size()];
+        for (int i = closest.length - 1; i >= 0; i--) {
+            closest[i] = best.poll();
+        }
+        return closest;
+    }
+
+    /**
+     * A source location, the valid location whose distances are used for it, and how far apart they are.
+     */
+    private static class Source {
+        private final int location;
+        private final int index;
+        private final long offset;
+
+        private Source(int location, int index, long offset) {
+            this.location = location;
+            this.index = index;
+            this.offset = offset;
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package seedu.address.logic.internal.gmaps;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.display.locationdata.ClosestCommonLocationData;
+import seedu.address.model.gmaps.DistanceObjective;
+
+/**
+ * Bounded, thread-safe memo of ClosestLocation results.
+ *
+ * The closest common location does not depend on the order of the venues, so results are keyed by the sorted
+ * venues and computed from them. The least recently used result is evicted once the cache is full.
+ */
+public class ClosestLocationCache {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final ClosestLocation closestLocation;
+    private final LinkedHashMap<List<Object>, ClosestCommonLocationData> cache;
+
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    public ClosestLocationCache(ClosestLocation closestLocation) {
+        this(closestLocation, DEFAULT_CAPACITY);
+    }
+
+    public ClosestLocationCache(ClosestLocation closestLocation, int capacity) {
+        requireNonNull(closestLocation);
+        assert capacity > 0;
+
+        this.closestLocation = closestLocation;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, ClosestCommonLocationData> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the closest common location of the venues, computing it only if it is not already cached.
+     */
+    public ClosestCommonLocationData closestLocationData(ArrayList<String> locationNameList) {
+        return closestLocationData(locationNameList, ClosestLocation.DEFAULT_NUMBER_OF_RESULTS,
+                DistanceObjective.AVERAGE);
+    }
+
+    /**
+     * Returns up to numberOfResults closest common locations of the venues under the objective, computing them only
+     * if they are not already cached.
+     */
+    public ClosestCommonLocationData closestLocationData(ArrayList<String> locationNameList, int numberOfResults,
+                                                         DistanceObjective objective) {
+        requireNonNull(locationNameList);
+        requireNonNull(objective);
+        ArrayList<String> sortedLocationNameList = new ArrayList<>(locationNameList);
+        Collections.sort(sortedLocationNameList);
+        List<Object> key = List.of(objective, numberOfResults, List.copyOf(sortedLocationNameList));
+
+        synchronized (this) {
+            ClosestCommonLocationData data = cache.get(key);
+            if (data != null) {
+                hitCount++;
+                return data;
+            }
+            missCount++;
+        }
+
+        // Computed outside the lock so that other lookups are not blocked.
+        ClosestCommonLocationData data = closestLocation.closestLocationData(sortedLocationNameList,
+                numberOfResults, objective);
+
+        synchronized (this) {
+            ClosestCommonLocationData existingData = cache.putIfAbsent(key, data);
+            return existingData == null ? data : existingData;
+        }
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all cached results. The hit and miss counts are kept.
+     */
+    public synchronized void clear() {
+        cache.clear();
+    }
+}
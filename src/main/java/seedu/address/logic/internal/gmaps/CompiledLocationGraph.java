@@ -0,0 +1,244 @@
+package seedu.address.logic.internal.gmaps;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.gmaps.Location;
+import seedu.address.model.gmaps.LocationGraph;
+import seedu.address.model.gmaps.NearestMeetingPoints;
+
+/**
+ * Reads and writes a LocationGraph as a compact binary file, so that it does not have to be rebuilt from the cached
+ * Google Maps and NUSMods responses on every launch.
+ *
+ * The file holds a header with the stamp of the responses it was compiled from, the locations, the valid locations,
+ * the distance matrix and the table of the closest meeting points of each valid location, if the graph has one. It is
+ * only read back if the stamp still matches, so the caller falls back to the responses
+ * whenever they have changed since.
+ *
+ * The file is read into memory rather than mapped, as Windows does not allow a mapped file to be replaced by save.
+ */
+public class CompiledLocationGraph {
+    private static final int MAGIC = 0x54424c47;
+    private static final int VERSION = 2;
+    private static final int NULL_STRING = -1;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES + Long.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(CompiledLocationGraph.class);
+
+    private CompiledLocationGraph() {
+    }
+
+    /**
+     * Loads the LocationGraph compiled from responses with the given stamp.
+     *
+     * @param path path to the compiled file.
+     * @param sourceStamp stamp of the responses the LocationGraph should be compiled from.
+     * @return an Optional containing the LocationGraph, or empty if the file is missing, stale or corrupted.
+     */
+    public static Optional<LocationGraph> load(Path path, long sourceStamp) {
+        requireNonNull(path);
+        if (!FileUtil.isFileExists(path)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                logger.info("Ignoring compiled location graph of another format: " + path);
+                return Optional.empty();
+            }
+            if (header.getLong() != sourceStamp) {
+                logger.info("Compiled location graph is stale: " + path);
+                return Optional.empty();
+            }
+
+            // The rest of the file is only read once the graph is known to be up to date.
+            long bodyBytes = channel.size() - HEADER_BYTES;
+            if (bodyBytes > Integer.MAX_VALUE) {
+                throw new IOException("Compiled location graph is too large");
+            }
+            ByteBuffer buffer = readFully(channel, (int) bodyBytes);
+
+            ArrayList<Location> locations = readLocations(buffer);
+            ArrayList<Location> validLocationList = readLocations(buffer);
+            int size = validLocationList.size();
+            if (buffer.getInt() != size * size || buffer.remaining() < size * size * Integer.BYTES) {
+                throw new IOException("Distance matrix does not match the valid locations");
+            }
+            int[] distanceMatrix = readInts(buffer, size * size);
+            LocationGraph locationGraph = new LocationGraph(locations, validLocationList, distanceMatrix);
+
+            int depth = buffer.getInt();
+            if (depth < 0 || buffer.remaining() != 2 * size * depth * Integer.BYTES) {
+                throw new IOException("Nearest meeting points do not match the valid locations");
+            }
+            if (depth > 0) {
+                int[] points = readInts(buffer, size * depth);
+                int[] distances = readInts(buffer, size * depth);
+                locationGraph.setNearestMeetingPoints(new NearestMeetingPoints(size, depth, points, distances));
+            }
+            return Optional.of(locationGraph);
+        } catch (IOException | BufferUnderflowException e) {
+            logger.warning("Failed to load compiled location graph: " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Saves the LocationGraph, compiled from responses with the given stamp. The file is replaced only once it has
+     * been written in full.
+     *
+     * @param path path to the compiled file.
+     * @param locationGraph LocationGraph to save.
+     * @param sourceStamp stamp of the responses the LocationGraph was compiled from.
+     */
+    public static void save(Path path, LocationGraph locationGraph, long sourceStamp) {
+        requireNonNull(path);
+        requireNonNull(locationGraph);
+
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            FileUtil.createParentDirsOfFile(path);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempPath)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(sourceStamp);
+                writeLocations(out, locationGraph.getLocations());
+                writeLocations(out, locationGraph.getValidLocationList());
+                int[] distanceMatrix = locationGraph.getDistanceMatrix();
+                out.writeInt(distanceMatrix.length);
+                writeInts(out, distanceMatrix);
+
+                Optional<NearestMeetingPoints> nearestMeetingPoints = locationGraph.getNearestMeetingPoints();
+                out.writeInt(nearestMeetingPoints.map(NearestMeetingPoints::getDepth).orElse(0));
+                if (nearestMeetingPoints.isPresent()) {
+                    writeInts(out, nearestMeetingPoints.get().getPoints());
+                    writeInts(out, nearestMeetingPoints.get().getDistances());
+                }
+            }
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warning("Failed to save compiled location graph: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Reads the next count bytes of the channel into a buffer.
+     *
+     * @throws BufferUnderflowException if the channel ends first.
+     */
+    private static ByteBuffer readFully(FileChannel channel, int count) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(count);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new BufferUnderflowException();
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Writes the ints, without their number.
+     */
+    private static void writeInts(DataOutputStream out, int[] ints) throws IOException {
+        for (int i : ints) {
+            out.writeInt(i);
+        }
+    }
+
+    /**
+     * Reads count ints written by writeInts.
+     */
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] ints = new int[count];
+        buffer.asIntBuffer().get(ints);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return ints;
+    }
+
+    /**
+     * Writes the number of locations, followed by the fields of each location.
+     */
+    private static void writeLocations(DataOutputStream out, ArrayList<Location> locations) throws IOException {
+        out.writeInt(locations.size());
+        for (Location location : locations) {
+            writeString(out, location.getLocationName());
+            writeString(out, location.getValidLocation());
+            writeString(out, location.getPlaceId());
+            writeString(out, location.getLat());
+            writeString(out, location.getLng());
+        }
+    }
+
+    /**
+     * Reads locations written by writeLocations.
+     */
+    private static ArrayList<Location> readLocations(ByteBuffer buffer) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw new IOException("Negative number of locations");
+        }
+        ArrayList<Location> locations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String locationName = readString(buffer);
+            if (locationName == null) {
+                throw new IOException("Location without a name");
+            }
+            Location location = new Location(locationName);
+            location.setValidLocation(readString(buffer));
+            location.setPlaceId(readString(buffer));
+            location.setLat(readString(buffer));
+            location.setLng(readString(buffer));
+            locations.add(location);
+        }
+        return locations;
+    }
+
+    /**
+     * Writes the length of the string in UTF-8 bytes followed by the bytes, or NULL_STRING if it is null.
+     */
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        if (string == null) {
+            out.writeInt(NULL_STRING);
+            return;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by writeString.
+     */
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
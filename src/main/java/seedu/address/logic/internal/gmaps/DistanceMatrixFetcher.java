@@ -0,0 +1,216 @@
+package seedu.address.logic.internal.gmaps;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import org.json.simple.JSONObject;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.gmaps.Location;
+import seedu.address.websocket.Cache;
+import seedu.address.websocket.GmapsApi;
+import seedu.address.websocket.util.UrlUtil;
+
+/**
+ * Fetches the tiles of the distance matrix between valid locations from the cache or the Google Maps API.
+ *
+ * Tiles missing from the cache are requested concurrently by a bounded number of threads, with the requests spaced
+ * out to stay within a rate limit. The new responses are committed together once every request has completed, instead
+ * of rewriting the cache file after each of them.
+ */
+public class DistanceMatrixFetcher {
+    public static final int TILE_SIZE = 10;
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int DEFAULT_REQUESTS_PER_SECOND = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(DistanceMatrixFetcher.class);
+
+    private final Map<?, ?> cachedResponses;
+    private final Consumer<Map<String, JSONObject>> commit;
+    private final int parallelism;
+    private final long nanosBetweenRequests;
+    private long nextRequestNanos = System.nanoTime();
+
+    /**
+     * Creates a fetcher.
+     *
+     * @param cachedResponses responses already cached, keyed by the sanitized url of their request.
+     * @param commit called once with the new responses, keyed by the sanitized url of their request.
+     * @param parallelism maximum number of requests in flight.
+     * @param requestsPerSecond maximum number of requests started per second.
+     */
+    public DistanceMatrixFetcher(Map<?, ?> cachedResponses, Consumer<Map<String, JSONObject>> commit,
+                                 int parallelism, int requestsPerSecond) {
+        requireNonNull(cachedResponses);
+        requireNonNull(commit);
+        assert parallelism > 0;
+        assert requestsPerSecond > 0;
+        this.cachedResponses = cachedResponses;
+        this.commit = commit;
+        this.parallelism = parallelism;
+        this.nanosBetweenRequests = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+    }
+
+    /**
+     * Returns a fetcher that reads from and commits to the Distance Matrix responses in Cache.
+     */
+    public static DistanceMatrixFetcher fromCache() {
+        return new DistanceMatrixFetcher(Cache.loadDistanceMatrices(), Cache::saveDistanceMatrices,
+                DEFAULT_PARALLELISM, DEFAULT_REQUESTS_PER_SECOND);
+    }
+
+    /**
+     * Splits the valid locations into tiles of up to TILE_SIZE origins by TILE_SIZE destinations, row by row.
+     */
+    public static List<Tile> tilesOf(ArrayList<Location> validLocationList) {
+        List<Tile> tiles = new ArrayList<>();
+        for (int rowStart = 0; rowStart < validLocationList.size(); rowStart += TILE_SIZE) {
+            for (int columnStart = 0; columnStart < validLocationList.size(); columnStart += TILE_SIZE) {
+                tiles.add(new Tile(validLocationList, rowStart, columnStart));
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Returns the response for every tile, in the same order. The response of a tile that could not be fetched is
+     * empty.
+     */
+    public List<JSONObject> fetch(List<Tile> tiles) {
+        requireNonNull(tiles);
+        List<String> keys = new ArrayList<>();
+        Map<String, Tile> missingTiles = new LinkedHashMap<>();
+        for (Tile tile : tiles) {
+            String key = UrlUtil.sanitizeApiKey(
+                    UrlUtil.generateGmapsDistanceMatrixUrl(tile.getRow(), tile.getColumn()));
+            keys.add(key);
+            if (cachedResponses.get(key) == null) {
+                missingTiles.putIfAbsent(key, tile);
+            }
+        }
+
+        Map<String, JSONObject> fetchedResponses = new LinkedHashMap<>();
+        if (!missingTiles.isEmpty()) {
+            if (UrlUtil.isGmapsKeyPresent()) {
+                logger.info("Getting " + missingTiles.size() + " distance matrix tiles from Google Maps API");
+                fetchedResponses = fetchAll(missingTiles);
+            } else {
+                logger.severe("Enter API key to get " + missingTiles.size() + " distance matrix tiles");
+            }
+        }
+        if (!fetchedResponses.isEmpty()) {
+            commit.accept(fetchedResponses);
+        }
+
+        List<JSONObject> responses = new ArrayList<>();
+        for (String key : keys) {
+            Object response = cachedResponses.get(key);
+            if (response == null) {
+                response = fetchedResponses.getOrDefault(key, new JSONObject());
+            }
+            responses.add((JSONObject) response);
+        }
+        return responses;
+    }
+
+    /**
+     * Requests the tiles concurrently and returns the successful responses, keyed like the tiles.
+     */
+    private Map<String, JSONObject> fetchAll(Map<String, Tile> tiles) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tiles.size()), runnable -> {
+            Thread thread = new Thread(runnable, "distance-matrix-fetcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Map<String, JSONObject> responses = new LinkedHashMap<>();
+        try {
+            Map<String, Future<JSONObject>> futures = new LinkedHashMap<>();
+            for (Map.Entry<String, Tile> entry : tiles.entrySet()) {
+                Tile tile = entry.getValue();
+                futures.put(entry.getKey(), executor.submit(() -> {
+                    awaitTurn();
+                    return GmapsApi.getDistanceMatrix(tile.getRow(), tile.getColumn());
+                }));
+            }
+            for (Map.Entry<String, Future<JSONObject>> entry : futures.entrySet()) {
+                try {
+                    JSONObject response = entry.getValue().get();
+                    if (response != null && "OK".equals(response.get("status"))) {
+                        responses.put(entry.getKey(), response);
+                    } else {
+                        logger.severe("Google Maps API did not return distances for " + entry.getKey());
+                    }
+                } catch (ExecutionException e) {
+                    logger.severe("Failed to get " + entry.getKey() + ": " + e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while getting distance matrix tiles");
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return responses;
+    }
+
+    /**
+     * Blocks until the next request may be started under the rate limit.
+     */
+    private void awaitTurn() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            nextRequestNanos = Math.max(nextRequestNanos, now);
+            waitNanos = nextRequestNanos - now;
+            nextRequestNanos += nanosBetweenRequests;
+        }
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    /**
+     * A block of the distance matrix that is requested with a single Distance Matrix API call.
+     */
+    public static class Tile {
+        private final ArrayList<Location> row;
+        private final ArrayList<Location> column;
+        private final int rowStart;
+        private final int columnStart;
+
+        private Tile(ArrayList<Location> validLocationList, int rowStart, int columnStart) {
+            this.row = new ArrayList<>(validLocationList.subList(rowStart,
+                    Math.min(rowStart + TILE_SIZE, validLocationList.size())));
+            this.column = new ArrayList<>(validLocationList.subList(columnStart,
+                    Math.min(columnStart + TILE_SIZE, validLocationList.size())));
+            this.rowStart = rowStart;
+            this.columnStart = columnStart;
+        }
+
+        public ArrayList<Location> getRow() {
+            return row;
+        }
+
+        public ArrayList<Location> getColumn() {
+            return column;
+        }
+
+        public int getRowStart() {
+            return rowStart;
+        }
+
+        public int getColumnStart() {
+            return columnStart;
+        }
+    }
+}
@@ -1,26 +1,59 @@
 package seedu.address.logic.internal.gmaps;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.TimeBookInvalidState;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.gmaps.Location;
 import seedu.address.websocket.Cache;
+import seedu.address.websocket.CacheFileNames;
 import seedu.address.websocket.util.ImageQuery;
 import seedu.address.websocket.util.UrlUtil;
 
 /**
  * This class is used as a functional class to generate images for the various locations
+ *
+ * Images are downloaded by a bounded pool of threads. Every image that is saved is recorded in a manifest, so that a
+ * run that is interrupted can be resumed without downloading those images again. The manifest is removed once every
+ * image has been saved, so the next run regenerates all of them.
  */
 public class GenerateImage {
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final String MANIFEST_FILE_NAME = "ImageManifest.txt";
+
+    private static final String MANIFEST_SEPARATOR = "\t";
 
     private ArrayList<Location> validLocationList;
+    private Path imageDirectory;
+    private int parallelism;
 
     private final Logger logger = LogsCenter.getLogger(this.getClass());
 
     public GenerateImage(ArrayList<Location> validLocationList) {
+        this(validLocationList, Cache.getWritablePath(CacheFileNames.GMAPS_IMAGE_DIR), DEFAULT_PARALLELISM);
+    }
+
+    public GenerateImage(ArrayList<Location> validLocationList, Path imageDirectory, int parallelism) {
+        assert parallelism > 0;
         this.validLocationList = validLocationList;
+        this.imageDirectory = imageDirectory;
+        this.parallelism = parallelism;
     }
 
     /**
@@ -37,15 +70,124 @@ public class GenerateImage {
     }
 
     /**
-     * This method is used to get image for the valid location
+     * This method is used to get the images for the valid locations that are not in the manifest
      */
     private void retrieveImage() {
-        for (int i = 0; i < validLocationList.size(); i++) {
-            Location currValidLocation = validLocationList.get(i);
-            String url = UrlUtil.generateGmapsStaticImage(currValidLocation.getLatLng());
-            String fullPath = Cache.writeImagePath(currValidLocation.getValidLocation());
-            logger.info("getting image for " + currValidLocation.getLocationName());
-            ImageQuery.execute(url, fullPath);
+        Path manifestPath = imageDirectory.resolve(MANIFEST_FILE_NAME);
+        Set<String> completed = readManifest(manifestPath);
+
+        List<Location> remaining = new ArrayList<>();
+        for (Location validLocation : validLocationList) {
+            if (completed.contains(manifestEntry(validLocation))
+                    && FileUtil.isFileExists(imagePath(validLocation))) {
+                continue;
+            }
+            remaining.add(validLocation);
+        }
+        logger.info("Getting " + remaining.size() + " images, " + (validLocationList.size() - remaining.size())
+                + " already saved");
+        if (remaining.isEmpty()) {
+            deleteManifest(manifestPath);
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, remaining.size()), runnable -> {
+            Thread thread = new Thread(runnable, "image-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        boolean isComplete = true;
+        try (BufferedWriter manifest = Files.newBufferedWriter(manifestPath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (Location validLocation : remaining) {
+                results.add(executor.submit(() -> retrieveImage(validLocation, manifest)));
+            }
+            for (Future<Boolean> result : results) {
+                isComplete &= result.get();
+            }
+        } catch (IOException | ExecutionException e) {
+            logger.warning("Failed to generate images: " + StringUtil.getDetails(e));
+            isComplete = false;
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while generating images");
+            Thread.currentThread().interrupt();
+            isComplete = false;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // An interrupted run keeps the manifest, unless it did not save any image either.
+        if (isComplete || isEmpty(manifestPath)) {
+            deleteManifest(manifestPath);
+        }
+    }
+
+    /**
+     * Gets the image for a valid location and records it in the manifest if it is saved.
+     *
+     * @return true if the image was saved.
+     */
+    private boolean retrieveImage(Location validLocation, BufferedWriter manifest) throws IOException {
+        logger.info("getting image for " + validLocation.getLocationName());
+        String url = UrlUtil.generateGmapsStaticImage(validLocation.getLatLng());
+        if (!ImageQuery.execute(url, imagePath(validLocation).toString())) {
+            return false;
+        }
+        synchronized (manifest) {
+            manifest.write(manifestEntry(validLocation));
+            manifest.newLine();
+            manifest.flush();
+        }
+        return true;
+    }
+
+    private Path imagePath(Location validLocation) {
+        return imageDirectory.resolve(validLocation.getValidLocation() + ".png");
+    }
+
+    /**
+     * Returns the manifest entry of the image of a valid location, which changes if its coordinates change.
+     */
+    private String manifestEntry(Location validLocation) {
+        return validLocation.getValidLocation() + MANIFEST_SEPARATOR + validLocation.getLatLng();
+    }
+
+    /**
+     * Returns the entries in the manifest, creating the image directory if it does not exist.
+     */
+    private Set<String> readManifest(Path manifestPath) {
+        Set<String> entries = new HashSet<>();
+        try {
+            Files.createDirectories(imageDirectory);
+            if (FileUtil.isFileExists(manifestPath)) {
+                entries.addAll(Files.readAllLines(manifestPath, StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to read image manifest: " + StringUtil.getDetails(e));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns true if the manifest has no entries.
+     */
+    private boolean isEmpty(Path manifestPath) {
+        try {
+            return Files.size(manifestPath) == 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Deletes the manifest, so that the next run gets every image.
+     */
+    private void deleteManifest(Path manifestPath) {
+        try {
+            Files.deleteIfExists(manifestPath);
+        } catch (IOException e) {
+            logger.warning("Failed to delete image manifest: " + StringUtil.getDetails(e));
         }
     }
 }
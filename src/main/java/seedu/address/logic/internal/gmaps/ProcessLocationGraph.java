@@ -1,67 +1,92 @@
 package seedu.address.logic.internal.gmaps;
 
-import java.net.ConnectException;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
 
 import org.json.simple.JSONObject;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.gmaps.Location;
-import seedu.address.websocket.Cache;
+import seedu.address.model.gmaps.LocationGraph;
 
 /**
  * This method is used to initialise the location graph method
  */
 public class ProcessLocationGraph {
+    private final Logger logger = LogsCenter.getLogger(this.getClass());
+
+    private DistanceMatrixFetcher fetcher;
+
     private ArrayList<Location> validLocationList;
 
-    private ArrayList<ArrayList<Long>> distanceMatrix = new ArrayList<>();
+    private int size;
+
+    private int[] distanceMatrix;
 
     public ProcessLocationGraph(ArrayList<Location> validLocationList) {
+        this(validLocationList, DistanceMatrixFetcher.fromCache());
+    }
+
+    public ProcessLocationGraph(ArrayList<Location> validLocationList, DistanceMatrixFetcher fetcher) {
         this.validLocationList = validLocationList;
-        for (int i = 0; i < validLocationList.size(); i++) {
-            distanceMatrix.add(new ArrayList<>());
-        }
+        this.fetcher = fetcher;
+        this.size = validLocationList.size();
+        this.distanceMatrix = new int[size * size];
+        Arrays.fill(distanceMatrix, LocationGraph.NO_DISTANCE);
         process();
     }
 
-    public ArrayList<ArrayList<Long>> getDistanceMatrix() {
+    /**
+     * Returns the row-major distance matrix of the valid locations.
+     */
+    public int[] getDistanceMatrix() {
         return distanceMatrix;
     }
 
-    private void setMatrixRows(ArrayList<ArrayList<Long>> distanceMatrix, int start, int end) {
+    private void setMatrixRows(ArrayList<ArrayList<Long>> distanceMatrix, int start, int end, int column) {
         if (distanceMatrix.size() != end - start + 1) {
             throw new InvalidParameterException("distanceMatrix size must equal to start - end + 1");
         } else {
             for (int i = 0; i < distanceMatrix.size(); i++) {
                 ArrayList<Long> currRow = distanceMatrix.get(i);
-                setMatrixRow(i + start, currRow);
+                setMatrixRow(i + start, column, currRow);
             }
         }
     }
 
     /**
      * This method is used to populate the distance matrix.
-     * @throws ConnectException
      */
     private void process() {
-        System.out.println("Start populating");
-        for (int i = 0; i <= validLocationList.size() / 10; i++) {
-            ArrayList<Location> locationRowString = new ArrayList<Location>(validLocationList
-                    .subList(i * 10 , Math.min((i + 1) * 10, validLocationList.size())));
-            for (int j = 0; j <= validLocationList.size() / 10; j++) {
-                ArrayList<Location> locationColumnString = new ArrayList<Location>(validLocationList
-                        .subList(j * 10 , Math.min((j + 1) * 10, validLocationList.size())));
-                JSONObject apiResponse = Cache.loadDistanceMatrix(locationRowString, locationColumnString);
-                ArrayList<ArrayList<Long>> currMatrix = GmapsJsonUtils.getArrayListMatrix(apiResponse);
-                setMatrixRows(currMatrix, i * 10, Math.min(i * 10 + 9, validLocationList.size() - 1));
+        logger.info("Start populating");
+        List<DistanceMatrixFetcher.Tile> tiles = DistanceMatrixFetcher.tilesOf(validLocationList);
+        List<JSONObject> responses = fetcher.fetch(tiles);
+        for (int i = 0; i < tiles.size(); i++) {
+            DistanceMatrixFetcher.Tile tile = tiles.get(i);
+            if (responses.get(i).get("rows") == null) {
+                logger.warning("No distances between " + tile.getRow() + " and " + tile.getColumn());
+                continue;
             }
+            ArrayList<ArrayList<Long>> currMatrix = GmapsJsonUtils.getArrayListMatrix(responses.get(i));
+            setMatrixRows(currMatrix, tile.getRowStart(), tile.getRowStart() + tile.getRow().size() - 1,
+                    tile.getColumnStart());
         }
-        System.out.println("Finish populating");
+        logger.info("Finish populating");
     }
 
-    private void setMatrixRow(int rowNum, ArrayList<Long> row) {
-        distanceMatrix.get(rowNum).addAll(row);
+    /**
+     * Copies part of a row of distances into the matrix, starting from the given column.
+     */
+    private void setMatrixRow(int rowNum, int column, ArrayList<Long> row) {
+        for (int j = 0; j < row.size() && column + j < size; j++) {
+            Long distance = row.get(j);
+            distanceMatrix[rowNum * size + column + j] = distance == null
+                    ? LocationGraph.NO_DISTANCE
+                    : Math.toIntExact(distance);
+        }
     }
 
 }
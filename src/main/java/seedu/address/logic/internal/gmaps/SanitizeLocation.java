@@ -2,6 +2,7 @@ package seedu.address.logic.internal.gmaps;
 
 import java.net.ConnectException;
 import java.util.ArrayList;
+import java.util.HashMap;
 
 import org.json.simple.JSONObject;
 
@@ -14,6 +15,7 @@ import seedu.address.websocket.Cache;
  */
 public class SanitizeLocation {
     private ArrayList<Location> validLocationList = new ArrayList<>();
+    private HashMap<String, Location> validLocations = new HashMap<>();
     /**
      * Takes in gmapsApi so that it could be replaced by a gmapsApi stub
      */
@@ -46,7 +48,8 @@ public class SanitizeLocation {
         }
         Location validLocation = new Location(validLocationString);
         validLocation.setValidLocation(validLocationString);
-        if (!validLocationList.contains(validLocation)) {
+        Location existingValidLocation = validLocations.get(validLocationString);
+        if (existingValidLocation == null) {
             JSONObject apiResponse = Cache.loadPlaces(validLocationString);
             String status = GmapsJsonUtils.getStatus(apiResponse);
             if (status != null && status.equals("OK")) {
@@ -56,6 +59,7 @@ public class SanitizeLocation {
                 validLocation.setLng(lng);
                 validLocation.setLat(lat);
                 validLocationList.add(validLocation);
+                validLocations.put(validLocationString, validLocation);
 
                 location.setValidLocation(validLocation.getValidLocation());
                 location.setPlaceId(GmapsJsonUtils.getPlaceId(apiResponse));
@@ -65,8 +69,7 @@ public class SanitizeLocation {
                 throw new TimeBookInvalidLocation("Cannot identify " + validLocation);
             }
         } else {
-            String placeId = validLocationList.get(validLocationList.indexOf(validLocation)).getPlaceId();
-            location.setPlaceId(placeId);
+            location.setPlaceId(existingValidLocation.getPlaceId());
             location.setValidLocation(validLocationString);
         }
         return location;
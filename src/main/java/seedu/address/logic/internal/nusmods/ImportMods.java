@@ -1,6 +1,10 @@
 package seedu.address.logic.internal.nusmods;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import org.json.simple.JSONArray;
@@ -13,7 +17,6 @@ import seedu.address.model.module.Module;
 import seedu.address.model.module.ModuleList;
 import seedu.address.model.module.ModuleSummary;
 import seedu.address.model.module.ModuleSummaryList;
-import seedu.address.model.module.exceptions.ModuleNotFoundException;
 import seedu.address.websocket.Cache;
 import seedu.address.websocket.NusModsApi;
 import seedu.address.websocket.NusModsParser;
@@ -23,6 +26,7 @@ import seedu.address.websocket.NusModsParser;
  */
 public class ImportMods {
     private static final Logger logger = LogsCenter.getLogger(Cache.class);
+    private static final int MAX_REQUESTS_IN_FLIGHT = 8;
     private static boolean isSilent = false; //if true, don't log, else log.
 
     /**
@@ -63,6 +67,7 @@ public class ImportMods {
 
     /**
      * Imports detailed data of all modules in moduleSummaries. If a module already exists in moduleList, then ignore.
+     * Up to MAX_REQUESTS_IN_FLIGHT missing modules are requested at once, and their results are handled in order.
      * @param moduleSummaries ModuleSummaryList.
      * @param moduleList ModuleList.
      */
@@ -71,33 +76,45 @@ public class ImportMods {
         int foundFromApi = 0;
         int failed = 0;
         int curr = 0;
-        int total = moduleSummaries.getModuleSummaries().size();
-        for (ModuleSummary modSummary : moduleSummaries.getModuleSummaries()) {
+        List<ModuleSummary> summaries = moduleSummaries.getModuleSummaries();
+        int total = summaries.size();
+        boolean[] isInFile = new boolean[total];
+        for (int i = 0; i < total; i++) {
+            isInFile[i] = moduleList.contains(summaries.get(i).getModuleId());
+        }
+
+        Deque<CompletableFuture<Optional<Module>>> requests = new ArrayDeque<>();
+        int next = 0; // index of the next summary that may be requested
+        for (ModuleSummary modSummary : summaries) {
             curr += 1;
-            try {
-                moduleList.findModule(modSummary.getModuleId());
+            if (isInFile[curr - 1]) {
                 foundFromFile += 1;
                 if (!isSilent) {
                     logger.info("[" + curr + "/" + total + "] Found in file: " + modSummary);
                 }
-            } catch (ModuleNotFoundException e) {
-                // Cache module if missing from moduleList
-                Optional<Module> moduleOptional = Cache.loadModule(modSummary.getModuleId());
-                if (!moduleOptional.isPresent()) {
-                    failed += 1;
-                    if (!isSilent) {
-                        logger.severe("[" + curr + "/" + total + "] Hmm could not get detailed data for this module: "
-                                + modSummary);
-                    }
-                    break;
-                } else {
-                    foundFromApi += 1;
-                    if (!isSilent) {
-                        logger.info("[" + curr + "/" + total + "] Found from API: " + modSummary);
-                    }
-                }
+                continue;
             }
 
+            // Cache module if missing from moduleList
+            for (next = Math.max(next, curr - 1); next < total && requests.size() < MAX_REQUESTS_IN_FLIGHT; next++) {
+                if (!isInFile[next]) {
+                    requests.add(Cache.loadModuleAsync(summaries.get(next).getModuleId()));
+                }
+            }
+            Optional<Module> moduleOptional = requests.remove().join();
+            if (!moduleOptional.isPresent()) {
+                failed += 1;
+                if (!isSilent) {
+                    logger.severe("[" + curr + "/" + total + "] Hmm could not get detailed data for this module: "
+                            + modSummary);
+                }
+                break;
+            } else {
+                foundFromApi += 1;
+                if (!isSilent) {
+                    logger.info("[" + curr + "/" + total + "] Found from API: " + modSummary);
+                }
+            }
         }
         if (!isSilent) {
             logger.info("Modules foundFromFile/foundFromApi/failed/total: [" + foundFromFile + "/"
@@ -27,4 +27,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_ROLE = new Prefix("role/");
     public static final Prefix PREFIX_WEEK = new Prefix("week/");
     public static final Prefix PREFIX_DAY = new Prefix("day/");
+    public static final Prefix PREFIX_QUORUM = new Prefix("q/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
 }
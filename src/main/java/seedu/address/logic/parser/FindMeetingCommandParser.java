@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUPNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUORUM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import seedu.address.logic.commands.FindMeetingCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.GroupName;
+
+/**
+ * Parses input arguments and creates a new FindMeetingCommand object.
+ */
+public class FindMeetingCommandParser implements Parser<FindMeetingCommand> {
+    @Override
+    public FindMeetingCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_GROUPNAME, PREFIX_QUORUM, PREFIX_TOP);
+
+        if (!Parser.arePrefixesPresent(argMultimap, PREFIX_GROUPNAME, PREFIX_QUORUM)
+                || Parser.areMultiplePrefixesPresent(argMultimap, PREFIX_GROUPNAME, PREFIX_QUORUM, PREFIX_TOP)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindMeetingCommand.MESSAGE_USAGE));
+        }
+
+        GroupName groupName = ParserUtil.parseGroupName(argMultimap.getValue(PREFIX_GROUPNAME).get());
+        int quorum = ParserUtil.parseQuorum(argMultimap.getValue(PREFIX_QUORUM).get());
+
+        int numberOfSlots;
+        if (argMultimap.getValue(PREFIX_TOP).isPresent()) {
+            numberOfSlots = ParserUtil.parseNumberOfSlots(argMultimap.getValue(PREFIX_TOP).get());
+        } else {
+            numberOfSlots = FindMeetingCommand.DEFAULT_NUMBER_OF_SLOTS;
+        }
+
+        return new FindMeetingCommand(groupName, quorum, numberOfSlots);
+    }
+}
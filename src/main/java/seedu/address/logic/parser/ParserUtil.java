@@ -17,9 +17,11 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.commands.AddNusModCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.display.ScheduleManager;
 import seedu.address.model.group.GroupDescription;
 import seedu.address.model.group.GroupName;
 import seedu.address.model.mapping.Role;
@@ -349,21 +351,23 @@ public class ParserUtil {
     }
 
     /**
-     * Parses a String into an integer representing a week.
+     * Parses a String into an integer representing a week of a semester. Whether the week is within the weeks
+     * that are shown is checked by the command, as it depends on the app settings.
      *
      * @param weekString to be parsed
      * @return int
      * @throws ParseException
      */
     public static int parseWeek(String weekString) throws ParseException {
+        String message = String.format(Messages.MESSAGE_INVALID_WEEK, ScheduleManager.WEEKS_OF_A_SEMESTER);
         try {
             int week = Integer.parseInt(weekString.trim());
-            if (week < 1 || week > 4) {
-                throw new ParseException("A week has to be an integer from 1 to 4.");
+            if (week < 1 || week > ScheduleManager.WEEKS_OF_A_SEMESTER) {
+                throw new ParseException(message);
             }
             return week - 1;
         } catch (NumberFormatException nfe) {
-            throw new ParseException("A week has to be an integer from 1 to 4.");
+            throw new ParseException(message);
         }
     }
 
@@ -386,6 +390,44 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a String into an integer representing the least number of members who must be free.
+     *
+     * @param quorumString to be parsed
+     * @return int
+     * @throws ParseException
+     */
+    public static int parseQuorum(String quorumString) throws ParseException {
+        try {
+            int quorum = Integer.parseInt(quorumString.trim());
+            if (quorum < 1) {
+                throw new ParseException("A quorum has to be a positive integer.");
+            }
+            return quorum;
+        } catch (NumberFormatException nfe) {
+            throw new ParseException("A quorum has to be a positive integer.");
+        }
+    }
+
+    /**
+     * Parses a String into an integer representing a number of meeting slots.
+     *
+     * @param numberString to be parsed
+     * @return int
+     * @throws ParseException
+     */
+    public static int parseNumberOfSlots(String numberString) throws ParseException {
+        try {
+            int number = Integer.parseInt(numberString.trim());
+            if (number < 1 || number > 20) {
+                throw new ParseException("The number of slots has to be an integer from 1 to 20.");
+            }
+            return number;
+        } catch (NumberFormatException nfe) {
+            throw new ParseException("The number of slots has to be an integer from 1 to 20.");
+        }
+    }
+
     /**
      * Parses a String into an integer representing an ID.
      *
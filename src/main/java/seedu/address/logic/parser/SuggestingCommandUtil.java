@@ -23,6 +23,7 @@ import seedu.address.logic.commands.EditPersonCommand;
 import seedu.address.logic.commands.EditUserCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FindMeetingCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HomeCommand;
 import seedu.address.logic.commands.LookAtGroupMemberCommand;
@@ -54,6 +55,7 @@ public class SuggestingCommandUtil {
             EditUserCommand.COMMAND_WORD,
             ExitCommand.COMMAND_WORD,
             ExportCommand.COMMAND_WORD,
+            FindMeetingCommand.COMMAND_WORD,
             HelpCommand.COMMAND_WORD,
             HomeCommand.COMMAND_WORD,
             SelectFreeTimeCommand.COMMAND_WORD,
@@ -1,21 +1,40 @@
 package seedu.address.model;
 
-import java.net.ConnectException;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.TimeBookInvalidState;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.internal.gmaps.ClosestLocation;
+import seedu.address.logic.internal.gmaps.ClosestLocationCache;
+import seedu.address.logic.internal.gmaps.CompiledLocationGraph;
 import seedu.address.logic.internal.gmaps.GenerateImage;
 import seedu.address.logic.internal.gmaps.ProcessLocationGraph;
 import seedu.address.logic.internal.gmaps.ProcessVenues;
 import seedu.address.model.display.locationdata.ClosestCommonLocationData;
+import seedu.address.model.gmaps.DistanceObjective;
 import seedu.address.model.gmaps.Location;
 import seedu.address.model.gmaps.LocationGraph;
+import seedu.address.model.gmaps.LocationIndex;
+import seedu.address.websocket.Cache;
+import seedu.address.websocket.CacheFileNames;
 
 /**
  * Represent the in memory of Gmaps related model
  */
 public class GmapsModelManager {
+    public static final String MESSAGE_LOADING = "Location data is still loading. Please try again shortly.";
+    public static final String MESSAGE_LOAD_FAILED = "Location data could not be loaded: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(GmapsModelManager.class);
 
     private ArrayList<Location> locations;
 
@@ -23,13 +42,90 @@ public class GmapsModelManager {
 
     private LocationGraph locationGraph;
 
+    private LocationIndex locationIndex;
+
+    private ClosestLocation closestLocation;
+
+    private ClosestLocationCache closestLocationCache;
+
+    private int numberOfClosestLocations = ClosestLocation.DEFAULT_NUMBER_OF_RESULTS;
+
+    private DistanceObjective objective = DistanceObjective.AVERAGE;
+
+    // Set once the fields above have been initialised, which may happen on another thread.
+    private volatile boolean isReady = false;
+
+    // Set if the fields above could not be initialised.
+    private volatile Throwable failure = null;
+
+    private final CompletableFuture<Void> readiness;
+
+    /**
+     * Initialises the Google Maps data on the current thread.
+     */
     public GmapsModelManager() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Initialises the Google Maps data on the executor. Until it is ready, no locations are suggested and the closest
+     * common locations are pending. If it fails, the closest common locations show the failure instead.
+     */
+    public GmapsModelManager(Executor executor) {
+        requireNonNull(executor);
+        readiness = CompletableFuture.runAsync(this::initialise, executor);
+        readiness.whenComplete((ignored, e) -> {
+            if (e != null) {
+                failure = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                logger.severe("Failed to initialise location data: " + StringUtil.getDetails(failure));
+            }
+        });
+    }
+
+    /**
+     * Initialises the location graph, and marks the Google Maps data as ready if it succeeds.
+     *
+     * @throws CompletionException if the location graph could not be initialised.
+     */
+    private void initialise() {
         try {
-            initProcessVenues();
             initLocationGraph();
+            isReady = true;
         } catch (TimeBookInvalidState e) {
-            e.printStackTrace();
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Returns true if the Google Maps data has been initialised.
+     */
+    public boolean isReady() {
+        return isReady;
+    }
+
+    /**
+     * Returns true if the Google Maps data could not be initialised, so it will never be ready.
+     */
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * Returns the message shown in place of location data that is not ready.
+     */
+    private String getNotReadyMessage() {
+        if (failure == null) {
+            return MESSAGE_LOADING;
         }
+        return String.format(MESSAGE_LOAD_FAILED, failure.getMessage());
+    }
+
+    /**
+     * Returns a future that completes once the Google Maps data has been initialised, or completes exceptionally if
+     * it could not be.
+     */
+    public CompletableFuture<Void> getReadiness() {
+        return readiness;
     }
 
 
@@ -39,14 +135,10 @@ public class GmapsModelManager {
      * @return
      */
     public ArrayList<String> validLocationSuggester(String prefix) {
-        ArrayList<String> suggestions = new ArrayList<>();
-        for (int i = 0; i < locations.size(); i++) {
-            String name = locations.get(i).getLocationName();
-            if (name.startsWith(prefix)) {
-                suggestions.add(name);
-            }
+        if (!isReady) {
+            return new ArrayList<>();
         }
-        return suggestions;
+        return locationIndex.suggest(prefix);
     }
 
     /**
@@ -54,15 +146,55 @@ public class GmapsModelManager {
      * @throws TimeBookInvalidState
      */
     public void generateImage() throws TimeBookInvalidState {
+        if (!isReady) {
+            throw new TimeBookInvalidState(getNotReadyMessage());
+        }
         new GenerateImage(validLocationList).execute();
     }
 
+    /**
+     * Returns the closest common locations of the venues, pending data if location data is still loading, or data
+     * with the failure as its error if location data could not be loaded.
+     */
     public ClosestCommonLocationData closestLocationData(ArrayList<String> locationNameList) {
-        return new ClosestLocation(locationGraph).closestLocationData(locationNameList);
+        if (!isReady) {
+            ClosestCommonLocationData pendingData = new ClosestCommonLocationData();
+            pendingData.setLocationEntered(locationNameList);
+            pendingData.setErrorResponse(getNotReadyMessage());
+            pendingData.setPending(failure == null);
+            return pendingData;
+        }
+        return closestLocationCache.closestLocationData(locationNameList, numberOfClosestLocations, objective);
     }
 
+    /**
+     * Returns the closest common locations of the venues as text.
+     */
     public String closestLocationDataString(ArrayList<String> locationNameList) {
-        return new ClosestLocation(locationGraph).closestLocationDataString(locationNameList);
+        if (!isReady) {
+            return "Cannot get result because " + getNotReadyMessage();
+        }
+        return closestLocation.closestLocationDataString(locationNameList, numberOfClosestLocations, objective);
+    }
+
+    /**
+     * Sets the number of closest common locations found for a group of venues, and how their distances are combined.
+     */
+    public void setClosestLocationSettings(int numberOfClosestLocations, DistanceObjective objective) {
+        requireNonNull(objective);
+        this.numberOfClosestLocations = Math.max(1, numberOfClosestLocations);
+        this.objective = objective;
+    }
+
+    /**
+     * Sets the number of megabytes of memory kept for decoded location images.
+     */
+    public void setImageCacheMegabytes(int megabytes) {
+        Cache.setImageCacheBudget(Math.max(0, megabytes) * 1024L * 1024L);
+    }
+
+    public ClosestLocationCache getClosestLocationCache() {
+        return closestLocationCache;
     }
 
     /**
@@ -76,13 +208,38 @@ public class GmapsModelManager {
     }
 
     /**
-     * Method used to initialise the full location graph
+     * Method used to initialise the full location graph, from its compiled artifact if the cached responses have not
+     * changed since it was compiled, or else from the cached responses. The artifact also holds the nearest meeting
+     * points of each venue.
      * @throws TimeBookInvalidState
-     * @throws ConnectException
      */
-    private void initLocationGraph() {
-        ArrayList<ArrayList<Long>> distanceMatrix = new ProcessLocationGraph(validLocationList).getDistanceMatrix();
-        locationGraph = new LocationGraph(locations, validLocationList, distanceMatrix);
+    private void initLocationGraph() throws TimeBookInvalidState {
+        Path compiledPath = Cache.getWritablePath(CacheFileNames.GMAPS_LOCATION_GRAPH_PATH);
+        Optional<LocationGraph> compiledLocationGraph = CompiledLocationGraph.load(compiledPath, getSourceStamp());
+        if (compiledLocationGraph.isPresent()) {
+            locationGraph = compiledLocationGraph.get();
+            locations = locationGraph.getLocations();
+            validLocationList = locationGraph.getValidLocationList();
+        } else {
+            initProcessVenues();
+            int[] distanceMatrix = new ProcessLocationGraph(validLocationList).getDistanceMatrix();
+            locationGraph = new LocationGraph(locations, validLocationList, distanceMatrix);
+        }
+        locationIndex = new LocationIndex(locations, validLocationList);
+        closestLocation = new ClosestLocation(locationGraph, locationIndex);
+        closestLocationCache = new ClosestLocationCache(closestLocation);
+        if (compiledLocationGraph.isEmpty()) {
+            // Saved with the nearest meeting points computed by closestLocation, so they are not computed again.
+            locationGraph.setNearestMeetingPoints(closestLocation.getNearestMeetingPoints());
+            // Stamped after processing, as responses fetched from the APIs are saved to the cache meanwhile.
+            CompiledLocationGraph.save(compiledPath, locationGraph, getSourceStamp());
+        }
+    }
+
+    private static long getSourceStamp() {
+        return Cache.getStamp(CacheFileNames.VENUES_FULL_PATH, CacheFileNames.GMAPS_PLACES_PATH,
+                CacheFileNames.GMAPS_PLACES_JOURNAL_PATH, CacheFileNames.GMAPS_DISTANCE_MATRIX_PATH,
+                CacheFileNames.GMAPS_DISTANCE_MATRIX_JOURNAL_PATH);
     }
 
 }
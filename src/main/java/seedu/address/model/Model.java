@@ -13,6 +13,7 @@ import seedu.address.model.display.scheduledisplay.ScheduleDisplay;
 import seedu.address.model.display.scheduledisplay.ScheduleState;
 import seedu.address.model.display.sidepanel.SidePanelDisplay;
 import seedu.address.model.display.sidepanel.SidePanelDisplayType;
+import seedu.address.model.display.timeslots.MeetingSlot;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupDescriptor;
 import seedu.address.model.group.GroupId;
@@ -308,6 +309,12 @@ public interface Model {
     void updateScheduleWithGroup(GroupName groupName, LocalDateTime time, ScheduleState type)
             throws GroupNotFoundException;
 
+    /**
+     * Returns the best meeting slots at which at least quorum members of a Group, including the User, are free.
+     */
+    ArrayList<MeetingSlot> findMeetingSlots(GroupName groupName, int quorum, int numberOfSlots, LocalDateTime time)
+            throws GroupNotFoundException;
+
     /**
      * Updates the current main window display with an Array of Person's schedule.
      */
@@ -333,6 +340,11 @@ public interface Model {
      */
     ScheduleState getState();
 
+    /**
+     * Returns the number of weeks, starting from the current week, that can be viewed in a schedule.
+     */
+    int getScheduleWeeks();
+
     //=========== Suggesters =============================================================
 
     /**
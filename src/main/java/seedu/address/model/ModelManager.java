@@ -6,16 +6,19 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.AppSettings;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.display.ScheduleManager;
 import seedu.address.model.display.locationdata.ClosestCommonLocationData;
+import seedu.address.model.display.scheduledisplay.GroupScheduleDisplay;
 import seedu.address.model.display.scheduledisplay.ScheduleDisplay;
 import seedu.address.model.display.scheduledisplay.ScheduleState;
 import seedu.address.model.display.sidepanel.SidePanelDisplay;
 import seedu.address.model.display.sidepanel.SidePanelDisplayType;
+import seedu.address.model.display.timeslots.MeetingSlot;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupDescriptor;
 import seedu.address.model.group.GroupId;
@@ -56,6 +59,8 @@ import seedu.address.model.person.schedule.Schedule;
  */
 public class ModelManager implements Model {
 
+    private static final int SCHEDULE_DISPLAY_CACHE_SIZE = 8;
+
     private final UserPrefs userPrefs;
 
     private TimeBook timeBook;
@@ -70,6 +75,12 @@ public class ModelManager implements Model {
 
     private ScheduleManager scheduleManager;
 
+    // Incremented on every change to the TimeBook made through this ModelManager.
+    private long revision = 0;
+    // Whether the location data was ready when the kept schedules were generated.
+    private boolean hasLocationData;
+    private final ScheduleDisplayCache scheduleDisplayCache = new ScheduleDisplayCache(SCHEDULE_DISPLAY_CACHE_SIZE);
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -82,6 +93,7 @@ public class ModelManager implements Model {
         this.groupList = timeBook.getGroupList();
         this.personToGroupMappingList = timeBook.getPersonToGroupMappingList();
         this.gmapsModelManager = gmapsModelManager;
+        this.hasLocationData = gmapsModelManager.isReady();
         this.nusModsData = nusModsData;
         this.scheduleManager = new ScheduleManager(gmapsModelManager);
 
@@ -104,6 +116,7 @@ public class ModelManager implements Model {
         Group.setCounter(groupCounter + 1);
 
         this.userPrefs = new UserPrefs(userPrefs);
+        applyAppSettings(this.userPrefs.getAppSettings());
         initialiseDefaultWindowDisplay();
     }
 
@@ -120,6 +133,20 @@ public class ModelManager implements Model {
         return this.timeBook;
     }
 
+    /**
+     * Returns the revision of the TimeBook, which increases whenever it is changed through this ModelManager.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Records that the TimeBook, or a setting that affects how it is displayed, has changed.
+     */
+    private void incrementRevision() {
+        revision++;
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -131,6 +158,8 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        applyAppSettings(this.userPrefs.getAppSettings());
+        incrementRevision();
     }
 
     @Override
@@ -142,6 +171,19 @@ public class ModelManager implements Model {
     public void setAppSettings(AppSettings appSettings) {
         requireNonNull(appSettings);
         userPrefs.setAppSettings(appSettings);
+        applyAppSettings(appSettings);
+        incrementRevision();
+    }
+
+    /**
+     * Passes the app settings on to the schedule and Google Maps models.
+     */
+    private void applyAppSettings(AppSettings appSettings) {
+        scheduleManager.setParallelism(appSettings.getScheduleParallelism());
+        scheduleManager.setScheduleWeeks(appSettings.getScheduleWeeks());
+        gmapsModelManager.setClosestLocationSettings(appSettings.getClosestLocations(),
+                appSettings.getClosestLocationObjective());
+        gmapsModelManager.setImageCacheMegabytes(appSettings.getImageCacheMegabytes());
     }
 
     @Override
@@ -196,6 +238,7 @@ public class ModelManager implements Model {
     @Override
     public Person addPerson(PersonDescriptor personDescriptor) throws DuplicatePersonException {
         Person isAdded = this.personList.addPerson(personDescriptor);
+        incrementRevision();
         return isAdded;
     }
 
@@ -223,42 +266,53 @@ public class ModelManager implements Model {
     public void addEvent(Name name, Event event)
             throws PersonNotFoundException, EventClashException {
         personList.addEvent(name, event);
+        incrementRevision();
     }
 
     @Override
     public void addEvent(Event event)
             throws EventClashException {
         personList.getUser().addEvent(event);
+        incrementRevision();
     }
 
     @Override
     public void deleteEvent(Name name, String eventName)
             throws EventNotFoundException, PersonNotFoundException {
         personList.deleteEvent(name, eventName);
+        incrementRevision();
     }
 
     @Override
     public void deleteEvent(String eventName)
             throws EventNotFoundException {
         personList.getUser().deleteEvent(eventName);
+        incrementRevision();
     }
 
 
     @Override
     public Person editPerson(Name name, PersonDescriptor personDescriptor)
             throws PersonNotFoundException, NoPersonFieldsEditedException, DuplicatePersonException {
-        return personList.editPerson(name, personDescriptor);
+        Person person = personList.editPerson(name, personDescriptor);
+        incrementRevision();
+        return person;
     }
 
+    @Override
     public User editUser(PersonDescriptor personDescriptor)
             throws NoPersonFieldsEditedException, DuplicatePersonException {
-        return personList.editUser(personDescriptor);
+        User user = personList.editUser(personDescriptor);
+        incrementRevision();
+        return user;
     }
 
     @Override
     public void deletePerson(PersonId personId) throws PersonNotFoundException {
         deletePersonFromMapping(personId);
         personList.deletePerson(personId);
+        scheduleManager.evictScheduleCache(personId);
+        incrementRevision();
     }
 
     @Override
@@ -298,13 +352,16 @@ public class ModelManager implements Model {
     @Override
     public Group addGroup(GroupDescriptor groupDescriptor) throws DuplicateGroupException {
         Group isAdded = this.groupList.addGroup(groupDescriptor);
+        incrementRevision();
         return isAdded;
     }
 
     @Override
     public Group editGroup(GroupName groupName, GroupDescriptor groupDescriptor)
             throws GroupNotFoundException, NoGroupFieldsEditedException, DuplicateGroupException {
-        return groupList.editGroup(groupName, groupDescriptor);
+        Group group = groupList.editGroup(groupName, groupDescriptor);
+        incrementRevision();
+        return group;
     }
 
     @Override
@@ -321,6 +378,7 @@ public class ModelManager implements Model {
     public void deleteGroup(GroupId groupId) throws GroupNotFoundException {
         deleteGroupFromMapping(groupId);
         groupList.deleteGroup(groupId);
+        incrementRevision();
     }
 
     @Override
@@ -345,6 +403,7 @@ public class ModelManager implements Model {
     public void addPersonToGroupMapping(PersonToGroupMapping mapping)
             throws DuplicateMappingException, AlreadyInGroupException {
         personToGroupMappingList.addPersonToGroupMapping(mapping);
+        incrementRevision();
     }
 
     @Override
@@ -356,16 +415,19 @@ public class ModelManager implements Model {
     @Override
     public void deletePersonToGroupMapping(PersonToGroupMapping mapping) throws MappingNotFoundException {
         personToGroupMappingList.deletePersonToGroupMapping(mapping);
+        incrementRevision();
     }
 
     @Override
     public void deletePersonFromMapping(PersonId personId) {
         personToGroupMappingList.deletePersonFromMapping(personId);
+        incrementRevision();
     }
 
     @Override
     public void deleteGroupFromMapping(GroupId groupId) {
         personToGroupMappingList.deleteGroupFromMapping(groupId);
+        incrementRevision();
     }
 
     @Override
@@ -388,28 +450,92 @@ public class ModelManager implements Model {
     @Override
     public void updateScheduleWithPerson(Name name, LocalDateTime time, ScheduleState type)
             throws PersonNotFoundException {
-        scheduleManager.updateScheduleWithPerson(timeBook.getPersonList().findPerson(name), time, type);
+        Person person = timeBook.getPersonList().findPerson(name);
+        if (!showCachedScheduleDisplay(type, person.getPersonId().getIdentifier(), time)) {
+            scheduleManager.updateScheduleWithPerson(person, time, type);
+            cacheScheduleDisplay(type, person.getPersonId().getIdentifier(), time);
+        }
     }
 
     @Override
     public void updateScheduleWithUser(LocalDateTime time, ScheduleState type) {
-        scheduleManager.updateScheduleWithUser(timeBook.getPersonList().getUser(), time, type);
+        User user = timeBook.getPersonList().getUser();
+        if (!showCachedScheduleDisplay(type, user.getPersonId().getIdentifier(), time)) {
+            scheduleManager.updateScheduleWithUser(user, time, type);
+            cacheScheduleDisplay(type, user.getPersonId().getIdentifier(), time);
+        }
     }
 
     @Override
     public void updateScheduleWithGroup(GroupName groupName, LocalDateTime time, ScheduleState type)
             throws GroupNotFoundException {
         Group group = timeBook.getGroupList().findGroup(groupName);
-        scheduleManager.updateScheduleWithGroup(group,
-                timeBook.getPersonsOfGroup(groupName),
-                timeBook.getPersonToGroupMappingList().getMappingsOfGroup(group.getGroupId()),
-                time, type);
+        if (!showCachedScheduleDisplay(type, group.getGroupId().getIdentifier(), time)) {
+            scheduleManager.updateScheduleWithGroup(group,
+                    timeBook.getPersonsOfGroup(groupName),
+                    timeBook.getPersonToGroupMappingList().getMappingsOfGroup(group.getGroupId()),
+                    time, type);
+            cacheScheduleDisplay(type, group.getGroupId().getIdentifier(), time);
+        }
+    }
+
+    @Override
+    public ArrayList<MeetingSlot> findMeetingSlots(GroupName groupName, int quorum, int numberOfSlots,
+                                                   LocalDateTime time) throws GroupNotFoundException {
+        return scheduleManager.findMeetingSlots(timeBook.getPersonsOfGroup(groupName), quorum, numberOfSlots, time);
     }
 
     @Override
     public void updateScheduleWithPersons(ArrayList<Person> persons,
                                           LocalDateTime time, ScheduleState type) {
-        scheduleManager.updateScheduleWithPersons(persons, time, type);
+        List<Integer> personIds = new ArrayList<>();
+        for (Person person : persons) {
+            personIds.add(person.getPersonId().getIdentifier());
+        }
+        if (!showCachedScheduleDisplay(type, personIds, time)) {
+            scheduleManager.updateScheduleWithPersons(persons, time, type);
+            cacheScheduleDisplay(type, personIds, time);
+        }
+    }
+
+    /**
+     * Shows the ScheduleDisplay of the subject generated from the current revision, if it is kept.
+     *
+     * @return true if the ScheduleDisplay was kept
+     */
+    private boolean showCachedScheduleDisplay(ScheduleState type, Object subject, LocalDateTime time) {
+        dropSchedulesWithoutLocationData();
+        ScheduleDisplay scheduleDisplay = scheduleDisplayCache.get(type, subject, time.toLocalDate(), revision);
+        if (scheduleDisplay == null) {
+            return false;
+        }
+
+        // A group is shown again with none of its members filtered out.
+        if (scheduleDisplay instanceof GroupScheduleDisplay) {
+            GroupScheduleDisplay groupScheduleDisplay = (GroupScheduleDisplay) scheduleDisplay;
+            groupScheduleDisplay.clearFilteredNames();
+        }
+        scheduleManager.updateScheduleDisplay(scheduleDisplay);
+        return true;
+    }
+
+    /**
+     * Drops the schedules kept from before the location data was ready, so that they are generated again with their
+     * closest common locations.
+     */
+    private void dropSchedulesWithoutLocationData() {
+        if (!hasLocationData && gmapsModelManager.isReady()) {
+            hasLocationData = true;
+            scheduleManager.clearScheduleCache();
+            scheduleDisplayCache.clear();
+        }
+    }
+
+    /**
+     * Keeps the ScheduleDisplay just generated for the subject.
+     */
+    private void cacheScheduleDisplay(ScheduleState type, Object subject, LocalDateTime time) {
+        scheduleDisplayCache.put(type, subject, time.toLocalDate(), revision, scheduleManager.getScheduleDisplay());
     }
 
     @Override
@@ -425,8 +551,7 @@ public class ModelManager implements Model {
 
     @Override
     public void initialiseDefaultWindowDisplay() {
-        scheduleManager.updateScheduleWithUser(timeBook.getPersonList().getUser(),
-                LocalDateTime.now(), ScheduleState.HOME);
+        updateScheduleWithUser(LocalDateTime.now(), ScheduleState.HOME);
     }
 
     @Override
@@ -434,6 +559,11 @@ public class ModelManager implements Model {
         return scheduleManager.getState();
     }
 
+    @Override
+    public int getScheduleWeeks() {
+        return scheduleManager.getScheduleWeeks();
+    }
+
     //=========== Suggesters =============================================================
 
     @Override
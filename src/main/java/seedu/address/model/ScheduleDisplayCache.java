@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.model.display.scheduledisplay.ScheduleDisplay;
+import seedu.address.model.display.scheduledisplay.ScheduleState;
+
+/**
+ * Keeps the most recently used ScheduleDisplays, keyed on what they show, the date they start from and the
+ * revision of the TimeBook they were generated from.
+ */
+class ScheduleDisplayCache {
+
+    private final int capacity;
+    private final LinkedHashMap<Key, ScheduleDisplay> scheduleDisplays;
+
+    ScheduleDisplayCache(int capacity) {
+        this.capacity = capacity;
+        this.scheduleDisplays = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ScheduleDisplay> eldest) {
+                return size() > ScheduleDisplayCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the ScheduleDisplay of the subject, or null if it is not kept.
+     */
+    ScheduleDisplay get(ScheduleState state, Object subject, LocalDate startDate, long revision) {
+        return scheduleDisplays.get(new Key(state, subject, startDate, revision));
+    }
+
+    /**
+     * Keeps the ScheduleDisplay of the subject, and drops those generated from an earlier revision.
+     */
+    void put(ScheduleState state, Object subject, LocalDate startDate, long revision,
+             ScheduleDisplay scheduleDisplay) {
+        scheduleDisplays.keySet().removeIf(key -> key.revision < revision);
+        scheduleDisplays.put(new Key(state, subject, startDate, revision), scheduleDisplay);
+    }
+
+    void clear() {
+        scheduleDisplays.clear();
+    }
+
+    int size() {
+        return scheduleDisplays.size();
+    }
+
+    /**
+     * Identifies a ScheduleDisplay.
+     */
+    private static class Key {
+        private final ScheduleState state;
+        private final Object subject;
+        private final LocalDate startDate;
+        private final long revision;
+
+        private Key(ScheduleState state, Object subject, LocalDate startDate, long revision) {
+            this.state = state;
+            this.subject = subject;
+            this.startDate = startDate;
+            this.revision = revision;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return state == key.state
+                    && subject.equals(key.subject)
+                    && startDate.equals(key.startDate)
+                    && revision == key.revision;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(state, subject, startDate, revision);
+        }
+    }
+}
@@ -1,18 +1,27 @@
 package seedu.address.model.display;
 
-import static java.time.temporal.ChronoUnit.MINUTES;
-
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import seedu.address.commons.core.AppSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.GmapsModelManager;
 import seedu.address.model.display.locationdata.ClosestCommonLocationData;
@@ -26,17 +35,24 @@ import seedu.address.model.display.sidepanel.PersonDisplay;
 import seedu.address.model.display.sidepanel.SidePanelDisplay;
 import seedu.address.model.display.sidepanel.SidePanelDisplayType;
 import seedu.address.model.display.timeslots.FreeSchedule;
+import seedu.address.model.display.timeslots.FreeScheduleGenerator;
 import seedu.address.model.display.timeslots.FreeTimeslot;
+import seedu.address.model.display.timeslots.GroupAvailability;
+import seedu.address.model.display.timeslots.LazyWeekList;
+import seedu.address.model.display.timeslots.MeetingSlot;
 import seedu.address.model.display.timeslots.PersonSchedule;
 import seedu.address.model.display.timeslots.PersonTimeslot;
+import seedu.address.model.display.timeslots.QuorumMeetingFinder;
 import seedu.address.model.display.timeslots.WeekSchedule;
 import seedu.address.model.group.Group;
 import seedu.address.model.mapping.PersonToGroupMapping;
 import seedu.address.model.mapping.Role;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
 import seedu.address.model.person.User;
 import seedu.address.model.person.schedule.Event;
+import seedu.address.model.person.schedule.EventTimeslot;
 import seedu.address.model.person.schedule.Schedule;
 import seedu.address.model.person.schedule.Timeslot;
 import seedu.address.model.person.schedule.Venue;
@@ -47,22 +63,43 @@ import seedu.address.ui.util.ColorGenerator;
  */
 public class ScheduleManager {
 
+    public static final int WEEKS_OF_A_SEMESTER = 17;
+    public static final int MAX_CACHED_SCHEDULES = 256;
+
     private static final Logger logger = LogsCenter.getLogger(ScheduleManager.class);
 
     private static final int DAYS_OF_A_WEEK = 7;
-    private static final int WEEKS_OF_A_MONTH = 4;
 
     private static final int FREE_TIMESLOT_TRHESHOLD = 15;
     private static final LocalTime SCHEDULE_START_TIME = LocalTime.of(8, 0);
     private static final LocalTime SCHEDULE_END_TIME = LocalTime.of(20, 0);
 
     private GmapsModelManager gmapsModelManager;
+    private FreeScheduleGenerator freeScheduleGenerator;
+    private QuorumMeetingFinder quorumMeetingFinder;
+
+    private int scheduleWeeks = AppSettings.DEFAULT_SCHEDULE_WEEKS;
+    private int parallelism = 1;
+    private ForkJoinPool pool;
+
+    // The WeekSchedules used most recently, which group members may generate concurrently.
+    private final Map<ScheduleCacheKey, CachedWeekSchedules> weekScheduleCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ScheduleCacheKey, CachedWeekSchedules> eldest) {
+                    return size() > MAX_CACHED_SCHEDULES;
+                }
+            });
 
     private SidePanelDisplay sidePanelDisplay;
     private ScheduleDisplay scheduleDisplay;
 
     public ScheduleManager(GmapsModelManager gmapsModelManager) {
         this.gmapsModelManager = gmapsModelManager;
+        this.freeScheduleGenerator = new FreeScheduleGenerator(SCHEDULE_START_TIME, SCHEDULE_END_TIME,
+                FREE_TIMESLOT_TRHESHOLD, gmapsModelManager::closestLocationData);
+        this.quorumMeetingFinder = new QuorumMeetingFinder(SCHEDULE_START_TIME, SCHEDULE_END_TIME,
+                FREE_TIMESLOT_TRHESHOLD, gmapsModelManager::closestLocationData);
     }
 
     /**
@@ -133,11 +170,8 @@ public class ScheduleManager {
                                              ScheduleState type) {
         assert (type.equals(ScheduleState.GROUP));
 
-        ArrayList<FreeSchedule> freeSchedules = new ArrayList<>();
-        ArrayList<PersonSchedule> personSchedules = new ArrayList<>();
-
-        //Add all schedules.
-        for (int i = 0; i < persons.size(); i++) {
+        //Add all schedules. Each member is generated independently, in order of their index.
+        ArrayList<PersonSchedule> personSchedules = computeInOrder(persons.size(), i -> {
             Person person = persons.get(i);
             Role role = Role.emptyRole();
             if (mappings != null) {
@@ -151,22 +185,22 @@ public class ScheduleManager {
                 role = Role.emptyRole();
             }
 
-            PersonSchedule personSchedule = generatePersonSchedule(
+            return generatePersonSchedule(
                     time,
                     person,
                     role,
                     ColorGenerator.generateColor(i),
                     true);
-            personSchedules.add(personSchedule);
-        }
+        });
 
-        for (int week = 0; week < WEEKS_OF_A_MONTH; week++) {
-            int finalWeek = week;
-            FreeSchedule freeSchedule = generateFreeSchedule(personSchedules
-                    .stream().map(schedule -> schedule.getScheduleDisplay().get(finalWeek))
-                    .collect(Collectors.toCollection(ArrayList::new)), time);
-            freeSchedules.add(freeSchedule);
-        }
+        // The busy minutes of the members are kept with each FreeSchedule, to tell who is busy at a time.
+        LazyWeekList<FreeSchedule> freeSchedules = new LazyWeekList<>(scheduleWeeks, week ->
+                freeScheduleGenerator.generateFromAvailability(new GroupAvailability(
+                        computeInOrder(personSchedules.size(), i -> personSchedules.get(i).getScheduleDisplay()
+                                .get(week)), SCHEDULE_START_TIME, SCHEDULE_END_TIME), time));
+
+        //Only the first week is generated now. Later weeks are generated when they are shown.
+        prefetchLocationImages(freeSchedules.get(0));
 
         GroupScheduleDisplay scheduleDisplay =
                 new GroupScheduleDisplay(personSchedules, freeSchedules, groupDisplay);
@@ -199,10 +233,126 @@ public class ScheduleManager {
         updateScheduleDisplay(scheduleDisplay);
     }
 
+    /**
+     * Loads the images of the closest common locations of the free timeslots in the background, so that they are
+     * ready when the timeslots are selected.
+     */
+    private void prefetchLocationImages(FreeSchedule freeSchedule) {
+        for (ArrayList<FreeTimeslot> freeTimeslots : freeSchedule.getFreeSchedule().values()) {
+            for (FreeTimeslot freeTimeslot : freeTimeslots) {
+                ClosestCommonLocationData locationData = freeTimeslot.getClosestCommonLocationData();
+                if (locationData != null && locationData.isOk()) {
+                    locationData.prefetchImages();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the best MeetingSlots over the schedule weeks at which at least quorum of the persons are free.
+     * The persons' schedules are generated the same way as for a group, so they are shared with its display.
+     */
+    public ArrayList<MeetingSlot> findMeetingSlots(ArrayList<Person> persons,
+                                                   int quorum,
+                                                   int numberOfSlots,
+                                                   LocalDateTime time) {
+        ArrayList<List<WeekSchedule>> memberWeekSchedules = computeInOrder(persons.size(), i -> {
+            List<WeekSchedule> weekSchedules = generatePersonSchedule(
+                    time,
+                    persons.get(i),
+                    Role.emptyRole(),
+                    ColorGenerator.generateColor(i),
+                    true).getScheduleDisplay();
+
+            //Every week is searched, so generate them all now.
+            for (int week = 0; week < weekSchedules.size(); week++) {
+                weekSchedules.get(week);
+            }
+            return weekSchedules;
+        });
+
+        ArrayList<Name> names = new ArrayList<>();
+        for (Person person : persons) {
+            names.add(person.getName());
+        }
+        return quorumMeetingFinder.find(names, memberWeekSchedules, time.toLocalDate(), quorum, numberOfSlots);
+    }
+
+    /**
+     * Sets the number of weeks, starting from the current week, that can be viewed in a schedule.
+     * The number is limited to the weeks of a semester.
+     */
+    public void setScheduleWeeks(int scheduleWeeks) {
+        int newScheduleWeeks = Math.max(1, Math.min(scheduleWeeks, WEEKS_OF_A_SEMESTER));
+        if (newScheduleWeeks == this.scheduleWeeks) {
+            return;
+        }
+
+        this.scheduleWeeks = newScheduleWeeks;
+        clearScheduleCache();
+        logger.log(Level.INFO, String.format("Schedules can be viewed for %d week(s)", newScheduleWeeks));
+    }
+
+    public int getScheduleWeeks() {
+        return scheduleWeeks;
+    }
+
+    /**
+     * Sets the number of threads used to generate group schedules.
+     * Non-positive values use the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        int newParallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        if (newParallelism == this.parallelism) {
+            return;
+        }
+
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+        this.parallelism = newParallelism;
+        if (newParallelism > 1) {
+            pool = new ForkJoinPool(newParallelism);
+        }
+        logger.log(Level.INFO, String.format("Generating group schedules with %d thread(s)", newParallelism));
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Computes the tasks from 0 to count - 1, in parallel if possible, and returns their results in order.
+     */
+    private <T> ArrayList<T> computeInOrder(int count, IntFunction<T> task) {
+        if (pool == null || count <= 1) {
+            ArrayList<T> results = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                results.add(task.apply(i));
+            }
+            return results;
+        }
+
+        try {
+            return pool.submit(() -> IntStream.range(0, count).parallel()
+                    .mapToObj(task)
+                    .collect(Collectors.toCollection(ArrayList::new))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating schedules", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     /**
      * Updates the scheduleDisplay.
      */
-    private void updateScheduleDisplay(ScheduleDisplay scheduleDisplay) {
+    public void updateScheduleDisplay(ScheduleDisplay scheduleDisplay) {
         this.scheduleDisplay = scheduleDisplay;
     }
 
@@ -229,13 +379,45 @@ public class ScheduleManager {
                                                   String color,
                                                   boolean isInGroup) {
 
-        ArrayList<WeekSchedule> scheduleDisplay = new ArrayList<>();
-        for (int week = 0; week < WEEKS_OF_A_MONTH; week++) {
-            scheduleDisplay.add(generateWeekSchedule(now.plusDays(week * DAYS_OF_A_WEEK), person, color, isInGroup));
+        Schedule schedule = person.getSchedule();
+        ScheduleCacheKey key = new ScheduleCacheKey(person.getPersonId().getIdentifier(), color, isInGroup);
+        CachedWeekSchedules cached = weekScheduleCache.get(key);
+
+        List<WeekSchedule> scheduleDisplay;
+        if (cached != null && cached.isValidFor(schedule, now.toLocalDate())) {
+            scheduleDisplay = cached.weekSchedules;
+        } else {
+            scheduleDisplay = new LazyWeekList<>(scheduleWeeks, week ->
+                    generateWeekSchedule(now.plusDays(week * DAYS_OF_A_WEEK), person, color, isInGroup));
+            weekScheduleCache.put(key, new CachedWeekSchedules(schedule, schedule.getVersion(), now.toLocalDate(),
+                    scheduleDisplay));
         }
         return new PersonSchedule(new PersonDisplay(person, role), scheduleDisplay);
     }
 
+    /**
+     * Clears the WeekSchedules kept for every person, so that they are regenerated on the next update.
+     */
+    public void clearScheduleCache() {
+        weekScheduleCache.clear();
+    }
+
+    /**
+     * Drops the WeekSchedules kept for a person, such as one who has been deleted.
+     */
+    public void evictScheduleCache(PersonId personId) {
+        synchronized (weekScheduleCache) {
+            weekScheduleCache.keySet().removeIf(key -> key.personId == personId.getIdentifier());
+        }
+    }
+
+    /**
+     * Returns the number of WeekSchedules kept, each for a person in one colour.
+     */
+    public int getScheduleCacheSize() {
+        return weekScheduleCache.size();
+    }
+
     /**
      * Generates the WeekSchedule of a Person.
      */
@@ -250,50 +432,55 @@ public class ScheduleManager {
             scheduleDisplay.put(DayOfWeek.of(day), new ArrayList<>());
         }
 
-        for (int e = 0; e < events.size(); e++) {
-            Event currentEvent = events.get(e);
-            String eventName = currentEvent.getEventName();
+        //Only the timeslots starting within the upcoming 7 days are looked up.
+        LocalDateTime weekStart = date.toLocalDate().atStartOfDay();
+        ArrayList<EventTimeslot> eventTimeslots =
+                personSchedule.timeslotsBetween(weekStart, weekStart.plusDays(DAYS_OF_A_WEEK));
+
+        IdentityHashMap<Event, Integer> eventIndexes = new IdentityHashMap<>();
+        if (!isInGroup) {
+            for (int e = 0; e < events.size(); e++) {
+                eventIndexes.put(events.get(e), e);
+            }
+        }
+
+        for (EventTimeslot eventTimeslot : eventTimeslots) {
+            String eventName = eventTimeslot.getEvent().getEventName();
 
             String selectedColor;
             if (isInGroup) {
                 selectedColor = color;
             } else {
-                selectedColor = ColorGenerator.generateColor(e);
+                selectedColor = ColorGenerator.generateColor(eventIndexes.get(eventTimeslot.getEvent()));
             }
 
-            ArrayList<Timeslot> timeslots = currentEvent.getTimeslots();
-            for (int t = 0; t < timeslots.size(); t++) {
-                Timeslot currentTimeslot = timeslots.get(t);
-
-                LocalDateTime currentStartTime = currentTimeslot.getStartTime();
-                LocalDateTime currentEndTime = currentTimeslot.getEndTime();
-                Venue currentVenue = currentTimeslot.getVenue();
-
-                //Checks to see if the currentStartTime is within the upcoming 7 days.
-                if (date.toLocalDate().plusDays(DAYS_OF_A_WEEK).isAfter(currentStartTime.toLocalDate())
-                        && date.toLocalDate().minusDays(1).isBefore(currentStartTime.toLocalDate())
-                        && (SCHEDULE_START_TIME.isBefore(currentStartTime.toLocalTime())
-                        || SCHEDULE_START_TIME.compareTo(currentStartTime.toLocalTime()) == 0)
-                        && SCHEDULE_END_TIME.isAfter(currentStartTime.toLocalTime())) {
-
-                    PersonTimeslot timeslot = new PersonTimeslot(
-                            eventName,
-                            currentStartTime.toLocalDate(),
-                            currentStartTime.toLocalTime(),
-                            currentEndTime.toLocalTime()
-                                    .isAfter(SCHEDULE_END_TIME) ? SCHEDULE_END_TIME : currentEndTime.toLocalTime(),
-                            currentVenue,
-                            selectedColor,
-                            isInGroup,
-                            gmapsModelManager.closestLocationData(
-                                    new ArrayList<>(List.of(currentVenue.getVenue())))
-                    );
-
-                    scheduleDisplay.get(currentStartTime.getDayOfWeek()).add(timeslot);
-                } else {
-                    logger.log(Level.FINE, String.format("%s is not within schedule range: "
-                            + "event is omitted from schedule", eventName));
-                }
+            Timeslot currentTimeslot = eventTimeslot.getTimeslot();
+            LocalDateTime currentStartTime = currentTimeslot.getStartTime();
+            LocalDateTime currentEndTime = currentTimeslot.getEndTime();
+            Venue currentVenue = currentTimeslot.getVenue();
+
+            //Checks to see if the currentStartTime is within the schedule's hours.
+            if ((SCHEDULE_START_TIME.isBefore(currentStartTime.toLocalTime())
+                    || SCHEDULE_START_TIME.compareTo(currentStartTime.toLocalTime()) == 0)
+                    && SCHEDULE_END_TIME.isAfter(currentStartTime.toLocalTime())) {
+
+                PersonTimeslot timeslot = new PersonTimeslot(
+                        eventName,
+                        currentStartTime.toLocalDate(),
+                        currentStartTime.toLocalTime(),
+                        currentEndTime.toLocalTime()
+                                .isAfter(SCHEDULE_END_TIME) ? SCHEDULE_END_TIME : currentEndTime.toLocalTime(),
+                        currentVenue,
+                        selectedColor,
+                        isInGroup,
+                        gmapsModelManager.closestLocationData(
+                                new ArrayList<>(List.of(currentVenue.getVenue())))
+                );
+
+                scheduleDisplay.get(currentStartTime.getDayOfWeek()).add(timeslot);
+            } else {
+                logger.log(Level.FINE, String.format("%s is not within schedule range: "
+                        + "event is omitted from schedule", eventName));
             }
         }
 
@@ -306,127 +493,6 @@ public class ScheduleManager {
         return new WeekSchedule(scheduleDisplay);
     }
 
-    /**
-     * Generates a free schedule from a list of person schedules.
-     */
-    private FreeSchedule generateFreeSchedule(ArrayList<WeekSchedule> personSchedules,
-                                              LocalDateTime now) {
-
-        HashMap<DayOfWeek, ArrayList<FreeTimeslot>> freeSchedule = new HashMap<>();
-
-        logger.log(Level.FINE, "Generating FreeSchedule..");
-
-        // Used to allocate an ID for each FreeTimeslot
-        int freeTimeslotIdCounter = 1;
-
-        int currentDay = now.getDayOfWeek().getValue();
-        for (int i = currentDay; i <= DAYS_OF_A_WEEK + currentDay - 1; i++) {
-
-            int day = ((i - 1) % 7) + 1;
-            freeSchedule.put(DayOfWeek.of(day), new ArrayList<>());
-
-            LocalTime currentTime = SCHEDULE_START_TIME;
-            ArrayList<String> lastVenues = new ArrayList<>();
-
-            // initialize last venues to null for each person
-            for (int j = 0; j < personSchedules.size(); j++) {
-                lastVenues.add(null);
-            }
-
-            boolean isClash;
-            LocalTime newFreeTimeslotStartTime = null;
-
-            while (true) {
-
-                isClash = false;
-                ArrayList<String> currentLastVenues = new ArrayList<>(lastVenues);
-
-                // loop through each person
-                for (int j = 0; j < personSchedules.size(); j++) {
-                    ArrayList<PersonTimeslot> timeslots = personSchedules.get(j).get(DayOfWeek.of(day));
-
-                    // loop through each timeslot
-                    for (int k = 0; k < timeslots.size(); k++) {
-
-                        // record the latest venue for each clash
-                        if (timeslots.get(k).isClash(currentTime)) {
-                            isClash = true;
-                            currentLastVenues.set(j, timeslots.get(k).getVenue().toString());
-                            break;
-                        }
-                    }
-                }
-
-                if (!isClash) {
-                    if (newFreeTimeslotStartTime == null) {
-                        newFreeTimeslotStartTime = currentTime;
-                    }
-                    lastVenues = new ArrayList<>(currentLastVenues);
-
-                } else {
-                    if (newFreeTimeslotStartTime != null) {
-
-                        if (newFreeTimeslotStartTime.until(currentTime, MINUTES) >= FREE_TIMESLOT_TRHESHOLD) {
-                            freeSchedule.get(DayOfWeek.of(day))
-                                    .add(generateFreeTimeslot(
-                                            freeTimeslotIdCounter,
-                                            lastVenues,
-                                            newFreeTimeslotStartTime,
-                                            currentTime));
-
-                            freeTimeslotIdCounter++;
-                        }
-                        newFreeTimeslotStartTime = null;
-                    }
-                    lastVenues = new ArrayList<>(currentLastVenues);
-                }
-
-                if (currentTime.equals(SCHEDULE_END_TIME)) {
-                    if (!isClash) {
-                        if (newFreeTimeslotStartTime.until(currentTime, MINUTES) >= FREE_TIMESLOT_TRHESHOLD) {
-                            freeSchedule.get(DayOfWeek.of(day))
-                                    .add(generateFreeTimeslot(
-                                            freeTimeslotIdCounter,
-                                            lastVenues,
-                                            newFreeTimeslotStartTime,
-                                            currentTime));
-                            freeTimeslotIdCounter++;
-                        }
-                    }
-                    break;
-                }
-                currentTime = currentTime.plusMinutes(1);
-            }
-        }
-        return new FreeSchedule(freeSchedule);
-    }
-
-    /**
-     * Helper method to generate a FreeTimeslot.
-     */
-    private FreeTimeslot generateFreeTimeslot(int id,
-                                              ArrayList<String> lastVenues,
-                                              LocalTime startTime,
-                                              LocalTime endTime) {
-
-        ArrayList<String> freeTimeslotLastVenues = new ArrayList<>();
-        for (String string : lastVenues) {
-            if (string != null) {
-                freeTimeslotLastVenues.add(string);
-            }
-        }
-
-        ClosestCommonLocationData closestCommonLocationData =
-                gmapsModelManager.closestLocationData(freeTimeslotLastVenues);
-
-        return new FreeTimeslot(
-                id,
-                freeTimeslotLastVenues,
-                closestCommonLocationData,
-                startTime,
-                endTime);
-    }
-
     /**
      * Updates the side panel display of type.
      */
@@ -457,4 +523,61 @@ public class ScheduleManager {
         this.sidePanelDisplay = sidePanelDisplay;
     }
 
+    /**
+     * Identifies the WeekSchedules of a person shown in a colour, in a group or on their own.
+     */
+    private static class ScheduleCacheKey {
+        private final int personId;
+        private final String color;
+        private final boolean isInGroup;
+
+        ScheduleCacheKey(int personId, String color, boolean isInGroup) {
+            this.personId = personId;
+            this.color = color;
+            this.isInGroup = isInGroup;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof ScheduleCacheKey)) {
+                return false;
+            }
+            ScheduleCacheKey otherKey = (ScheduleCacheKey) other;
+            return personId == otherKey.personId
+                    && Objects.equals(color, otherKey.color)
+                    && isInGroup == otherKey.isInGroup;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(personId, color, isInGroup);
+        }
+    }
+
+    /**
+     * WeekSchedules generated from a version of a person's Schedule.
+     */
+    private static class CachedWeekSchedules {
+        private final Schedule schedule;
+        private final int version;
+        private final LocalDate startDate;
+        private final List<WeekSchedule> weekSchedules;
+
+        CachedWeekSchedules(Schedule schedule, int version, LocalDate startDate, List<WeekSchedule> weekSchedules) {
+            this.schedule = schedule;
+            this.version = version;
+            this.startDate = startDate;
+            this.weekSchedules = weekSchedules;
+        }
+
+        /**
+         * Returns true if the WeekSchedules are still those that would be generated from the schedule on the date.
+         */
+        boolean isValidFor(Schedule schedule, LocalDate startDate) {
+            return this.schedule == schedule
+                    && this.version == schedule.getVersion()
+                    && this.startDate.equals(startDate);
+        }
+    }
+
 }
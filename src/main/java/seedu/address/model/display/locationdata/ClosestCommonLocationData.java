@@ -2,10 +2,12 @@ package seedu.address.model.display.locationdata;
 
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ArrayListUtil;
+import seedu.address.model.gmaps.DistanceObjective;
 import seedu.address.websocket.Cache;
 
 /**
@@ -13,6 +15,7 @@ import seedu.address.websocket.Cache;
  */
 public class ClosestCommonLocationData {
     private boolean isOk = false;
+    private boolean isPending = false;
     private String errorResponse;
     private String firstClosest;
     private String secondClosest;
@@ -20,6 +23,9 @@ public class ClosestCommonLocationData {
     private long firstAvg;
     private long secondAvg;
     private long thirdAvg;
+    private ArrayList<String> closestLocations = new ArrayList<>();
+    private ArrayList<Long> closestDistances = new ArrayList<>();
+    private DistanceObjective objective = DistanceObjective.AVERAGE;
     private ArrayList<String> locationEntered;
     private ArrayList<String> validLocation;
     private ArrayList<String> invalidLocation;
@@ -58,6 +64,74 @@ public class ClosestCommonLocationData {
         return Cache.loadImage("NUS_" + thirdClosest);
     }
 
+    /**
+     * Returns the image of the closest location at index, which must not have the NUS_ prefix.
+     */
+    public BufferedImage getImage(int index) {
+        String closestLocation = closestLocations.get(index);
+        if (closestLocation.contains("NUS_")) {
+            logger.warning(closestLocation + " must not have NUS_ prefix");
+            return null;
+        }
+        return Cache.loadImage("NUS_" + closestLocation);
+    }
+
+    /**
+     * Returns a future of the image of the closest location at index, which is loaded in the background.
+     */
+    public CompletableFuture<BufferedImage> getImageAsync(int index) {
+        String closestLocation = closestLocations.get(index);
+        if (closestLocation.contains("NUS_")) {
+            logger.warning(closestLocation + " must not have NUS_ prefix");
+            return CompletableFuture.completedFuture(null);
+        }
+        return Cache.loadImageAsync("NUS_" + closestLocation);
+    }
+
+    /**
+     * Loads the images of the closest locations in the background, so that they are ready when they are shown.
+     */
+    public void prefetchImages() {
+        ArrayList<String> validLocations = new ArrayList<>();
+        for (String closestLocation : closestLocations) {
+            validLocations.add("NUS_" + closestLocation);
+        }
+        Cache.prefetchImages(validLocations);
+    }
+
+    /**
+     * Sets the closest locations, best first, and their distances under the objective. The first three are also
+     * set as the first, second and third closest locations.
+     */
+    public void setClosestLocations(ArrayList<String> closestLocations, ArrayList<Long> closestDistances,
+                                    DistanceObjective objective) {
+        assert closestLocations.size() == closestDistances.size();
+        this.closestLocations = closestLocations;
+        this.closestDistances = closestDistances;
+        this.objective = objective;
+        firstClosest = closestLocations.size() > 0 ? closestLocations.get(0) : null;
+        firstAvg = closestDistances.size() > 0 ? closestDistances.get(0) : 0;
+        secondClosest = closestLocations.size() > 1 ? closestLocations.get(1) : null;
+        secondAvg = closestDistances.size() > 1 ? closestDistances.get(1) : 0;
+        thirdClosest = closestLocations.size() > 2 ? closestLocations.get(2) : null;
+        thirdAvg = closestDistances.size() > 2 ? closestDistances.get(2) : 0;
+    }
+
+    public ArrayList<String> getClosestLocations() {
+        return closestLocations;
+    }
+
+    /**
+     * Returns the distance of the closest location at index, formatted for the GUI.
+     */
+    public String getDistance(int index) {
+        return formatAvgForGui(closestDistances.get(index));
+    }
+
+    public DistanceObjective getObjective() {
+        return objective;
+    }
+
     public void setFirstClosest(String firstClosest) {
         this.firstClosest = firstClosest;
     }
@@ -138,6 +212,17 @@ public class ClosestCommonLocationData {
         isOk = ok;
     }
 
+    /**
+     * Returns true if the closest common location could not be found yet because location data is still loading.
+     */
+    public boolean isPending() {
+        return isPending;
+    }
+
+    public void setPending(boolean pending) {
+        isPending = pending;
+    }
+
     public String getErrorResponse() {
 
         String response = "";
@@ -164,7 +249,7 @@ public class ClosestCommonLocationData {
     }
 
     private String formatAvgForGui(long value) {
-        return "Avg distance: " + value + "(meters)";
+        return objective.getLabel() + ": " + value + "(meters)";
     }
 
     /**
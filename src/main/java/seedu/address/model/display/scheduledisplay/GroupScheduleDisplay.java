@@ -20,12 +20,12 @@ public class GroupScheduleDisplay extends ScheduleDisplay {
     private static final ScheduleState state = ScheduleState.GROUP;
 
     private GroupDisplay groupDisplay;
-    private ArrayList<FreeSchedule> freeSchedules;
+    private List<FreeSchedule> freeSchedules;
 
     private Optional<List<Name>> filteredNames = Optional.empty();
 
     public GroupScheduleDisplay(ArrayList<PersonSchedule> personSchedules,
-                                ArrayList<FreeSchedule> freeSchedules,
+                                List<FreeSchedule> freeSchedules,
                                 GroupDisplay groupDisplay) {
         super(personSchedules);
         this.freeSchedules = freeSchedules;
@@ -36,7 +36,7 @@ public class GroupScheduleDisplay extends ScheduleDisplay {
         return groupDisplay;
     }
 
-    public ArrayList<FreeSchedule> getFreeSchedule() {
+    public List<FreeSchedule> getFreeSchedule() {
         return freeSchedules;
     }
 
@@ -53,6 +53,13 @@ public class GroupScheduleDisplay extends ScheduleDisplay {
         this.filteredNames = Optional.of(presentNames);
     }
 
+    /**
+     * Shows every member again.
+     */
+    public void clearFilteredNames() {
+        this.filteredNames = Optional.empty();
+    }
+
     public Optional<List<Name>> getFilteredNames() {
         return filteredNames;
     }
@@ -1,9 +1,11 @@
 package seedu.address.model.display.timeslots;
 
 import java.time.DayOfWeek;
+import java.time.LocalTime;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 import seedu.address.model.person.exceptions.InvalidTimeslotException;
 
@@ -13,15 +15,34 @@ import seedu.address.model.person.exceptions.InvalidTimeslotException;
 public class FreeSchedule {
 
     private HashMap<DayOfWeek, ArrayList<FreeTimeslot>> freeSchedule;
+    // The busy minutes of the members the FreeSchedule was generated from, if it was generated from them.
+    private GroupAvailability groupAvailability;
 
     public FreeSchedule(HashMap<DayOfWeek, ArrayList<FreeTimeslot>> freeSchedule) {
+        this(freeSchedule, null);
+    }
+
+    public FreeSchedule(HashMap<DayOfWeek, ArrayList<FreeTimeslot>> freeSchedule,
+                        GroupAvailability groupAvailability) {
         this.freeSchedule = freeSchedule;
+        this.groupAvailability = groupAvailability;
     }
 
     public HashMap<DayOfWeek, ArrayList<FreeTimeslot>> getFreeSchedule() {
         return freeSchedule;
     }
 
+    /**
+     * Returns the indexes of the members who are busy at time, or an empty list if the FreeSchedule was not generated
+     * from a GroupAvailability.
+     */
+    public List<Integer> getBusyMembers(DayOfWeek day, LocalTime time) {
+        if (groupAvailability == null) {
+            return new ArrayList<>();
+        }
+        return groupAvailability.getBusyMembers(day, time);
+    }
+
     /**
      * Method to retrieve FreeTimeslot object from Free Schedule.
      * @param id Identifier used to identify free time.
@@ -0,0 +1,241 @@
+package seedu.address.model.display.timeslots;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import seedu.address.model.display.locationdata.ClosestCommonLocationData;
+
+/**
+ * Generates the FreeSchedule of a group of WeekSchedules by sweeping over the sorted boundaries of their timeslots.
+ *
+ * A minute is busy if it falls within the (inclusive) start and end time of any member's timeslot. Free windows
+ * shorter than the threshold are dropped, and each free window records the venue each member was last at before it.
+ * The same FreeSchedule can also be generated from the busy minutes of a GroupAvailability.
+ */
+public class FreeScheduleGenerator {
+
+    private static final int DAYS_OF_A_WEEK = 7;
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    private final LocalTime scheduleStartTime;
+    private final LocalTime scheduleEndTime;
+    private final int freeTimeslotThreshold;
+    private final Function<ArrayList<String>, ClosestCommonLocationData> locationDataGenerator;
+
+    public FreeScheduleGenerator(LocalTime scheduleStartTime,
+                                 LocalTime scheduleEndTime,
+                                 int freeTimeslotThreshold,
+                                 Function<ArrayList<String>, ClosestCommonLocationData> locationDataGenerator) {
+        requireNonNull(scheduleStartTime);
+        requireNonNull(scheduleEndTime);
+        requireNonNull(locationDataGenerator);
+        assert scheduleStartTime.isBefore(scheduleEndTime);
+
+        this.scheduleStartTime = scheduleStartTime;
+        this.scheduleEndTime = scheduleEndTime;
+        this.freeTimeslotThreshold = freeTimeslotThreshold;
+        this.locationDataGenerator = locationDataGenerator;
+    }
+
+    /**
+     * Generates the FreeSchedule of the week starting from the day of now.
+     * FreeTimeslot IDs are allocated in order, starting from the day of now.
+     */
+    public FreeSchedule generate(List<WeekSchedule> weekSchedules, LocalDateTime now) {
+        return generateWeek(now, null, (day, firstId) -> generateDay(weekSchedules, day, firstId));
+    }
+
+    /**
+     * Generates the FreeSchedule of the week starting from the day of now, from the busy minutes of a group.
+     * The FreeSchedule is the same as the one generated from the group's WeekSchedules, and also answers which
+     * members are busy at a time.
+     */
+    public FreeSchedule generateFromAvailability(GroupAvailability groupAvailability, LocalDateTime now) {
+        assert groupAvailability.getGroupAvailability().getScheduleStartTime().equals(scheduleStartTime);
+        return generateWeek(now, groupAvailability, (day, firstId) -> generateDay(groupAvailability, day, firstId));
+    }
+
+    /**
+     * Generates the FreeSchedule of the week starting from the day of now, one day at a time.
+     */
+    private FreeSchedule generateWeek(LocalDateTime now, GroupAvailability groupAvailability,
+                                      BiFunction<DayOfWeek, Integer, ArrayList<FreeTimeslot>> dayGenerator) {
+        HashMap<DayOfWeek, ArrayList<FreeTimeslot>> freeSchedule = new HashMap<>();
+
+        // Used to allocate an ID for each FreeTimeslot
+        int freeTimeslotIdCounter = 1;
+
+        int currentDay = now.getDayOfWeek().getValue();
+        for (int i = currentDay; i <= DAYS_OF_A_WEEK + currentDay - 1; i++) {
+            DayOfWeek day = DayOfWeek.of(((i - 1) % DAYS_OF_A_WEEK) + 1);
+
+            ArrayList<FreeTimeslot> freeTimeslots = dayGenerator.apply(day, freeTimeslotIdCounter);
+            freeTimeslotIdCounter += freeTimeslots.size();
+            freeSchedule.put(day, freeTimeslots);
+        }
+        return new FreeSchedule(freeSchedule, groupAvailability);
+    }
+
+    /**
+     * Generates the FreeTimeslots of a single day from the busy minutes of a group, with IDs starting from firstId.
+     */
+    private ArrayList<FreeTimeslot> generateDay(GroupAvailability groupAvailability, DayOfWeek day, int firstId) {
+        WeekAvailability availability = groupAvailability.getGroupAvailability();
+        int lastMinute = availability.getMinutes() - 1;
+        ArrayList<FreeTimeslot> freeTimeslots = new ArrayList<>();
+
+        int freeStart = availability.nextFreeMinute(day, 0);
+        while (freeStart >= 0) {
+            int busyStart = availability.nextBusyMinute(day, freeStart);
+            boolean isLastWindow = busyStart < 0;
+            int freeEnd = isLastWindow ? lastMinute : busyStart;
+
+            if (freeEnd - freeStart >= freeTimeslotThreshold) {
+                String[] lastVenues = new String[groupAvailability.size()];
+                for (int member = 0; member < lastVenues.length; member++) {
+                    lastVenues[member] = groupAvailability.getLastVenue(member, day, freeStart);
+                }
+                freeTimeslots.add(generateFreeTimeslot(firstId + freeTimeslots.size(), lastVenues,
+                        freeStart, freeEnd));
+            }
+            if (isLastWindow) {
+                break;
+            }
+            freeStart = availability.nextFreeMinute(day, busyStart);
+        }
+        return freeTimeslots;
+    }
+
+    /**
+     * Generates the FreeTimeslots of a single day, with IDs starting from firstId.
+     */
+    private ArrayList<FreeTimeslot> generateDay(List<WeekSchedule> weekSchedules, DayOfWeek day, int firstId) {
+        int lastMinute = toMinuteFloor(scheduleStartTime, scheduleEndTime);
+        ArrayList<BusyInterval> intervals = new ArrayList<>();
+
+        for (int member = 0; member < weekSchedules.size(); member++) {
+            ArrayList<PersonTimeslot> timeslots = weekSchedules.get(member).get(day);
+            for (int order = 0; order < timeslots.size(); order++) {
+                PersonTimeslot timeslot = timeslots.get(order);
+                int start = Math.max(0, toMinuteCeil(scheduleStartTime, timeslot.getStartTime()));
+                int end = Math.min(lastMinute, toMinuteFloor(scheduleStartTime, timeslot.getEndTime()));
+                if (start <= end) {
+                    intervals.add(new BusyInterval(start, end, member, order, timeslot.getVenue().toString()));
+                }
+            }
+        }
+
+        // Intervals by end, then by position in the member's list, so that the first interval seen for a
+        // given end minute is the one the member is considered to be at.
+        ArrayList<BusyInterval> byEnd = new ArrayList<>(intervals);
+        byEnd.sort(Comparator.comparingInt((BusyInterval interval) -> interval.end)
+                .thenComparingInt(interval -> interval.order));
+        intervals.sort(Comparator.comparingInt(interval -> interval.start));
+
+        ArrayList<FreeTimeslot> freeTimeslots = new ArrayList<>();
+        String[] lastVenues = new String[weekSchedules.size()];
+        int[] lastBusyMinutes = new int[weekSchedules.size()];
+        int byEndIndex = 0;
+
+        int freeStart = 0;
+        int index = 0;
+        while (freeStart <= lastMinute) {
+            // Skip over the block of overlapping or adjacent intervals covering freeStart, if any.
+            int busyUntil = -1;
+            while (index < intervals.size() && intervals.get(index).start <= Math.max(freeStart, busyUntil + 1)) {
+                busyUntil = Math.max(busyUntil, intervals.get(index).end);
+                index++;
+            }
+            if (busyUntil >= freeStart) {
+                freeStart = busyUntil + 1;
+                continue;
+            }
+
+            boolean isLastWindow = index == intervals.size();
+            int freeEnd = isLastWindow ? lastMinute : intervals.get(index).start;
+
+            // Every interval ending before the free window has been passed, so record each member's last venue.
+            while (byEndIndex < byEnd.size() && byEnd.get(byEndIndex).end < freeStart) {
+                BusyInterval interval = byEnd.get(byEndIndex);
+                if (lastVenues[interval.member] == null || interval.end > lastBusyMinutes[interval.member]) {
+                    lastVenues[interval.member] = interval.venue;
+                    lastBusyMinutes[interval.member] = interval.end;
+                }
+                byEndIndex++;
+            }
+
+            if (freeEnd - freeStart >= freeTimeslotThreshold) {
+                freeTimeslots.add(generateFreeTimeslot(firstId + freeTimeslots.size(), lastVenues,
+                        freeStart, freeEnd));
+            }
+            if (isLastWindow) {
+                break;
+            }
+            freeStart = freeEnd;
+        }
+        return freeTimeslots;
+    }
+
+    /**
+     * Helper method to generate a FreeTimeslot.
+     */
+    private FreeTimeslot generateFreeTimeslot(int id, String[] lastVenues, int startMinute, int endMinute) {
+        ArrayList<String> freeTimeslotLastVenues = new ArrayList<>();
+        for (String venue : lastVenues) {
+            if (venue != null) {
+                freeTimeslotLastVenues.add(venue);
+            }
+        }
+
+        return new FreeTimeslot(
+                id,
+                freeTimeslotLastVenues,
+                locationDataGenerator.apply(freeTimeslotLastVenues),
+                scheduleStartTime.plusMinutes(startMinute),
+                scheduleStartTime.plusMinutes(endMinute));
+    }
+
+    /**
+     * Returns the first whole minute after the schedule start time that is not before time.
+     */
+    static int toMinuteCeil(LocalTime scheduleStartTime, LocalTime time) {
+        long nanos = time.toNanoOfDay() - scheduleStartTime.toNanoOfDay();
+        return (int) -Math.floorDiv(-nanos, NANOS_PER_MINUTE);
+    }
+
+    /**
+     * Returns the last whole minute after the schedule start time that is not after time.
+     */
+    static int toMinuteFloor(LocalTime scheduleStartTime, LocalTime time) {
+        long nanos = time.toNanoOfDay() - scheduleStartTime.toNanoOfDay();
+        return (int) Math.floorDiv(nanos, NANOS_PER_MINUTE);
+    }
+
+    /**
+     * The busy minutes of a member's timeslot, relative to the schedule start time.
+     */
+    private static class BusyInterval {
+        private final int start;
+        private final int end;
+        private final int member;
+        private final int order;
+        private final String venue;
+
+        private BusyInterval(int start, int end, int member, int order, String venue) {
+            this.start = start;
+            this.end = end;
+            this.member = member;
+            this.order = order;
+            this.venue = venue;
+        }
+    }
+}
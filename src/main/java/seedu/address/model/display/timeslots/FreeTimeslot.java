@@ -40,6 +40,10 @@ public class FreeTimeslot {
         return this.closestCommonLocationData;
     }
 
+    public void setClosestCommonLocationData(ClosestCommonLocationData closestCommonLocationData) {
+        this.closestCommonLocationData = closestCommonLocationData;
+    }
+
     public ArrayList<String> getVenues() {
         return venues;
     }
@@ -0,0 +1,98 @@
+package seedu.address.model.display.timeslots;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Availability of the members of a group for a week, built from their WeekSchedules.
+ *
+ * The busy minutes of the whole group are the bitwise OR of the busy minutes of every member.
+ */
+public class GroupAvailability {
+
+    private final List<WeekSchedule> weekSchedules;
+    private final ArrayList<WeekAvailability> memberAvailabilities;
+    private final WeekAvailability groupAvailability;
+
+    public GroupAvailability(List<WeekSchedule> weekSchedules, LocalTime scheduleStartTime,
+                             LocalTime scheduleEndTime) {
+        requireNonNull(weekSchedules);
+        this.weekSchedules = weekSchedules;
+        this.memberAvailabilities = new ArrayList<>();
+
+        WeekAvailability groupAvailability = WeekAvailability.free(scheduleStartTime, scheduleEndTime);
+        for (WeekSchedule weekSchedule : weekSchedules) {
+            WeekAvailability memberAvailability =
+                    WeekAvailability.fromWeekSchedule(weekSchedule, scheduleStartTime, scheduleEndTime);
+            memberAvailabilities.add(memberAvailability);
+            groupAvailability = groupAvailability.or(memberAvailability);
+        }
+        this.groupAvailability = groupAvailability;
+    }
+
+    /**
+     * Returns the number of members in the group.
+     */
+    public int size() {
+        return memberAvailabilities.size();
+    }
+
+    public WeekAvailability getGroupAvailability() {
+        return groupAvailability;
+    }
+
+    public WeekAvailability getMemberAvailability(int member) {
+        return memberAvailabilities.get(member);
+    }
+
+    /**
+     * Returns true if every member of the group is free at time.
+     */
+    public boolean isFree(DayOfWeek day, LocalTime time) {
+        return !groupAvailability.isBusy(day, time);
+    }
+
+    /**
+     * Returns the indexes of the members who are busy at time.
+     */
+    public List<Integer> getBusyMembers(DayOfWeek day, LocalTime time) {
+        requireNonNull(day);
+        requireNonNull(time);
+
+        ArrayList<Integer> busyMembers = new ArrayList<>();
+        if (!groupAvailability.isBusy(day, time)) {
+            return busyMembers;
+        }
+        for (int member = 0; member < memberAvailabilities.size(); member++) {
+            if (memberAvailabilities.get(member).isBusy(day, time)) {
+                busyMembers.add(member);
+            }
+        }
+        return busyMembers;
+    }
+
+    /**
+     * Returns the venue of the timeslot a member was at on the last busy minute before the given minute,
+     * or null if the member has not been busy that day.
+     * If several timeslots cover that minute, the first in the member's schedule is used.
+     */
+    String getLastVenue(int member, DayOfWeek day, int beforeMinute) {
+        WeekAvailability memberAvailability = memberAvailabilities.get(member);
+        int lastBusyMinute = memberAvailability.previousBusyMinute(day, beforeMinute - 1);
+        if (lastBusyMinute < 0) {
+            return null;
+        }
+
+        for (PersonTimeslot timeslot : weekSchedules.get(member).get(day)) {
+            if (memberAvailability.toMinuteCeil(timeslot.getStartTime()) <= lastBusyMinute
+                    && lastBusyMinute <= memberAvailability.toMinuteFloor(timeslot.getEndTime())) {
+                return timeslot.getVenue().toString();
+            }
+        }
+        return null;
+    }
+}
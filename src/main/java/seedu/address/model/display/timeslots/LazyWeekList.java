@@ -0,0 +1,39 @@
+package seedu.address.model.display.timeslots;
+
+import java.util.AbstractList;
+import java.util.function.IntFunction;
+
+/**
+ * A fixed number of weeks, each generated the first time it is accessed and kept afterwards.
+ */
+public class LazyWeekList<T> extends AbstractList<T> {
+
+    private final IntFunction<T> weekGenerator;
+    private final Object[] weeks;
+
+    public LazyWeekList(int numberOfWeeks, IntFunction<T> weekGenerator) {
+        this.weekGenerator = weekGenerator;
+        this.weeks = new Object[numberOfWeeks];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized T get(int week) {
+        if (weeks[week] == null) {
+            weeks[week] = weekGenerator.apply(week);
+        }
+        return (T) weeks[week];
+    }
+
+    @Override
+    public int size() {
+        return weeks.length;
+    }
+
+    /**
+     * Returns true if the week has been generated.
+     */
+    public synchronized boolean isGenerated(int week) {
+        return weeks[week] != null;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.display.timeslots;
+
+import static java.time.temporal.ChronoUnit.MINUTES;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+
+import seedu.address.model.display.locationdata.ClosestCommonLocationData;
+import seedu.address.model.person.Name;
+
+/**
+ * A window on a date during which the attendees are all free.
+ */
+public class MeetingSlot {
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final ArrayList<Name> attendees;
+    private final ArrayList<String> venues;
+    private final ClosestCommonLocationData closestCommonLocationData;
+
+    public MeetingSlot(LocalDate date,
+                       LocalTime startTime,
+                       LocalTime endTime,
+                       ArrayList<Name> attendees,
+                       ArrayList<String> venues,
+                       ClosestCommonLocationData closestCommonLocationData) {
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.attendees = attendees;
+        this.venues = venues;
+        this.closestCommonLocationData = closestCommonLocationData;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public ArrayList<Name> getAttendees() {
+        return attendees;
+    }
+
+    public ArrayList<String> getVenues() {
+        return venues;
+    }
+
+    public ClosestCommonLocationData getClosestCommonLocationData() {
+        return closestCommonLocationData;
+    }
+
+    /**
+     * Returns the length of the slot in minutes.
+     */
+    public long getDuration() {
+        return startTime.until(endTime, MINUTES);
+    }
+
+    /**
+     * Returns true if a closest common location was found for the attendees.
+     */
+    public boolean hasClosestCommonLocation() {
+        return closestCommonLocationData != null && closestCommonLocationData.isOk();
+    }
+
+    @Override
+    public String toString() {
+        return date + " " + startTime + " - " + endTime + " " + attendees;
+    }
+}
@@ -1,6 +1,6 @@
 package seedu.address.model.display.timeslots;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.model.display.sidepanel.PersonDisplay;
 
@@ -10,10 +10,10 @@ import seedu.address.model.display.sidepanel.PersonDisplay;
 public class PersonSchedule {
 
     private PersonDisplay personDisplay;
-    private ArrayList<WeekSchedule> scheduleDisplay;
+    private List<WeekSchedule> scheduleDisplay;
 
     public PersonSchedule(PersonDisplay personDisplay,
-                          ArrayList<WeekSchedule> scheduleDisplay) {
+                          List<WeekSchedule> scheduleDisplay) {
 
         this.personDisplay = personDisplay;
         this.scheduleDisplay = scheduleDisplay;
@@ -23,8 +23,18 @@ public class PersonSchedule {
         return this.personDisplay;
     }
 
-    public ArrayList<WeekSchedule> getScheduleDisplay() {
+    public List<WeekSchedule> getScheduleDisplay() {
         return scheduleDisplay;
     }
 
+    /**
+     * Returns true if the WeekSchedule of the week has been generated.
+     */
+    public boolean isWeekGenerated(int week) {
+        if (scheduleDisplay instanceof LazyWeekList) {
+            return ((LazyWeekList<WeekSchedule>) scheduleDisplay).isGenerated(week);
+        }
+        return true;
+    }
+
 }
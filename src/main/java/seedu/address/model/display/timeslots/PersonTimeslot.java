@@ -91,6 +91,10 @@ public class PersonTimeslot {
         return locationData;
     }
 
+    public void setLocationData(ClosestCommonLocationData locationData) {
+        this.locationData = locationData;
+    }
+
     /**
      * Checks if there is a clash between the timeslot and given time.
      *
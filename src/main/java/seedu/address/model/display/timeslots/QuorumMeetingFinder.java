@@ -0,0 +1,287 @@
+package seedu.address.model.display.timeslots;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+import seedu.address.model.display.locationdata.ClosestCommonLocationData;
+import seedu.address.model.person.Name;
+
+/**
+ * Finds the best MeetingSlots over several weeks at which at least a quorum of a group's members are free.
+ *
+ * Each day is split into elementary intervals at the start and end of every member's timeslots, so the same
+ * members are free throughout an interval. A member is busy from the start of a timeslot up to, but not including,
+ * its end. Windows are grown from each interval over the following ones, keeping only the members free throughout,
+ * until fewer than quorum remain, and only the best windows are kept in a bounded heap while the days are swept.
+ * Windows are ranked by the number of attendees, then by duration, and the closest common location is only computed
+ * for the windows returned.
+ */
+public class QuorumMeetingFinder {
+
+    private static final int DAYS_OF_A_WEEK = 7;
+
+    /**
+     * More attendees first, then longer windows, then earlier windows.
+     */
+    private static final Comparator<Window> RANKING = Comparator
+            .comparingInt((Window window) -> -window.attendeeCount)
+            .thenComparingInt(window -> -(window.endMinute - window.startMinute))
+            .thenComparing(window -> window.date)
+            .thenComparingInt(window -> window.startMinute);
+
+    /**
+     * The same as RANKING, except that slots with a closest common location come before those without.
+     */
+    private static final Comparator<MeetingSlot> SLOT_ORDER = Comparator
+            .comparingInt((MeetingSlot slot) -> -slot.getAttendees().size())
+            .thenComparingLong(slot -> -slot.getDuration())
+            .thenComparing(slot -> !slot.hasClosestCommonLocation())
+            .thenComparing(MeetingSlot::getDate)
+            .thenComparing(MeetingSlot::getStartTime);
+
+    private final LocalTime scheduleStartTime;
+    private final LocalTime scheduleEndTime;
+    private final int minimumDuration;
+    private final Function<ArrayList<String>, ClosestCommonLocationData> locationDataGenerator;
+
+    public QuorumMeetingFinder(LocalTime scheduleStartTime,
+                               LocalTime scheduleEndTime,
+                               int minimumDuration,
+                               Function<ArrayList<String>, ClosestCommonLocationData> locationDataGenerator) {
+        requireNonNull(scheduleStartTime);
+        requireNonNull(scheduleEndTime);
+        requireNonNull(locationDataGenerator);
+        assert scheduleStartTime.isBefore(scheduleEndTime);
+
+        this.scheduleStartTime = scheduleStartTime;
+        this.scheduleEndTime = scheduleEndTime;
+        this.minimumDuration = minimumDuration;
+        this.locationDataGenerator = locationDataGenerator;
+    }
+
+    /**
+     * Returns up to numberOfSlots MeetingSlots at which at least quorum members are free, best first.
+     *
+     * @param members names of the members, in the same order as their WeekSchedules
+     * @param memberWeekSchedules WeekSchedules of each member, one for each week starting from startDate
+     * @param startDate first date of the first week
+     * @param quorum minimum number of members who must be free
+     * @param numberOfSlots maximum number of MeetingSlots returned
+     * @return ArrayList of MeetingSlots
+     */
+    public ArrayList<MeetingSlot> find(List<Name> members,
+                                       List<? extends List<WeekSchedule>> memberWeekSchedules,
+                                       LocalDate startDate,
+                                       int quorum,
+                                       int numberOfSlots) {
+        requireNonNull(members);
+        requireNonNull(memberWeekSchedules);
+        requireNonNull(startDate);
+        assert members.size() == memberWeekSchedules.size();
+
+        ArrayList<MeetingSlot> meetingSlots = new ArrayList<>();
+        if (quorum < 1 || quorum > members.size() || numberOfSlots < 1) {
+            return meetingSlots;
+        }
+
+        int weeks = Integer.MAX_VALUE;
+        for (List<WeekSchedule> weekSchedules : memberWeekSchedules) {
+            weeks = Math.min(weeks, weekSchedules.size());
+        }
+
+        // Worst window at the head, so it can be replaced by a better one.
+        PriorityQueue<Window> best = new PriorityQueue<>(RANKING.reversed());
+        for (int week = 0; week < weeks; week++) {
+            for (int i = 0; i < DAYS_OF_A_WEEK; i++) {
+                findWindows(memberWeekSchedules, week, startDate.plusDays(week * DAYS_OF_A_WEEK + i),
+                        quorum, numberOfSlots, best);
+            }
+        }
+
+        for (Window window : best) {
+            meetingSlots.add(generateMeetingSlot(members, memberWeekSchedules, window));
+        }
+        meetingSlots.sort(SLOT_ORDER);
+        return meetingSlots;
+    }
+
+    /**
+     * Offers every window of a single day at which at least quorum members are free to the best windows.
+     */
+    private void findWindows(List<? extends List<WeekSchedule>> memberWeekSchedules, int week, LocalDate date,
+                             int quorum, int numberOfSlots, PriorityQueue<Window> best) {
+        DayOfWeek day = date.getDayOfWeek();
+        int memberCount = memberWeekSchedules.size();
+        int lastMinute = FreeScheduleGenerator.toMinuteFloor(scheduleStartTime, scheduleEndTime);
+
+        // Busy minutes of every member as [start, end) pairs, followed by the sorted distinct boundaries.
+        ArrayList<int[]> busyIntervals = new ArrayList<>();
+        int[] boundaries = new int[2];
+        int boundaryCount = 0;
+        boundaries[boundaryCount++] = 0;
+        boundaries[boundaryCount++] = lastMinute;
+        for (int member = 0; member < memberCount; member++) {
+            for (PersonTimeslot timeslot : memberWeekSchedules.get(member).get(week).get(day)) {
+                int start = Math.max(0, FreeScheduleGenerator.toMinuteFloor(scheduleStartTime,
+                        timeslot.getStartTime()));
+                int end = Math.min(lastMinute, FreeScheduleGenerator.toMinuteCeil(scheduleStartTime,
+                        timeslot.getEndTime()));
+                if (start < end) {
+                    busyIntervals.add(new int[] {member, start, end});
+                    if (boundaryCount + 2 > boundaries.length) {
+                        boundaries = Arrays.copyOf(boundaries, boundaries.length * 2);
+                    }
+                    boundaries[boundaryCount++] = start;
+                    boundaries[boundaryCount++] = end;
+                }
+            }
+        }
+        boundaries = Arrays.stream(boundaries, 0, boundaryCount).sorted().distinct().toArray();
+
+        // Members free throughout each elementary interval, one bit per member.
+        int intervals = boundaries.length - 1;
+        int words = (memberCount + Long.SIZE - 1) / Long.SIZE;
+        long[][] free = new long[intervals][words];
+        for (long[] members : free) {
+            for (int member = 0; member < memberCount; member++) {
+                members[member / Long.SIZE] |= 1L << member;
+            }
+        }
+        for (int[] busyInterval : busyIntervals) {
+            int member = busyInterval[0];
+            int from = Arrays.binarySearch(boundaries, busyInterval[1]);
+            int to = Arrays.binarySearch(boundaries, busyInterval[2]);
+            for (int interval = from; interval < to; interval++) {
+                free[interval][member / Long.SIZE] &= ~(1L << member);
+            }
+        }
+
+        for (int first = 0; first < intervals; first++) {
+            long[] attendees = free[first].clone();
+            int attendeeCount = count(attendees);
+            int last = first;
+            while (attendeeCount >= quorum) {
+                while (last < intervals - 1 && containsAll(free[last + 1], attendees)) {
+                    last++;
+                }
+
+                // Windows that could start earlier with the same attendees are found from an earlier interval.
+                int startMinute = boundaries[first];
+                int endMinute = boundaries[last + 1];
+                if ((first == 0 || !containsAll(free[first - 1], attendees))
+                        && endMinute - startMinute >= minimumDuration) {
+                    offer(best, new Window(week, date, startMinute, endMinute, attendees.clone(), attendeeCount),
+                            numberOfSlots);
+                }
+
+                if (last == intervals - 1) {
+                    break;
+                }
+                last++;
+                for (int i = 0; i < words; i++) {
+                    attendees[i] &= free[last][i];
+                }
+                attendeeCount = count(attendees);
+            }
+        }
+    }
+
+    /**
+     * Adds the window to the best windows if there are fewer than numberOfSlots of them or it is better than the
+     * worst of them.
+     */
+    private static void offer(PriorityQueue<Window> best, Window window, int numberOfSlots) {
+        if (best.size() < numberOfSlots) {
+            best.add(window);
+        } else if (RANKING.compare(window, best.peek()) < 0) {
+            best.poll();
+            best.add(window);
+        }
+    }
+
+    /**
+     * Generates the MeetingSlot of a window, with the venue each attendee was last at before it.
+     */
+    private MeetingSlot generateMeetingSlot(List<Name> members,
+                                            List<? extends List<WeekSchedule>> memberWeekSchedules,
+                                            Window window) {
+        LocalTime startTime = scheduleStartTime.plusMinutes(window.startMinute);
+        ArrayList<Name> attendees = new ArrayList<>();
+        ArrayList<String> venues = new ArrayList<>();
+        for (int member = 0; member < members.size(); member++) {
+            if ((window.attendees[member / Long.SIZE] & (1L << member)) == 0) {
+                continue;
+            }
+            attendees.add(members.get(member));
+
+            PersonTimeslot lastTimeslot = null;
+            for (PersonTimeslot timeslot : memberWeekSchedules.get(member).get(window.week)
+                    .get(window.date.getDayOfWeek())) {
+                if (!timeslot.getEndTime().isAfter(startTime)
+                        && (lastTimeslot == null || timeslot.getEndTime().isAfter(lastTimeslot.getEndTime()))) {
+                    lastTimeslot = timeslot;
+                }
+            }
+            if (lastTimeslot != null) {
+                venues.add(lastTimeslot.getVenue().toString());
+            }
+        }
+
+        return new MeetingSlot(window.date, startTime, scheduleStartTime.plusMinutes(window.endMinute),
+                attendees, venues, locationDataGenerator.apply(venues));
+    }
+
+    /**
+     * Returns the number of members in the set.
+     */
+    private static int count(long[] members) {
+        int count = 0;
+        for (long word : members) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Checks if every member of other is also in members.
+     */
+    private static boolean containsAll(long[] members, long[] other) {
+        for (int i = 0; i < members.length; i++) {
+            if ((other[i] & ~members[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A window during which a set of members are free, in minutes relative to the schedule start time.
+     */
+    private static class Window {
+        private final int week;
+        private final LocalDate date;
+        private final int startMinute;
+        private final int endMinute;
+        private final long[] attendees;
+        private final int attendeeCount;
+
+        private Window(int week, LocalDate date, int startMinute, int endMinute, long[] attendees,
+                       int attendeeCount) {
+            this.week = week;
+            this.date = date;
+            this.startMinute = startMinute;
+            this.endMinute = endMinute;
+            this.attendees = attendees;
+            this.attendeeCount = attendeeCount;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package seedu.address.model.display.timeslots;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+
+/**
+ * Busy minutes of a week, packed into a bitmap for each day.
+ *
+ * Bit i of a day is set if minute i after the schedule start time is within (inclusive) a timeslot of that day.
+ */
+public class WeekAvailability {
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    private final LocalTime scheduleStartTime;
+    private final int minutes;
+    private final EnumMap<DayOfWeek, long[]> busyMinutes;
+
+    private WeekAvailability(LocalTime scheduleStartTime, int minutes, EnumMap<DayOfWeek, long[]> busyMinutes) {
+        this.scheduleStartTime = scheduleStartTime;
+        this.minutes = minutes;
+        this.busyMinutes = busyMinutes;
+    }
+
+    /**
+     * Returns a WeekAvailability that is free for the whole schedule.
+     */
+    public static WeekAvailability free(LocalTime scheduleStartTime, LocalTime scheduleEndTime) {
+        requireNonNull(scheduleStartTime);
+        requireNonNull(scheduleEndTime);
+        assert scheduleStartTime.isBefore(scheduleEndTime);
+
+        int minutes = FreeScheduleGenerator.toMinuteFloor(scheduleStartTime, scheduleEndTime) + 1;
+        EnumMap<DayOfWeek, long[]> busyMinutes = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            busyMinutes.put(day, new long[(minutes + BITS_PER_WORD - 1) / BITS_PER_WORD]);
+        }
+        return new WeekAvailability(scheduleStartTime, minutes, busyMinutes);
+    }
+
+    /**
+     * Returns the WeekAvailability of a WeekSchedule between the schedule start and end time.
+     */
+    public static WeekAvailability fromWeekSchedule(WeekSchedule weekSchedule,
+                                                    LocalTime scheduleStartTime,
+                                                    LocalTime scheduleEndTime) {
+        requireNonNull(weekSchedule);
+        WeekAvailability availability = free(scheduleStartTime, scheduleEndTime);
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            ArrayList<PersonTimeslot> timeslots = weekSchedule.get(day);
+            long[] words = availability.busyMinutes.get(day);
+            for (PersonTimeslot timeslot : timeslots) {
+                int start = Math.max(0, availability.toMinuteCeil(timeslot.getStartTime()));
+                int end = Math.min(availability.minutes - 1, availability.toMinuteFloor(timeslot.getEndTime()));
+                setRange(words, start, end);
+            }
+        }
+        return availability;
+    }
+
+    /**
+     * Returns a WeekAvailability which is busy whenever this or other is busy.
+     */
+    public WeekAvailability or(WeekAvailability other) {
+        requireNonNull(other);
+        assert scheduleStartTime.equals(other.scheduleStartTime) && minutes == other.minutes;
+
+        EnumMap<DayOfWeek, long[]> busyMinutes = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            long[] words = this.busyMinutes.get(day).clone();
+            long[] otherWords = other.busyMinutes.get(day);
+            for (int i = 0; i < words.length; i++) {
+                words[i] |= otherWords[i];
+            }
+            busyMinutes.put(day, words);
+        }
+        return new WeekAvailability(scheduleStartTime, minutes, busyMinutes);
+    }
+
+    /**
+     * Returns true if the minute containing time is busy. Times outside the schedule are never busy.
+     */
+    public boolean isBusy(DayOfWeek day, LocalTime time) {
+        requireNonNull(day);
+        requireNonNull(time);
+        return isBusy(day, toMinuteFloor(time));
+    }
+
+    /**
+     * Returns true if the given minute after the schedule start time is busy.
+     */
+    public boolean isBusy(DayOfWeek day, int minute) {
+        if (minute < 0 || minute >= minutes) {
+            return false;
+        }
+        return (busyMinutes.get(day)[minute / BITS_PER_WORD] & (1L << minute)) != 0;
+    }
+
+    /**
+     * Returns the number of minutes in a day of the schedule, including the minute of the schedule end time.
+     */
+    public int getMinutes() {
+        return minutes;
+    }
+
+    public LocalTime getScheduleStartTime() {
+        return scheduleStartTime;
+    }
+
+    /**
+     * Returns the first busy minute of the day that is not before from, or -1 if there is none.
+     */
+    public int nextBusyMinute(DayOfWeek day, int from) {
+        long[] words = busyMinutes.get(day);
+        if (from >= minutes) {
+            return -1;
+        }
+        int index = from / BITS_PER_WORD;
+        long word = words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return index * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+            }
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    /**
+     * Returns the first free minute of the day that is not before from, or -1 if there is none.
+     */
+    public int nextFreeMinute(DayOfWeek day, int from) {
+        long[] words = busyMinutes.get(day);
+        if (from >= minutes) {
+            return -1;
+        }
+        int index = from / BITS_PER_WORD;
+        long word = ~words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int minute = index * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+                return minute < minutes ? minute : -1;
+            }
+            if (++index == words.length) {
+                return -1;
+            }
+            word = ~words[index];
+        }
+    }
+
+    /**
+     * Returns the last busy minute of the day that is not after from, or -1 if there is none.
+     */
+    public int previousBusyMinute(DayOfWeek day, int from) {
+        long[] words = busyMinutes.get(day);
+        if (from < 0) {
+            return -1;
+        }
+        int index = Math.min(from, minutes - 1) / BITS_PER_WORD;
+        long word = words[index] & (-1L >>> (BITS_PER_WORD - 1 - Math.min(from, minutes - 1) % BITS_PER_WORD));
+        while (true) {
+            if (word != 0) {
+                return (index + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
+            }
+            if (index-- == 0) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    int toMinuteCeil(LocalTime time) {
+        return FreeScheduleGenerator.toMinuteCeil(scheduleStartTime, time);
+    }
+
+    int toMinuteFloor(LocalTime time) {
+        return FreeScheduleGenerator.toMinuteFloor(scheduleStartTime, time);
+    }
+
+    /**
+     * Sets the bits from start to end (both inclusive).
+     */
+    private static void setRange(long[] words, int start, int end) {
+        if (start > end) {
+            return;
+        }
+        int startIndex = start / BITS_PER_WORD;
+        int endIndex = end / BITS_PER_WORD;
+        long startMask = -1L << start;
+        long endMask = -1L >>> (BITS_PER_WORD - 1 - end % BITS_PER_WORD);
+        if (startIndex == endIndex) {
+            words[startIndex] |= startMask & endMask;
+            return;
+        }
+        words[startIndex] |= startMask;
+        for (int i = startIndex + 1; i < endIndex; i++) {
+            words[i] = -1L;
+        }
+        words[endIndex] |= endMask;
+    }
+}
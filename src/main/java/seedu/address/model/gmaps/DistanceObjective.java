@@ -0,0 +1,39 @@
+package seedu.address.model.gmaps;
+
+/**
+ * How the distances from every source location to a meeting point are combined to rank meeting points.
+ */
+public enum DistanceObjective {
+    /** Ranks meeting points by the average distance travelled. */
+    AVERAGE("Avg distance", "Average travelling distance/meters"),
+    /** Ranks meeting points by the longest distance anyone travels. */
+    MINIMAX("Max distance", "Maximum travelling distance/meters");
+
+    private final String label;
+    private final String description;
+
+    DistanceObjective(String label, String description) {
+        this.label = label;
+        this.description = description;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the DistanceObjective with the name, ignoring case, or AVERAGE if there is none.
+     */
+    public static DistanceObjective findDistanceObjective(String name) {
+        for (DistanceObjective objective : values()) {
+            if (objective.name().equalsIgnoreCase(name)) {
+                return objective;
+            }
+        }
+        return AVERAGE;
+    }
+}
@@ -26,6 +26,14 @@ public class Location {
         this.lat = lat;
     }
 
+    public String getLat() {
+        return lat;
+    }
+
+    public String getLng() {
+        return lng;
+    }
+
     public String getLatLng() {
         return lat + "," + lng;
     }
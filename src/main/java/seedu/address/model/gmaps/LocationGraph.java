@@ -1,24 +1,37 @@
 package seedu.address.model.gmaps;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
 
 /**
- * This is the graph object that contains the information for location vertex
+ * This is the graph object that contains the information for location vertex.
+ * The distances between valid locations are kept row-major in a single array, so that the row of a location holds
+ * the distances from it to every valid location. The graph can also carry the table of the closest meeting points of
+ * each valid location, so that it is saved and loaded together with the distances it was computed from.
  */
 public class LocationGraph {
+    public static final int NO_DISTANCE = -1;
+
     private ArrayList<Location> locations;
 
     private ArrayList<Location> validLocationList;
 
-    private ArrayList<ArrayList<Long>> distanceMatrix;
+    private int size;
+
+    private int[] distanceMatrix;
+
+    private NearestMeetingPoints nearestMeetingPoints;
 
     public LocationGraph(ArrayList<Location> locations, ArrayList<Location> validLocationList,
-                         ArrayList<ArrayList<Long>> distanceMatrix) {
+                         int[] distanceMatrix) {
+        assert distanceMatrix.length == validLocationList.size() * validLocationList.size();
         this.locations = locations;
         this.validLocationList = validLocationList;
+        this.size = validLocationList.size();
         this.distanceMatrix = distanceMatrix;
     }
 
@@ -30,16 +43,62 @@ public class LocationGraph {
         return locations;
     }
 
+    /**
+     * Returns the number of valid locations, which is the number of rows and columns of the matrix.
+     */
+    public int getSize() {
+        return size;
+    }
 
-    public ArrayList<Long> getLocationRow(int index) throws IllegalValueException {
-        if (distanceMatrix.size() <= index) {
-            throw new IllegalValueException("Index " + index + "exceeds the size of the matrix");
-        } else {
-            return distanceMatrix.get(index);
+    /**
+     * Returns the distance in meters from one valid location to another, or NO_DISTANCE if it is not known.
+     */
+    public int getDistance(int from, int to) {
+        return distanceMatrix[from * size + to];
+    }
+
+    /**
+     * Returns the distances from the valid location at index to every valid location.
+     */
+    public int[] getLocationRow(int index) throws IllegalValueException {
+        checkIndex(index);
+        return Arrays.copyOfRange(distanceMatrix, index * size, (index + 1) * size);
+    }
+
+    /**
+     * Returns the distances from every valid location to the valid location at index.
+     */
+    public int[] getLocationColumn(int index) throws IllegalValueException {
+        checkIndex(index);
+        int[] column = new int[size];
+        for (int i = 0; i < size; i++) {
+            column[i] = distanceMatrix[i * size + index];
         }
+        return column;
     }
 
-    public ArrayList<ArrayList<Long>> getDistanceMatrix() {
+    /**
+     * Returns the row-major distance matrix. It must not be modified.
+     */
+    public int[] getDistanceMatrix() {
         return distanceMatrix;
     }
+
+    public Optional<NearestMeetingPoints> getNearestMeetingPoints() {
+        return Optional.ofNullable(nearestMeetingPoints);
+    }
+
+    /**
+     * Sets the table of the closest meeting points of each valid location, computed from this graph.
+     */
+    public void setNearestMeetingPoints(NearestMeetingPoints nearestMeetingPoints) {
+        assert nearestMeetingPoints == null || nearestMeetingPoints.getSize() == size;
+        this.nearestMeetingPoints = nearestMeetingPoints;
+    }
+
+    private void checkIndex(int index) throws IllegalValueException {
+        if (index < 0 || size <= index) {
+            throw new IllegalValueException("Index " + index + "exceeds the size of the matrix");
+        }
+    }
 }
@@ -0,0 +1,123 @@
+package seedu.address.model.gmaps;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Looks up locations and valid locations by name.
+ *
+ * Names are resolved through hash maps, and location names are also kept in a prefix trie so that suggestions do not
+ * have to scan every location. Suggestions are returned in the order of the locations.
+ */
+public class LocationIndex {
+    public static final String NUS_PREFIX = "NUS_";
+    public static final int NOT_FOUND = -1;
+
+    private final ArrayList<Location> locations;
+    private final ArrayList<Location> validLocationList;
+    private final HashMap<String, Integer> locationIndexes = new HashMap<>();
+    private final HashMap<String, Integer> validLocationIndexes = new HashMap<>();
+    private final TrieNode root = new TrieNode();
+
+    public LocationIndex(ArrayList<Location> locations, ArrayList<Location> validLocationList) {
+        requireNonNull(locations);
+        requireNonNull(validLocationList);
+        this.locations = locations;
+        this.validLocationList = validLocationList;
+
+        for (int i = 0; i < locations.size(); i++) {
+            String locationName = locations.get(i).getLocationName();
+            locationIndexes.putIfAbsent(locationName, i);
+            root.add(locationName, i);
+        }
+        for (int i = 0; i < validLocationList.size(); i++) {
+            validLocationIndexes.putIfAbsent(validLocationList.get(i).getLocationName(), i);
+        }
+    }
+
+    /**
+     * Returns the index of the first location with the name, or NOT_FOUND.
+     */
+    public int indexOfLocation(String locationName) {
+        return locationIndexes.getOrDefault(locationName, NOT_FOUND);
+    }
+
+    /**
+     * Returns the index of the first valid location with the name, or NOT_FOUND.
+     */
+    public int indexOfValidLocation(String validLocationName) {
+        return validLocationIndexes.getOrDefault(validLocationName, NOT_FOUND);
+    }
+
+    /**
+     * Returns the index of the valid location that a location name refers to, or NOT_FOUND.
+     * The name can either be that of a location, that of a valid location without its NUS_ prefix, or that of an
+     * unknown venue within the building of a valid location, such as a room that is not in NUSMods. A location
+     * without a valid location of its own is also looked up by its building.
+     */
+    public int indexOfValidLocationFor(String locationName) {
+        requireNonNull(locationName);
+        int locationIndex = indexOfLocation(locationName);
+        if (locationIndex != NOT_FOUND) {
+            String validLocationName = locations.get(locationIndex).getValidLocation();
+            int validLocationIndex = validLocationName == null ? NOT_FOUND : indexOfValidLocation(validLocationName);
+            if (validLocationIndex != NOT_FOUND) {
+                return validLocationIndex;
+            }
+        }
+        int validLocationIndex = indexOfValidLocation(NUS_PREFIX + locationName);
+        if (validLocationIndex != NOT_FOUND) {
+            return validLocationIndex;
+        }
+        return indexOfValidLocation(NUS_PREFIX + locationName.split("[-/_]")[0]);
+    }
+
+    /**
+     * Returns the names of the locations that start with the prefix.
+     */
+    public ArrayList<String> suggest(String prefix) {
+        requireNonNull(prefix);
+        ArrayList<String> suggestions = new ArrayList<>();
+        TrieNode node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node != null) {
+            for (int index : node.indexes) {
+                suggestions.add(locations.get(index).getLocationName());
+            }
+        }
+        return suggestions;
+    }
+
+    public ArrayList<Location> getLocations() {
+        return locations;
+    }
+
+    public ArrayList<Location> getValidLocationList() {
+        return validLocationList;
+    }
+
+    /**
+     * A node of the trie, holding the indexes of every location whose name passes through it, in ascending order.
+     */
+    private static class TrieNode {
+        private final HashMap<Character, TrieNode> children = new HashMap<>();
+        private final List<Integer> indexes = new ArrayList<>();
+
+        /**
+         * Adds the location at index along the path of its name.
+         */
+        private void add(String locationName, int index) {
+            TrieNode node = this;
+            node.indexes.add(index);
+            for (int i = 0; i < locationName.length(); i++) {
+                node = node.children.computeIfAbsent(locationName.charAt(i), c -> new TrieNode());
+                node.indexes.add(index);
+            }
+        }
+    }
+}
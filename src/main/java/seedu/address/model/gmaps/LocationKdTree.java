@@ -0,0 +1,138 @@
+package seedu.address.model.gmaps;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * A 2-d tree over the coordinates of locations, to find the location nearest to a point.
+ *
+ * Coordinates are projected onto a plane around the mean latitude of the locations, which is accurate over an area
+ * the size of a campus.
+ */
+public class LocationKdTree {
+    public static final int NOT_FOUND = -1;
+
+    private static final double EARTH_RADIUS_METERS = 6371008.8;
+
+    // The tree is stored implicitly: the root of each range of nodes is the node in its middle.
+    private final int[] nodes;
+    private final double[] xs;
+    private final double[] ys;
+    private final double cosReferenceLat;
+
+    /**
+     * Builds the tree over the locations at each index that have coordinates. Coordinates that are NaN are left out.
+     */
+    public LocationKdTree(double[] lats, double[] lngs) {
+        requireNonNull(lats);
+        requireNonNull(lngs);
+        assert lats.length == lngs.length;
+
+        int count = 0;
+        double latSum = 0;
+        for (int i = 0; i < lats.length; i++) {
+            if (!Double.isNaN(lats[i]) && !Double.isNaN(lngs[i])) {
+                count++;
+                latSum += lats[i];
+            }
+        }
+        cosReferenceLat = count == 0 ? 1 : Math.cos(Math.toRadians(latSum / count));
+
+        xs = new double[lats.length];
+        ys = new double[lats.length];
+        Integer[] points = new Integer[count];
+        for (int i = 0, j = 0; i < lats.length; i++) {
+            if (!Double.isNaN(lats[i]) && !Double.isNaN(lngs[i])) {
+                xs[i] = x(lngs[i]);
+                ys[i] = y(lats[i]);
+                points[j++] = i;
+            }
+        }
+        build(points, 0, count, 0);
+        nodes = Arrays.stream(points).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the index of the location nearest to the point, or NOT_FOUND if there are no locations.
+     */
+    public int nearest(double lat, double lng) {
+        Nearest nearest = new Nearest();
+        search(x(lng), y(lat), 0, nodes.length, 0, nearest);
+        return nearest.index;
+    }
+
+    /**
+     * Returns the great-circle distance in meters between two points.
+     */
+    public static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLng / 2), 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private double x(double lng) {
+        return Math.toRadians(lng) * cosReferenceLat * EARTH_RADIUS_METERS;
+    }
+
+    private double y(double lat) {
+        return Math.toRadians(lat) * EARTH_RADIUS_METERS;
+    }
+
+    /**
+     * Arranges the points from start to end so that the middle point splits them along the axis of the depth.
+     */
+    private void build(Integer[] points, int start, int end, int depth) {
+        if (end - start <= 1) {
+            return;
+        }
+        double[] axis = depth % 2 == 0 ? xs : ys;
+        Arrays.sort(points, start, end, Comparator.comparingDouble(point -> axis[point]));
+        int middle = (start + end) >>> 1;
+        build(points, start, middle, depth + 1);
+        build(points, middle + 1, end, depth + 1);
+    }
+
+    /**
+     * Updates nearest with the nodes from start to end that are nearer to the point.
+     */
+    private void search(double x, double y, int start, int end, int depth, Nearest nearest) {
+        if (start >= end) {
+            return;
+        }
+        int middle = (start + end) >>> 1;
+        int node = nodes[middle];
+        double dx = x - xs[node];
+        double dy = y - ys[node];
+        double squaredDistance = dx * dx + dy * dy;
+        if (squaredDistance < nearest.squaredDistance
+                || squaredDistance == nearest.squaredDistance && node < nearest.index) {
+            nearest.squaredDistance = squaredDistance;
+            nearest.index = node;
+        }
+
+        double split = depth % 2 == 0 ? dx : dy;
+        if (split < 0) {
+            search(x, y, start, middle, depth + 1, nearest);
+            if (split * split <= nearest.squaredDistance) {
+                search(x, y, middle + 1, end, depth + 1, nearest);
+            }
+        } else {
+            search(x, y, middle + 1, end, depth + 1, nearest);
+            if (split * split <= nearest.squaredDistance) {
+                search(x, y, start, middle, depth + 1, nearest);
+            }
+        }
+    }
+
+    /**
+     * The nearest node found so far.
+     */
+    private static class Nearest {
+        private int index = NOT_FOUND;
+        private double squaredDistance = Double.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.gmaps;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Table of the closest meeting points of every valid location, for lookups that start from a single venue.
+ *
+ * Each valid location has up to depth meeting points, closest first, stored with their distances in a row of two
+ * flat arrays. Rows with fewer meeting points are padded with NO_POINT.
+ */
+public class NearestMeetingPoints {
+    public static final int NO_POINT = -1;
+
+    private final int size;
+    private final int depth;
+    private final int[] points;
+    private final int[] distances;
+
+    /**
+     * Creates a table from its rows.
+     *
+     * @param size number of valid locations.
+     * @param depth maximum number of meeting points of each valid location.
+     * @param points indexes of the meeting points of each valid location, row by row.
+     * @param distances distances in meters to the meeting points, row by row.
+     */
+    public NearestMeetingPoints(int size, int depth, int[] points, int[] distances) {
+        requireNonNull(points);
+        requireNonNull(distances);
+        assert size >= 0 && depth >= 0;
+        assert points.length == size * depth && distances.length == size * depth;
+        this.size = size;
+        this.depth = depth;
+        this.points = points;
+        this.distances = distances;
+    }
+
+    /**
+     * Returns the number of valid locations in the table.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of meeting points kept for each valid location.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the index of the meeting point of a valid location at the rank, or NO_POINT if it has fewer points.
+     */
+    public int getPoint(int validLocation, int rank) {
+        return points[validLocation * depth + rank];
+    }
+
+    /**
+     * Returns the distance to the meeting point of a valid location at the rank.
+     */
+    public int getDistance(int validLocation, int rank) {
+        return distances[validLocation * depth + rank];
+    }
+
+    /**
+     * Returns the meeting points of every valid location, row by row. It must not be modified.
+     */
+    public int[] getPoints() {
+        return points;
+    }
+
+    /**
+     * Returns the distances to the meeting points of every valid location, row by row. It must not be modified.
+     */
+    public int[] getDistances() {
+        return distances;
+    }
+}
@@ -1,6 +1,14 @@
 package seedu.address.model.module;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -11,15 +19,48 @@ import seedu.address.model.module.exceptions.ModuleNotFoundException;
  */
 public class ModuleList {
     private ArrayList<Module> modules;
+    // Modules that are known to exist but have not been loaded yet.
+    private Set<ModuleId> unloadedModuleIds;
+    private Function<ModuleId, Optional<Module>> loader;
 
     public ModuleList() {
         this.modules = new ArrayList<>();
+        this.unloadedModuleIds = new LinkedHashSet<>();
+        this.loader = moduleId -> Optional.empty();
+    }
+
+    /**
+     * Creates a list of the modules with the given ids, each of which is loaded only once it is needed.
+     *
+     * @param moduleIds ids of the modules in the list.
+     * @param loader loads the module with an id, or returns empty if it cannot be loaded.
+     */
+    public ModuleList(Collection<ModuleId> moduleIds, Function<ModuleId, Optional<Module>> loader) {
+        requireNonNull(moduleIds);
+        requireNonNull(loader);
+        this.modules = new ArrayList<>();
+        this.unloadedModuleIds = new LinkedHashSet<>(moduleIds);
+        this.loader = loader;
     }
 
+    /**
+     * Adds a loaded module.
+     */
     public void addModule(Module module) {
+        this.unloadedModuleIds.remove(module.getModuleId());
         this.modules.add(module);
     }
 
+    /**
+     * Returns true if the list has a module with the id, without loading it.
+     */
+    public boolean contains(ModuleId id) {
+        if (unloadedModuleIds.contains(id)) {
+            return true;
+        }
+        return modules.stream().anyMatch(module -> module.getModuleId().equals(id));
+    }
+
     /**
      * Finds a module using the academic year and module code, and returns the module.
      *
@@ -32,13 +73,39 @@ public class ModuleList {
                 return module;
             }
         }
+        if (unloadedModuleIds.remove(id)) {
+            Optional<Module> module = loader.apply(id);
+            if (module.isPresent()) {
+                modules.add(module.get());
+                return module.get();
+            }
+        }
         throw new ModuleNotFoundException(id.getModuleCode().toString());
     }
 
+    /**
+     * Returns every module, loading the modules that have not been loaded yet.
+     */
     public ArrayList<Module> getModules() {
+        for (ModuleId id : new ArrayList<>(unloadedModuleIds)) {
+            loader.apply(id).ifPresent(modules::add);
+        }
+        unloadedModuleIds.clear();
         return this.modules;
     }
 
+    /**
+     * Returns the ids of every module, without loading them.
+     */
+    public List<ModuleId> getModuleIds() {
+        List<ModuleId> moduleIds = new ArrayList<>();
+        for (Module module : modules) {
+            moduleIds.add(module.getModuleId());
+        }
+        moduleIds.addAll(unloadedModuleIds);
+        return moduleIds;
+    }
+
     /**
      * Converts to String.
      *
@@ -46,8 +113,9 @@ public class ModuleList {
      */
     public String toString() {
         String output = "";
-        for (int i = 0; i < modules.size(); i++) {
-            output += modules.get(i).toString();
+        ArrayList<Module> allModules = getModules();
+        for (int i = 0; i < allModules.size(); i++) {
+            output += allModules.get(i).toString();
             output += "\n";
         }
         return output;
@@ -58,7 +126,7 @@ public class ModuleList {
      * @return ObservableList
      */
     public ObservableList<Module> asUnmodifiableObservableList() {
-        ObservableList<Module> observableList = FXCollections.observableArrayList(modules);
+        ObservableList<Module> observableList = FXCollections.observableArrayList(getModules());
         return FXCollections.unmodifiableObservableList(observableList);
     }
 }
@@ -89,7 +89,7 @@ public class Semester {
             return true;
         } else if (s.semesterNo.equals(this.semesterNo)
                 && s.timetable.equals(this.timetable)
-                && s.exam.equals(this.exam)) {
+                && Objects.equals(s.exam, this.exam)) {
             return true;
         } else {
             return false;
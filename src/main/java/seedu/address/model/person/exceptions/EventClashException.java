@@ -1,6 +1,7 @@
 package seedu.address.model.person.exceptions;
 
 import seedu.address.model.person.schedule.Event;
+import seedu.address.model.person.schedule.TimeslotClash;
 
 /**
  * Represents an error when an event clash is encountered.
@@ -11,6 +12,10 @@ public class EventClashException extends Exception {
         super("Clash in event: " + event.getEventName());
     }
 
+    public EventClashException(TimeslotClash clash) {
+        super("Clash in event: " + clash.toString());
+    }
+
     public EventClashException() {
         super("Clash in event.");
     }
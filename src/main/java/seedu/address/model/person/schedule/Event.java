@@ -1,6 +1,7 @@
 package seedu.address.model.person.schedule;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Event of a Schedule.
@@ -105,14 +106,6 @@ public class Event {
      * @return boolean
      */
     public boolean isClash(Event other) {
-        ArrayList<Timeslot> otherTimeslots = other.getTimeslots();
-        for (int i = 0; i < timeslots.size(); i++) {
-            for (int j = 0; j < otherTimeslots.size(); j++) {
-                if (timeslots.get(i).isClash(otherTimeslots.get(j))) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return TimeslotClashChecker.hasClash(List.of(this, other));
     }
 }
@@ -0,0 +1,22 @@
+package seedu.address.model.person.schedule;
+
+/**
+ * A Timeslot together with the Event it belongs to.
+ */
+public class EventTimeslot {
+    private final Event event;
+    private final Timeslot timeslot;
+
+    public EventTimeslot(Event event, Timeslot timeslot) {
+        this.event = event;
+        this.timeslot = timeslot;
+    }
+
+    public Event getEvent() {
+        return this.event;
+    }
+
+    public Timeslot getTimeslot() {
+        return this.timeslot;
+    }
+}
@@ -1,6 +1,10 @@
 package seedu.address.model.person.schedule;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
 
 import seedu.address.model.person.PersonId;
 import seedu.address.model.person.exceptions.EventClashException;
@@ -12,6 +16,10 @@ import seedu.address.model.person.exceptions.EventNotFoundException;
 public class Schedule {
     private final PersonId personId;
     private ArrayList<Event> events;
+    private int version;
+
+    private TreeMap<LocalDateTime, ArrayList<EventTimeslot>> timeslotIndex;
+    private int timeslotIndexVersion;
 
     public Schedule(PersonId personId) {
         this.personId = personId;
@@ -30,19 +38,25 @@ public class Schedule {
      * @throws EventClashException when there is a clash in the events
      */
     public void addEvent(Event event) throws EventClashException {
-        if (isClash(event)) {
-            throw new EventClashException(event);
+        ArrayList<TimeslotClash> clashes = findClashes(List.of(event));
+        if (!clashes.isEmpty()) {
+            throw new EventClashException(clashes.get(0));
         } else if (isEventExist(event)) {
 
             Event currentEvent = findEvent(event.getEventName());
             if (currentEvent != null) {
                 currentEvent.addTimeslot(event.getTimeslots());
+                version++;
+                addToTimeslotIndex(currentEvent, event.getTimeslots());
+                return;
             } else {
                 this.events.add(event);
             }
         } else {
             this.events.add(event);
         }
+        version++;
+        addToTimeslotIndex(event, event.getTimeslots());
     }
 
     /**
@@ -54,7 +68,9 @@ public class Schedule {
     public void deleteEvent(String eventName) throws EventNotFoundException {
         for (int i = 0; i < events.size(); i++) {
             if (events.get(i).getEventName().equals(eventName)) {
-                events.remove(i);
+                Event removedEvent = events.remove(i);
+                version++;
+                removeFromTimeslotIndex(removedEvent);
                 return;
             }
         }
@@ -62,6 +78,78 @@ public class Schedule {
     }
 
 
+    /**
+     * Returns the timeslots of all events that start from {@code start} (inclusive) to {@code end} (exclusive),
+     * in order of their start time.
+     *
+     * @param start of the range
+     * @param end of the range
+     * @return ArrayList of EventTimeslots
+     */
+    public synchronized ArrayList<EventTimeslot> timeslotsBetween(LocalDateTime start, LocalDateTime end) {
+        ArrayList<EventTimeslot> timeslots = new ArrayList<>();
+        if (!start.isBefore(end)) {
+            return timeslots;
+        }
+
+        if (timeslotIndex == null || timeslotIndexVersion != version) {
+            buildTimeslotIndex();
+        }
+        for (Collection<EventTimeslot> startingTimeslots : timeslotIndex.subMap(start, true, end, false).values()) {
+            timeslots.addAll(startingTimeslots);
+        }
+        return timeslots;
+    }
+
+    /**
+     * Adds timeslots of an event to the index, if the index was up to date before they were added.
+     */
+    private synchronized void addToTimeslotIndex(Event event, List<Timeslot> timeslots) {
+        if (timeslotIndex == null || timeslotIndexVersion != version - 1) {
+            return;
+        }
+
+        for (Timeslot timeslot : timeslots) {
+            timeslotIndex.computeIfAbsent(timeslot.getStartTime(), k -> new ArrayList<>())
+                    .add(new EventTimeslot(event, timeslot));
+        }
+        timeslotIndexVersion = version;
+    }
+
+    /**
+     * Removes the timeslots of an event from the index, if the index was up to date before it was removed.
+     */
+    private synchronized void removeFromTimeslotIndex(Event event) {
+        if (timeslotIndex == null || timeslotIndexVersion != version - 1) {
+            return;
+        }
+
+        for (Timeslot timeslot : event.getTimeslots()) {
+            ArrayList<EventTimeslot> startingTimeslots = timeslotIndex.get(timeslot.getStartTime());
+            if (startingTimeslots != null) {
+                startingTimeslots.removeIf(eventTimeslot -> eventTimeslot.getEvent() == event);
+                if (startingTimeslots.isEmpty()) {
+                    timeslotIndex.remove(timeslot.getStartTime());
+                }
+            }
+        }
+        timeslotIndexVersion = version;
+    }
+
+    /**
+     * Indexes the timeslots of all events by their start time.
+     */
+    private void buildTimeslotIndex() {
+        timeslotIndex = new TreeMap<>();
+        for (Event event : events) {
+            for (Timeslot timeslot : event.getTimeslots()) {
+                timeslotIndex.computeIfAbsent(timeslot.getStartTime(), k -> new ArrayList<>())
+                        .add(new EventTimeslot(event, timeslot));
+            }
+        }
+        timeslotIndexVersion = version;
+    }
+
     /**
      * Converts to String.
      *
@@ -89,12 +177,34 @@ public class Schedule {
      * @return boolean
      */
     public boolean isClash(Event event) {
-        for (int i = 0; i < events.size(); i++) {
-            if (event.isClash(events.get(i))) {
-                return true;
+        return TimeslotClashChecker.hasClash(toEventTimeslots(List.of(event)), allTimeslots());
+    }
+
+    /**
+     * Returns the clashes between the timeslots of the events and those in the schedule.
+     *
+     * @param events to be checked
+     * @return ArrayList of TimeslotClashes, with the timeslot of the events first
+     */
+    public ArrayList<TimeslotClash> findClashes(List<Event> events) {
+        return TimeslotClashChecker.findClashes(toEventTimeslots(events), allTimeslots());
+    }
+
+    private ArrayList<EventTimeslot> allTimeslots() {
+        return timeslotsBetween(LocalDateTime.MIN, LocalDateTime.MAX);
+    }
+
+    /**
+     * Pairs each timeslot of the events with its event.
+     */
+    private static ArrayList<EventTimeslot> toEventTimeslots(List<Event> events) {
+        ArrayList<EventTimeslot> eventTimeslots = new ArrayList<>();
+        for (Event event : events) {
+            for (Timeslot timeslot : event.getTimeslots()) {
+                eventTimeslots.add(new EventTimeslot(event, timeslot));
             }
         }
-        return false;
+        return eventTimeslots;
     }
 
     /**
@@ -134,4 +244,11 @@ public class Schedule {
     public PersonId getPersonId() {
         return this.personId;
     }
+
+    /**
+     * Returns the number of times events have been added to or deleted from this schedule.
+     */
+    public int getVersion() {
+        return this.version;
+    }
 }
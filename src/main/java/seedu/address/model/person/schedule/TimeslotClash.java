@@ -0,0 +1,33 @@
+package seedu.address.model.person.schedule;
+
+/**
+ * A pair of timeslots of different events that clash with each other.
+ */
+public class TimeslotClash {
+    private final EventTimeslot eventTimeslot;
+    private final EventTimeslot otherEventTimeslot;
+
+    public TimeslotClash(EventTimeslot eventTimeslot, EventTimeslot otherEventTimeslot) {
+        this.eventTimeslot = eventTimeslot;
+        this.otherEventTimeslot = otherEventTimeslot;
+    }
+
+    public EventTimeslot getEventTimeslot() {
+        return this.eventTimeslot;
+    }
+
+    public EventTimeslot getOtherEventTimeslot() {
+        return this.otherEventTimeslot;
+    }
+
+    /**
+     * Converts to String.
+     *
+     * @return String
+     */
+    public String toString() {
+        return eventTimeslot.getEvent().getEventName() + " (" + eventTimeslot.getTimeslot().toString().trim()
+                + ") clashes with " + otherEventTimeslot.getEvent().getEventName()
+                + " (" + otherEventTimeslot.getTimeslot().toString().trim() + ")";
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.model.person.schedule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Finds clashing timeslots by sweeping over them in order of their start time.
+ * Only timeslots that are still running when a timeslot starts are compared with it.
+ */
+public class TimeslotClashChecker {
+
+    private TimeslotClashChecker() {
+    }
+
+    /**
+     * Returns the clashes between the timeslots of different events.
+     *
+     * @param events to be checked
+     * @return ArrayList of TimeslotClashes, with the earlier event of each pair first
+     */
+    public static ArrayList<TimeslotClash> findClashes(List<Event> events) {
+        return sweep(groupEvents(events), false);
+    }
+
+    /**
+     * Returns the clashes between a timeslot in timeslots and a timeslot in otherTimeslots.
+     * Clashes within each list are not reported.
+     *
+     * @param timeslots to be checked
+     * @param otherTimeslots to be checked against
+     * @return ArrayList of TimeslotClashes, with the timeslot from timeslots first
+     */
+    public static ArrayList<TimeslotClash> findClashes(List<EventTimeslot> timeslots,
+                                                       List<EventTimeslot> otherTimeslots) {
+        return sweep(groupTimeslots(timeslots, otherTimeslots), false);
+    }
+
+    /**
+     * Checks if the timeslots of different events clash.
+     *
+     * @param events to be checked
+     * @return boolean
+     */
+    public static boolean hasClash(List<Event> events) {
+        return !sweep(groupEvents(events), true).isEmpty();
+    }
+
+    /**
+     * Checks if a timeslot in timeslots clashes with a timeslot in otherTimeslots.
+     *
+     * @param timeslots to be checked
+     * @param otherTimeslots to be checked against
+     * @return boolean
+     */
+    public static boolean hasClash(List<EventTimeslot> timeslots, List<EventTimeslot> otherTimeslots) {
+        return !sweep(groupTimeslots(timeslots, otherTimeslots), true).isEmpty();
+    }
+
+    /**
+     * Tags the timeslots of each event with the index of the event.
+     */
+    private static ArrayList<GroupedTimeslot> groupEvents(List<Event> events) {
+        ArrayList<GroupedTimeslot> groupedTimeslots = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            for (Timeslot timeslot : event.getTimeslots()) {
+                groupedTimeslots.add(new GroupedTimeslot(i, new EventTimeslot(event, timeslot)));
+            }
+        }
+        return groupedTimeslots;
+    }
+
+    /**
+     * Tags timeslots with 0 and otherTimeslots with 1.
+     */
+    private static ArrayList<GroupedTimeslot> groupTimeslots(List<EventTimeslot> timeslots,
+                                                             List<EventTimeslot> otherTimeslots) {
+        ArrayList<GroupedTimeslot> groupedTimeslots = new ArrayList<>();
+        for (EventTimeslot timeslot : timeslots) {
+            groupedTimeslots.add(new GroupedTimeslot(0, timeslot));
+        }
+        for (EventTimeslot timeslot : otherTimeslots) {
+            groupedTimeslots.add(new GroupedTimeslot(1, timeslot));
+        }
+        return groupedTimeslots;
+    }
+
+    /**
+     * Returns the clashes between timeslots of different groups.
+     * Stops at the first clash if isFirstOnly is true.
+     */
+    private static ArrayList<TimeslotClash> sweep(ArrayList<GroupedTimeslot> groupedTimeslots, boolean isFirstOnly) {
+        ArrayList<TimeslotClash> clashes = new ArrayList<>();
+        groupedTimeslots.sort(Comparator.comparing(GroupedTimeslot::getStartTime));
+
+        ArrayList<GroupedTimeslot> running = new ArrayList<>();
+        for (GroupedTimeslot current : groupedTimeslots) {
+            //Timeslots that have ended cannot clash with this or any later timeslot.
+            running.removeIf(other -> !other.getEndTime().isAfter(current.getStartTime()));
+
+            for (GroupedTimeslot other : running) {
+                if (other.group == current.group || !other.getTimeslot().isClash(current.getTimeslot())) {
+                    continue;
+                }
+
+                if (other.group < current.group) {
+                    clashes.add(new TimeslotClash(other.eventTimeslot, current.eventTimeslot));
+                } else {
+                    clashes.add(new TimeslotClash(current.eventTimeslot, other.eventTimeslot));
+                }
+                if (isFirstOnly) {
+                    return clashes;
+                }
+            }
+            running.add(current);
+        }
+        return clashes;
+    }
+
+    /**
+     * An EventTimeslot tagged with the group it is checked as part of.
+     */
+    private static class GroupedTimeslot {
+        private final int group;
+        private final EventTimeslot eventTimeslot;
+
+        GroupedTimeslot(int group, EventTimeslot eventTimeslot) {
+            this.group = group;
+            this.eventTimeslot = eventTimeslot;
+        }
+
+        Timeslot getTimeslot() {
+            return eventTimeslot.getTimeslot();
+        }
+
+        LocalDateTime getStartTime() {
+            return eventTimeslot.getTimeslot().getStartTime();
+        }
+
+        LocalDateTime getEndTime() {
+            return eventTimeslot.getTimeslot().getEndTime();
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.address.ui.popup;
 
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.ui.UiPart;
+import seedu.address.ui.util.AsyncImageLoader;
 
 /**
  * UI component to show a location card. Used to show the top 3 locations in LocationView objects.
@@ -25,12 +28,13 @@ public class LocationCard extends UiPart<Region> {
     @FXML
     private ImageView locationMap;
 
-    public LocationCard(String title, Image image, String locationName, String locationDistance) {
+    public LocationCard(String title, CompletableFuture<BufferedImage> image, String locationName,
+                        String locationDistance) {
         super(FXML);
         locationTitle.setText(title);
         locationNameLabel.setText(locationName);
         locationAvgTravelDistanceLabel.setText(locationDistance);
-        locationMap.setImage(image);
+        AsyncImageLoader.load(locationMap, image, () -> locationMap.setImage(null));
         locationMap.setFitHeight(400.0);
         locationMap.setFitWidth(400.0);
     }
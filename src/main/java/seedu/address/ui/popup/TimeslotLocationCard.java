@@ -1,15 +1,19 @@
 package seedu.address.ui.popup;
 
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.fxml.FXML;
-import javafx.scene.image.Image;
+import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.ui.UiPart;
+import seedu.address.ui.util.AsyncImageLoader;
 
 /**
  * UI component to show a timeslot location card.
- * Will not show anything if location not available.
+ * Shows that the location is not available if it has no image.
  */
 public class TimeslotLocationCard extends UiPart<Region> {
     private static final String FXML = "TimeslotLocationCard.fxml";
@@ -20,14 +24,14 @@ public class TimeslotLocationCard extends UiPart<Region> {
     @FXML
     private ImageView timeslotLocationMap;
 
-    public TimeslotLocationCard(Image image) {
+    public TimeslotLocationCard(CompletableFuture<BufferedImage> image) {
         super(FXML);
 
-        if (image != null) {
-            timeslotLocationMap.setImage(image);
-            timeslotLocationMap.setFitHeight(400.0);
-            timeslotLocationMap.setFitWidth(400.0);
-        }
+        AsyncImageLoader.load(timeslotLocationMap, image, () -> {
+            timeslotLocationCardContainer.getChildren().setAll(new Label("Location is not available"));
+        });
+        timeslotLocationMap.setFitHeight(400.0);
+        timeslotLocationMap.setFitWidth(400.0);
     }
 
 }
@@ -1,10 +1,8 @@
 package seedu.address.ui.popup;
 
-import javafx.embed.swing.SwingFXUtils;
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
@@ -39,13 +37,12 @@ public class TimeslotView extends UiPart<Region> {
         TimeslotOverview overview = new TimeslotOverview(data);
         timeslotOverview.getChildren().add(overview.getRoot());
 
-        try {
-            Image image = SwingFXUtils.toFXImage(locationData.getImageFirst(), null);
-            timeslotLocationCard.getChildren().add(
-                    new TimeslotLocationCard(image).getRoot());
-        } catch (NullPointerException npe) {
+        if (locationData == null || locationData.getClosestLocations().isEmpty()) {
             timeslotLocationCard.getChildren().add(
                     new Label("Location is not available"));
+        } else {
+            timeslotLocationCard.getChildren().add(
+                    new TimeslotLocationCard(locationData.getImageAsync(0)).getRoot());
         }
     }
 
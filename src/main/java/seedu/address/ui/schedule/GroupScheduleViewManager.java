@@ -20,10 +20,10 @@ public class GroupScheduleViewManager extends ScheduleViewManager {
     private List<PersonSchedule> originalPersonSchedules;
     private List<PersonSchedule> filteredPersonSchedules;
     private GroupName groupName;
-    private ArrayList<FreeSchedule> freeSchedules;
+    private List<FreeSchedule> freeSchedules;
 
     public GroupScheduleViewManager(List<PersonSchedule> originalPersonSchedules,
-                                    GroupName groupName, ArrayList<FreeSchedule> freeSchedules) {
+                                    GroupName groupName, List<FreeSchedule> freeSchedules) {
         this.originalPersonSchedules = originalPersonSchedules;
         this.filteredPersonSchedules = originalPersonSchedules;
         this.groupName = groupName;
@@ -47,10 +47,19 @@ public class GroupScheduleViewManager extends ScheduleViewManager {
 
         super.scheduleView = new ScheduleView(weekSchedules, title, dateToShow);
         //Required to set the free time schedule first before generating the schedule.
-        super.scheduleView.setFreeTime(freeSchedules.get(weekNumberShown));
+        super.scheduleView.setFreeTime(freeSchedules.get(weekNumberShown), getMemberNames());
         super.scheduleView.generateSchedule();
     }
 
+    /**
+     * Returns the names of every member, in the order their schedules were combined into the free schedules.
+     */
+    private List<String> getMemberNames() {
+        return originalPersonSchedules.stream()
+                .map(personSchedule -> personSchedule.getPersonDisplay().getName().toString())
+                .collect(Collectors.toList());
+    }
+
     /**
      * Filters the given person schedules with a given list of names.
      * @param filteredList List of names to be filtered.
@@ -76,7 +85,7 @@ public class GroupScheduleViewManager extends ScheduleViewManager {
 
     @Override
     public void toggleNext() {
-        super.weekNumberShown = (weekNumberShown + 1) % 4;
+        super.weekNumberShown = (weekNumberShown + 1) % freeSchedules.size();
     }
 
     @Override
@@ -88,7 +97,7 @@ public class GroupScheduleViewManager extends ScheduleViewManager {
         String title = "Week " + (weekNumberShown + 1) + " " + groupName.toString();
 
         ScheduleView copy = new ScheduleView(weekSchedules, title, currentDate.plusDays(7 * weekNumberShown));
-        copy.setFreeTime(freeSchedules.get(weekNumberShown));
+        copy.setFreeTime(freeSchedules.get(weekNumberShown), getMemberNames());
         copy.generateSchedule();
         return copy;
     }
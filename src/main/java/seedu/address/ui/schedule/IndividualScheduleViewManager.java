@@ -56,7 +56,7 @@ public class IndividualScheduleViewManager extends ScheduleViewManager {
 
     @Override
     public void toggleNext() {
-        super.weekNumberShown = (weekNumberShown + 1) % 4;
+        super.weekNumberShown = (weekNumberShown + 1) % personSchedule.getScheduleDisplay().size();
     }
 
     @Override
@@ -53,6 +53,9 @@ public class ScheduleView extends UiPart<Region> {
     private List<WeekSchedule> schedulesShown;
     private LocalDate now;
     private HashMap<LocalDate, StackPane> dateStackPanes;
+    // The free time of a group shown, and the names of all its members, which are null for other schedules.
+    private FreeSchedule freeSchedule;
+    private List<String> memberNames;
 
     public ScheduleView(List<WeekSchedule> weekSchedules, String title, LocalDate date) {
         super(FXML);
@@ -122,7 +125,7 @@ public class ScheduleView extends UiPart<Region> {
                 VBox individualSchedule = new VBox();
                 //Pad in offset region first.
                 individualSchedule.getChildren().addAll(new Block(HALF_HOUR).makeEmptyBlock(),
-                        getDayVBoxOfIndividualSchedule(eventsToday));
+                        getDayVBoxOfIndividualSchedule(now.plusDays(i - 1).getDayOfWeek(), eventsToday));
                 //Change line 99 for collapsible blocks.
                 individualSchedule.setPrefWidth(PREFERRED_BLOCK_WIDTH / schedulesShown.size());
                 combinedSchedules.getChildren().add(individualSchedule);
@@ -196,10 +199,11 @@ public class ScheduleView extends UiPart<Region> {
     /**
      * Creates a graphic that represents the occupied/busy time slots of an individual for a particular day.
      *
+     * @param day The day of the time slots.
      * @param daySchedule List that contains all occupied time slots of the individual on a particular day.
      * @return VBox that represents the individual's busy time slots for this particular day.
      */
-    private VBox getDayVBoxOfIndividualSchedule(ArrayList<PersonTimeslot> daySchedule) {
+    private VBox getDayVBoxOfIndividualSchedule(DayOfWeek day, ArrayList<PersonTimeslot> daySchedule) {
         VBox timeSlotContainer = new VBox();
         timeSlotContainer.setId("timeSlotContainer");
         HBox.setHgrow(timeSlotContainer, Priority.ALWAYS);
@@ -216,7 +220,8 @@ public class ScheduleView extends UiPart<Region> {
             }
             Region busyTimeslot = new Block(TimeUtil.getTimeDifference(startTime, endTime))
                     .makeColouredBlockWithText(timeslot.getColor(), timeslot.getDisplayString(),
-                            ToolTipFormatter.formatTooltipMessage(timeslot));
+                            ToolTipFormatter.formatTooltipMessage(timeslot, getBusyMemberNames(day,
+                                    startTime)));
             timeSlotContainer.getChildren().add(busyTimeslot);
             originalTimeStamp = endTime;
         }
@@ -230,11 +235,28 @@ public class ScheduleView extends UiPart<Region> {
         return timeSlotContainer;
     }
 
+    /**
+     * Returns the names of the members of the group shown who are busy at time, or none if no group is shown.
+     */
+    private List<String> getBusyMemberNames(DayOfWeek day, LocalTime time) {
+        List<String> busyMemberNames = new ArrayList<>();
+        if (freeSchedule == null) {
+            return busyMemberNames;
+        }
+        for (int member : freeSchedule.getBusyMembers(day, time)) {
+            busyMemberNames.add(memberNames.get(member));
+        }
+        return busyMemberNames;
+    }
+
     /**
      * Sets the free times of a group into the group schedule.
      * @param schedule A schedule that contains the available time for all group members.
+     * @param memberNames The names of all members of the group, in the order their schedules were combined.
      */
-    public void setFreeTime(FreeSchedule schedule) {
+    public void setFreeTime(FreeSchedule schedule, List<String> memberNames) {
+        this.freeSchedule = schedule;
+        this.memberNames = memberNames;
         HashMap<DayOfWeek, ArrayList<FreeTimeslot>> vacantSchedule = schedule.getFreeSchedule();
         for (int i = 1; i <= 7; i++) {
             StackPane dateStackPane = dateStackPanes.get(now.plusDays(i - 1));
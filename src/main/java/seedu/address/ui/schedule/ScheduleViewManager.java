@@ -64,7 +64,12 @@ public abstract class ScheduleViewManager {
     private static boolean areSchedulesValid(ArrayList<PersonSchedule> personSchedules) {
         boolean isValid = true;
         for (PersonSchedule personSchedule : personSchedules) {
-            for (int i = 0; i < 4; i++) {
+            //Only weeks that have already been generated are checked, as the rest are generated when shown.
+            for (int i = 0; i < personSchedule.getScheduleDisplay().size(); i++) {
+                if (!personSchedule.isWeekGenerated(i)) {
+                    continue;
+                }
+
                 for (int j = 1; j <= 7; j++) {
                     ArrayList<PersonTimeslot> timeSlots = personSchedule
                             .getScheduleDisplay().get(i).get(DayOfWeek.of(j));
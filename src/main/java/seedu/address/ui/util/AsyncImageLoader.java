@@ -0,0 +1,45 @@
+package seedu.address.ui.util;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+
+import javafx.application.Platform;
+import javafx.embed.swing.SwingFXUtils;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Shows images that are loaded in the background, with a blank placeholder until they are ready.
+ */
+public class AsyncImageLoader {
+
+    /**
+     * Shows the image in the view once it is loaded, or runs onMissing on the JavaFX thread if there is no image.
+     * The view shows a blank placeholder of the same size until then.
+     */
+    public static void load(ImageView view, CompletableFuture<BufferedImage> image, Runnable onMissing) {
+        if (image.isDone() && !image.isCompletedExceptionally()) {
+            show(view, toFxImage(image.join()), onMissing);
+            return;
+        }
+        view.setImage(new WritableImage(1, 1));
+        image.thenApply(AsyncImageLoader::toFxImage)
+                .whenComplete((fxImage, e) -> Platform.runLater(() -> show(view, fxImage, onMissing)));
+    }
+
+    /**
+     * Shows the image in the view, or runs onMissing if it is null.
+     */
+    private static void show(ImageView view, Image image, Runnable onMissing) {
+        if (image == null) {
+            onMissing.run();
+        } else {
+            view.setImage(image);
+        }
+    }
+
+    private static Image toFxImage(BufferedImage image) {
+        return image == null ? null : SwingFXUtils.toFXImage(image, null);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.ui.util;
 
+import java.util.List;
+
 import seedu.address.model.display.timeslots.PersonTimeslot;
 
 /**
@@ -16,4 +18,18 @@ public class ToolTipFormatter {
         return timeslot.getEventName() + " " + timeslot.getStartTime() + " - "
                 + timeslot.getEndTime() + locationText;
     }
+
+    /**
+     * Formats the tool tip message of a PersonTimeslot object in a group, with the members busy when it starts.
+     * @param timeslot
+     * @param busyMembers names of the members who are busy when the timeslot starts.
+     * @return
+     */
+    public static String formatTooltipMessage(PersonTimeslot timeslot, List<String> busyMembers) {
+        String message = formatTooltipMessage(timeslot);
+        if (busyMembers.isEmpty()) {
+            return message;
+        }
+        return message + "\nBusy at " + timeslot.getStartTime() + ": " + String.join(", ", busyMembers);
+    }
 }
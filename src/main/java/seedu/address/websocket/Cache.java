@@ -9,10 +9,18 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.ConnectException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javax.imageio.ImageIO;
@@ -28,7 +36,6 @@ import seedu.address.commons.util.JsonUtil;
 import seedu.address.commons.util.SimpleJsonUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.gmaps.Location;
 import seedu.address.model.module.AcadCalendar;
 import seedu.address.model.module.Holidays;
 import seedu.address.model.module.Module;
@@ -58,9 +65,23 @@ public class Cache {
     }
 
     private static NusModsApi api = new NusModsApi(AppSettings.DEFAULT_ACAD_YEAR);
-    private static Optional<Object> gmapsPlaces = load(CacheFileNames.GMAPS_PLACES_PATH);
-    private static Optional<Object> gmapsDistanceMatrix = load(CacheFileNames.GMAPS_DISTANCE_MATRIX_PATH);
-    private static Optional<Object> gmapsPlaceDetails = load(CacheFileNames.GMAPS_PLACE_DETAILS_PATH);
+    // Loaded on first use, as the location graph is usually read from its compiled artifact instead.
+    private static final JournalStore gmapsPlaces = new JournalStore(
+            getWritablePath(CacheFileNames.GMAPS_PLACES_PATH), () -> load(CacheFileNames.GMAPS_PLACES_PATH),
+            JournalStore.DEFAULT_COMPACTION_THRESHOLD);
+    private static final JournalStore gmapsDistanceMatrix = new JournalStore(
+            getWritablePath(CacheFileNames.GMAPS_DISTANCE_MATRIX_PATH), () ->
+            load(CacheFileNames.GMAPS_DISTANCE_MATRIX_PATH), JournalStore.DEFAULT_COMPACTION_THRESHOLD);
+    // Opened on first use, importing the modules file if the store is empty.
+    private static ModuleStore moduleStore;
+    // Modules parsed from moduleStore, keyed by their ModuleId as a string.
+    private static final Map<String, Module> modules = new HashMap<>();
+    private static final ImageCache images = new ImageCache(Cache::decodeImage,
+            Executors.newFixedThreadPool(2, runnable -> {
+                Thread thread = new Thread(runnable, "image-decoder");
+                thread.setDaemon(true);
+                return thread;
+            }), AppSettings.DEFAULT_IMAGE_CACHE_MEGABYTES * 1024L * 1024L);
 
     /**
      * Saves JSON object to file in writable directory path.
@@ -81,27 +102,6 @@ public class Cache {
         }
     }
 
-    /**
-     * Adds and saves a JSON element to a particular JSON file. Overwrites if key already exists.
-     *
-     * @param key      key of element to add.
-     * @param value    value of element to add.
-     * @param filePath file path to JSON file.
-     */
-    public static void saveToJson(String key, Object value, String filePath) {
-        requireNonNull(key);
-        requireNonNull(value);
-        requireNonNull(filePath);
-
-        Optional<Object> optionalObject = load(filePath);
-        JSONObject jsonObject = new JSONObject();
-        if (optionalObject.isPresent()) {
-            jsonObject = (JSONObject) optionalObject.get();
-        }
-        jsonObject.put(key, value);
-        save(jsonObject, filePath);
-    }
-
     /**
      * Loads JSON file from JAR resources.
      * @param path Relative path (starting with backslash).
@@ -140,6 +140,71 @@ public class Cache {
         return objOptional;
     }
 
+    /**
+     * Opens a file in writable directory path, or from JAR resources if it is not there.
+     *
+     * @param filePath file name to open.
+     * @return an Optional containing a stream of the file or empty.
+     */
+    private static Optional<InputStream> openStream(String filePath) {
+        requireNonNull(filePath);
+        logger.info("Opening: " + filePath);
+
+        Path fullPath = Path.of(writablePath, filePath);
+        if (Files.isRegularFile(fullPath)) {
+            try {
+                return Optional.of(Files.newInputStream(fullPath));
+            } catch (IOException e) {
+                logger.warning("Failed to open " + fullPath + ": " + StringUtil.getDetails(e));
+            }
+        }
+        return Optional.ofNullable(Cache.class.getResourceAsStream(filePath));
+    }
+
+    /**
+     * Returns the path of a file in the writable directory.
+     *
+     * @param filePath file path relative to the writable directory.
+     * @return the full path.
+     */
+    public static Path getWritablePath(String filePath) {
+        requireNonNull(filePath);
+        return Path.of(writablePath, filePath);
+    }
+
+    /**
+     * Returns a stamp of the files that changes whenever any of them is saved again, taking each file from the
+     * writable directory or, if it is not there, from JAR resources like {@code load} does.
+     *
+     * @param filePaths file paths relative to the writable directory.
+     * @return the stamp of the files.
+     */
+    public static long getStamp(String... filePaths) {
+        long stamp = 1;
+        for (String filePath : filePaths) {
+            long size = -1;
+            long lastModified = -1;
+            Path fullPath = Path.of(writablePath, filePath);
+            try {
+                if (Files.isRegularFile(fullPath)) {
+                    size = Files.size(fullPath);
+                    lastModified = Files.getLastModifiedTime(fullPath).toMillis();
+                } else {
+                    URL url = Cache.class.getResource(filePath);
+                    if (url != null) {
+                        URLConnection connection = url.openConnection();
+                        size = connection.getContentLengthLong();
+                        lastModified = connection.getLastModified();
+                    }
+                }
+            } catch (IOException e) {
+                logger.warning("Failed to read attributes of " + filePath + ": " + StringUtil.getDetails(e));
+            }
+            stamp = 31 * (31 * stamp + size) + lastModified;
+        }
+        return stamp;
+    }
+
     // ================================== NusMods Methods ==============================================
 
     /**
@@ -194,15 +259,14 @@ public class Cache {
      * @return an Optional containing a ModuleSummaryList object or empty.
      */
     public static Optional<ModuleSummaryList> loadModuleSummaryList() {
-        Optional<Object> objOptional = load(CacheFileNames.MODULES_SUMMARY);
-        ModuleSummaryList moduleSummaryList = new ModuleSummaryList();
+        Optional<InputStream> streamOptional = openStream(CacheFileNames.MODULES_SUMMARY);
 
         JSONObject modulesSummariesJson = new JSONObject();
-        if (objOptional.isPresent()) {
-            JSONObject moduleSummariesJson = (JSONObject) objOptional.get();
-            JSONArray moduleSummariesSingleYear = (JSONArray) moduleSummariesJson.get(api.getAcadYear().toString());
+        if (streamOptional.isPresent()) {
+            // Streamed, as the summaries of every year would otherwise be read into a JSONObject first.
             try {
-                return Optional.of(NusModsParser.parseModuleSummaryList(moduleSummariesSingleYear, api.getAcadYear()));
+                return Optional.of(NusModsStreamParser.parseModuleSummaryList(streamOptional.get(),
+                        api.getAcadYear()));
             } catch (ParseException e) {
                 logger.severe("Failed to parse module summaries: " + e.getMessage());
                 return Optional.empty();
@@ -231,22 +295,25 @@ public class Cache {
      *
      * @return an Optional containing a ModuleList object or empty.
      */
-    public static Optional<ModuleList> loadModuleList() {
-        Optional<Object> objOptional = load(CacheFileNames.MODULES);
-        ModuleList moduleList = new ModuleList();
-
-        if (objOptional.isPresent()) { // found cached file
-            JSONObject modulesJson = (JSONObject) objOptional.get();
-            for (Object key : modulesJson.keySet()) {
-                JSONObject moduleJson = (JSONObject) modulesJson.get(key);
-                try {
-                    Module module = NusModsParser.parseModule(moduleJson);
-                    moduleList.addModule(module);
-                } catch (ParseException e) {
-                    logger.severe("Failed to parse module: " + e.getMessage());
+    public static synchronized Optional<ModuleList> loadModuleList() {
+        ModuleStore store = loadModuleStore();
+
+        if (store.size() > 0) { // found cached modules
+            // Only the keys are read here. Each module is decoded the first time it is needed.
+            List<ModuleId> moduleIds = new ArrayList<>();
+            for (String key : store.keys()) {
+                String[] parts = key.split(" ");
+                if (parts.length == 2) {
+                    moduleIds.add(new ModuleId(parts[0], parts[1]));
+                } else {
+                    logger.warning("Ignoring cached module with invalid key: " + key);
                 }
             }
-            return Optional.of(moduleList);
+            return Optional.of(new ModuleList(moduleIds, moduleId -> {
+                synchronized (Cache.class) {
+                    return findCachedModule(moduleId.toString());
+                }
+            }));
         }
 
         logger.warning("No modules in cache. Will be calling from API for each module.");
@@ -260,36 +327,97 @@ public class Cache {
      * @return an Optional containing a Module object or empty.
      */
     public static Optional<Module> loadModule(ModuleId moduleId) {
-        Optional<Object> objOptional = load(CacheFileNames.MODULES);
+        return loadModuleAsync(moduleId).join();
+    }
+
+    /**
+     * Loads a module like {@code loadModule}, but without waiting for the api, so that many modules can be requested
+     * at once.
+     *
+     * @return a future of an Optional containing a Module object or empty.
+     */
+    public static CompletableFuture<Optional<Module>> loadModuleAsync(ModuleId moduleId) {
+        requireNonNull(moduleId);
+        synchronized (Cache.class) {
+            Optional<Module> moduleOptional = findCachedModule(moduleId.toString());
+            if (moduleOptional.isPresent()) {
+                return CompletableFuture.completedFuture(moduleOptional);
+            }
+        }
 
-        JSONObject modulesJson = new JSONObject();
-        if (objOptional.isPresent()) { // found cached file
-            modulesJson = (JSONObject) objOptional.get();
-            if (modulesJson.containsKey(moduleId.toString())) { // found moduleId in cached file
-                JSONObject moduleJson = (JSONObject) modulesJson.get(moduleId.toString());
+        // The API is called outside the lock, so that cached modules can still be loaded meanwhile.
+        logger.info("Module " + moduleId + " not found in cache, getting from API...");
+        return api.getModuleAsync(moduleId.getModuleCode()).thenApply(jsonObjFromApiOptional -> {
+            if (jsonObjFromApiOptional.isPresent()) { // found module from API
                 try {
-                    return Optional.of(NusModsParser.parseModule(moduleJson));
+                    Module module = NusModsParser.parseModule(jsonObjFromApiOptional.get());
+                    saveModule(module, jsonObjFromApiOptional.get());
+                    return Optional.of(module);
                 } catch (ParseException e) {
-                    logger.severe("Failed to parse module from cache: " + e.getMessage());
+                    logger.severe("Failed to parse module: " + e.getMessage());
                 }
             }
-        }
 
-        logger.info("Module " + moduleId + " not found in cache, getting from API...");
-        Optional<JSONObject> jsonObjFromApiOptional = api.getModule(moduleId.getModuleCode());
-        if (jsonObjFromApiOptional.isPresent()) { // found module from API
-            try {
-                Module module = NusModsParser.parseModule(jsonObjFromApiOptional.get());
-                modulesJson.put(module.getModuleId(), jsonObjFromApiOptional.get());
-                save(modulesJson, CacheFileNames.MODULES);
-                return Optional.of(module);
-            } catch (ParseException e) {
-                logger.severe("Failed to parse module: " + e.getMessage());
+            logger.severe("Failed to get module from API! Unable to add mod to schedules.");
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * Returns the module store, opening it the first time. An empty store is filled from the modules file, if there
+     * is one.
+     */
+    private static ModuleStore loadModuleStore() {
+        assert Thread.holdsLock(Cache.class);
+        if (moduleStore == null) {
+            moduleStore = new ModuleStore(getWritablePath(CacheFileNames.MODULES_STORE));
+            if (moduleStore.size() == 0) {
+                Optional<Object> modulesJson = load(CacheFileNames.MODULES);
+                if (modulesJson.isPresent()) {
+                    Map<String, String> records = new HashMap<>();
+                    for (Object entry : ((JSONObject) modulesJson.get()).entrySet()) {
+                        Map.Entry<?, ?> module = (Map.Entry<?, ?>) entry;
+                        records.put(module.getKey().toString(), ((JSONObject) module.getValue()).toJSONString());
+                    }
+                    logger.info("Importing " + records.size() + " modules into the module store");
+                    moduleStore.addAll(records);
+                    moduleStore.writeDirectory();
+                }
             }
         }
+        return moduleStore;
+    }
 
-        logger.severe("Failed to get module from API! Unable to add mod to schedules.");
-        return Optional.empty();
+    /**
+     * Returns the module stored with the key, parsing it only the first time.
+     */
+    private static Optional<Module> findCachedModule(String key) {
+        assert Thread.holdsLock(Cache.class);
+        Module module = modules.get(key);
+        if (module != null) {
+            return Optional.of(module);
+        }
+        Optional<String> moduleJson = loadModuleStore().get(key);
+        if (moduleJson.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            module = NusModsStreamParser.parseModule(moduleJson.get());
+            modules.put(key, module);
+            return Optional.of(module);
+        } catch (ParseException e) {
+            logger.severe("Failed to parse module from cache: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Adds a module from the API to the module store.
+     */
+    private static synchronized void saveModule(Module module, JSONObject moduleJson) {
+        String key = module.getModuleId().toString();
+        loadModuleStore().add(key, moduleJson.toJSONString());
+        modules.put(key, module);
     }
 
     /**
@@ -327,21 +455,15 @@ public class Cache {
     public static JSONObject loadPlaces(String locationName) {
         String fullUrl = UrlUtil.generateGmapsPlacesUrl(locationName);
         String sanitizedUrl = UrlUtil.sanitizeApiKey(fullUrl);
-        JSONObject placesJson = new JSONObject();
 
-        if (gmapsPlaces.isPresent()) {
-            placesJson = (JSONObject) gmapsPlaces.get();
-        }
-
-        JSONObject result = new JSONObject();
-        if (placesJson.get(sanitizedUrl) != null) {
-            result = (JSONObject) placesJson.get(sanitizedUrl);
-        } else {
+        JSONObject result = gmapsPlaces.get(sanitizedUrl);
+        if (result == null) {
+            result = new JSONObject();
             try {
                 checkGmapsKey(fullUrl);
                 logger.info("Getting location: " + locationName + " data from Google Maps API");
                 result = GmapsApi.getLocation(locationName);
-                saveToJson(sanitizedUrl, result, CacheFileNames.GMAPS_PLACES_PATH);
+                gmapsPlaces.put(sanitizedUrl, result);
             } catch (ConnectException e) {
                 logger.info(e.getMessage());
                 logger.severe("Failed to get info for " + locationName + " from caching and API");
@@ -351,38 +473,22 @@ public class Cache {
     }
 
     /**
-     * This method is used to load the info of the place by Google Maps from the cache or Google Maps API
+     * Loads every cached Distance Matrix API response, keyed by the url of its request without the API key.
      *
-     * @param locationsRow
-     * @param locationsColumn
-     * @return
+     * @return a JSONObject of the responses, which is empty if there is no cache.
      */
-    public static JSONObject loadDistanceMatrix(ArrayList<Location> locationsRow, ArrayList<Location> locationsColumn) {
-        String fullUrl = UrlUtil.generateGmapsDistanceMatrixUrl(locationsRow, locationsColumn);
-        String sanitizedUrl = UrlUtil.sanitizeApiKey(fullUrl);
-        JSONObject distanceMatrixJson = new JSONObject();
-
-        if (gmapsDistanceMatrix.isPresent()) {
-            distanceMatrixJson = (JSONObject) gmapsDistanceMatrix.get();
-        }
+    public static JSONObject loadDistanceMatrices() {
+        return gmapsDistanceMatrix.getResponses();
+    }
 
-        JSONObject result = new JSONObject();
-        if (distanceMatrixJson.get(sanitizedUrl) != null) {
-            result = (JSONObject) distanceMatrixJson.get(sanitizedUrl);
-        } else {
-            try {
-                logger.info("Getting row: " + locationsRow + " column " + locationsColumn
-                        + " data from Google Maps API");
-                checkGmapsKey(fullUrl);
-                result = GmapsApi.getDistanceMatrix(locationsRow, locationsColumn);
-                saveToJson(sanitizedUrl, result, CacheFileNames.GMAPS_DISTANCE_MATRIX_PATH);
-            } catch (ConnectException e) {
-                logger.info(e.getMessage());
-                logger.severe("Failed to get info for row: " + locationsRow + " column: " + locationsColumn
-                        + " from caching and API");
-            }
-        }
-        return result;
+    /**
+     * Adds Distance Matrix API responses to the cache and saves them with a single append to its journal.
+     *
+     * @param responses responses keyed by the url of their request without the API key.
+     */
+    public static void saveDistanceMatrices(Map<String, JSONObject> responses) {
+        requireNonNull(responses);
+        gmapsDistanceMatrix.putAll(responses);
     }
 
     private static void checkGmapsKey(String url) throws ConnectException {
@@ -416,6 +522,39 @@ public class Cache {
      * @return
      */
     public static BufferedImage loadImage(String validLocation) {
+        return images.get(validLocation);
+    }
+
+    /**
+     * Loads the image from the resources dir in the background.
+     *
+     * @param validLocation the location name with prefix NUS_
+     * @return a future of the image, which is null if there is no image.
+     */
+    public static CompletableFuture<BufferedImage> loadImageAsync(String validLocation) {
+        return images.getAsync(validLocation);
+    }
+
+    /**
+     * Loads the images of the locations in the background, so that they are ready when they are shown.
+     *
+     * @param validLocations the location names with prefix NUS_
+     */
+    public static void prefetchImages(Collection<String> validLocations) {
+        images.prefetch(validLocations);
+    }
+
+    /**
+     * Sets the maximum number of bytes of decoded images kept in memory.
+     */
+    public static void setImageCacheBudget(long bytes) {
+        images.setByteBudget(bytes);
+    }
+
+    /**
+     * Decodes the image from the resources dir, or returns null if it cannot be read.
+     */
+    private static BufferedImage decodeImage(String validLocation) {
         String path = loadImagePath(validLocation);
         final InputStream resourceStream = Cache.class.getResourceAsStream(path);
         BufferedImage img = null;
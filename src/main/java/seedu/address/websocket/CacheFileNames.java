@@ -10,6 +10,7 @@ public class CacheFileNames {
     public static final String NUSMODS_FOLDER_PATH = "NusModsApi/";
 
     public static final String MODULES = CACHE_FOLDER_PATH + NUSMODS_FOLDER_PATH + "modules.json";
+    public static final String MODULES_STORE = CACHE_FOLDER_PATH + NUSMODS_FOLDER_PATH + "modules.store";
     public static final String MODULES_SUMMARY = CACHE_FOLDER_PATH + NUSMODS_FOLDER_PATH + "modules_summary.json";
     public static final String HOLIDAYS = CACHE_FOLDER_PATH + NUSMODS_FOLDER_PATH + "holidays.json";
     public static final String ACADEMIC_CALENDAR = CACHE_FOLDER_PATH + NUSMODS_FOLDER_PATH + "academic_calendar.json";
@@ -18,6 +19,11 @@ public class CacheFileNames {
     public static final String VENUES_FULL_PATH = CACHE_FOLDER_PATH + NUSMODS_FOLDER_PATH + "Venues.json";
     public static final String GMAPS_DISTANCE_MATRIX_PATH = CACHE_FOLDER_PATH + GMAPS_FOLDER_PATH
             + "DistanceMatrix.json";
+    public static final String GMAPS_LOCATION_GRAPH_PATH = CACHE_FOLDER_PATH + GMAPS_FOLDER_PATH
+            + "LocationGraph.bin";
     public static final String GMAPS_PLACES_PATH = CACHE_FOLDER_PATH + GMAPS_FOLDER_PATH + "Places.json";
+    public static final String GMAPS_DISTANCE_MATRIX_JOURNAL_PATH = GMAPS_DISTANCE_MATRIX_PATH
+            + JournalStore.JOURNAL_EXTENSION;
+    public static final String GMAPS_PLACES_JOURNAL_PATH = GMAPS_PLACES_PATH + JournalStore.JOURNAL_EXTENSION;
     public static final String GMAPS_PLACE_DETAILS_PATH = CACHE_FOLDER_PATH + GMAPS_FOLDER_PATH + "PlaceDetails.json";
 }
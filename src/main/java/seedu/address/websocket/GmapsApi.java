@@ -31,36 +31,28 @@ public class GmapsApi {
      */
     public static JSONObject getDistanceMatrix(ArrayList<Location> locationsRow, ArrayList<Location> locationsColumn)
             throws InvalidParameterException, ConnectException {
-        ApiQuery query = new ApiQuery(UrlUtil.generateGmapsDistanceMatrixUrl(locationsRow, locationsColumn));
-        QueryResult queryResult = query.execute();
-        logger.info("Calling " + UrlUtil.generateGmapsDistanceMatrixUrl(locationsRow, locationsColumn));
-        if (queryResult.process(logger)) {
-            JSONObject obj = ParserUtil.parseStringToJsonObject(queryResult.getResponseResult());
-            return obj;
-        } else {
-            throw new ConnectException("Connection Error");
-        }
+        return query(UrlUtil.generateGmapsDistanceMatrixUrl(locationsRow, locationsColumn));
     }
 
     public static JSONObject getLocation(String locationName) throws ConnectException {
-        ApiQuery query = new ApiQuery(UrlUtil.generateGmapsPlacesUrl(locationName));
-        QueryResult queryResult = query.execute();
-        logger.info("Calling " + UrlUtil.generateGmapsPlacesUrl(locationName));
-        if (queryResult.process(logger)) {
-            JSONObject obj = ParserUtil.parseStringToJsonObject(queryResult.getResponseResult());
-            return obj;
-        } else {
-            throw new ConnectException("Connection Error");
-        }
+        return query(UrlUtil.generateGmapsPlacesUrl(locationName));
     }
 
     public static JSONObject getPlaceDetails(String placeId) throws ConnectException {
-        ApiQuery query = new ApiQuery(UrlUtil.generateGmapsPlaceDetailsUrl(placeId));
-        QueryResult queryResult = query.execute();
-        logger.info("Calling " + UrlUtil.generateGmapsPlaceDetailsUrl(placeId));
+        return query(UrlUtil.generateGmapsPlaceDetailsUrl(placeId));
+    }
+
+    /**
+     * Executes a query on the url and parses its response.
+     * @param url of the query
+     * @return JSONObject of api call
+     * @throws ConnectException if the query failed
+     */
+    private static JSONObject query(String url) throws ConnectException {
+        logger.info("Calling " + UrlUtil.sanitizeApiKey(url));
+        QueryResult queryResult = new ApiQuery(url).execute();
         if (queryResult.process(logger)) {
-            JSONObject obj = ParserUtil.parseStringToJsonObject(queryResult.getResponseResult());
-            return obj;
+            return ParserUtil.parseStringToJsonObject(queryResult.getResponseResult());
         } else {
             throw new ConnectException("Connection Error");
         }
@@ -0,0 +1,193 @@
+package seedu.address.websocket;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.lang.ref.SoftReference;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of decoded images.
+ *
+ * The least recently used images are evicted once the decoded images take up more than the byte budget. Images are
+ * held through soft references, so they can still be reclaimed under memory pressure. Images can be decoded in the
+ * background, and an image is only decoded once even if it is requested again while it is being decoded.
+ */
+public class ImageCache {
+    private final Function<String, BufferedImage> decoder;
+    private final Executor executor;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<BufferedImage>> decoding = new HashMap<>();
+    private long byteBudget;
+    private long bytes;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param decoder decodes the image with a name, returning null if there is no such image.
+     * @param executor runs background decoding.
+     * @param byteBudget maximum number of bytes of decoded images to hold.
+     */
+    public ImageCache(Function<String, BufferedImage> decoder, Executor executor, long byteBudget) {
+        requireNonNull(decoder);
+        requireNonNull(executor);
+        this.decoder = decoder;
+        this.executor = executor;
+        this.byteBudget = byteBudget;
+    }
+
+    /**
+     * Returns the image with the name, decoding it on this thread if it is not cached or being decoded.
+     */
+    public BufferedImage get(String name) {
+        requireNonNull(name);
+        CompletableFuture<BufferedImage> pending;
+        synchronized (this) {
+            BufferedImage image = getIfPresent(name);
+            if (image != null) {
+                return image;
+            }
+            pending = decoding.get(name);
+        }
+        if (pending != null) {
+            return pending.join();
+        }
+        BufferedImage image = decoder.apply(name);
+        put(name, image);
+        return image;
+    }
+
+    /**
+     * Returns a future of the image with the name, which is decoded in the background if it is not cached.
+     */
+    public synchronized CompletableFuture<BufferedImage> getAsync(String name) {
+        requireNonNull(name);
+        BufferedImage image = getIfPresent(name);
+        if (image != null) {
+            return CompletableFuture.completedFuture(image);
+        }
+        CompletableFuture<BufferedImage> pending = decoding.get(name);
+        if (pending != null) {
+            return pending;
+        }
+
+        CompletableFuture<BufferedImage> decode = new CompletableFuture<>();
+        decoding.put(name, decode);
+        executor.execute(() -> {
+            try {
+                BufferedImage decoded = decoder.apply(name);
+                put(name, decoded);
+                decode.complete(decoded);
+            } catch (RuntimeException e) {
+                decode.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    decoding.remove(name);
+                }
+            }
+        });
+        return decode;
+    }
+
+    /**
+     * Decodes the images with the names in the background, so that they are cached before they are needed.
+     */
+    public void prefetch(Collection<String> names) {
+        requireNonNull(names);
+        for (String name : names) {
+            getAsync(name);
+        }
+    }
+
+    /**
+     * Returns the cached image with the name, or null if it is not cached.
+     */
+    public synchronized BufferedImage getIfPresent(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return null;
+        }
+        BufferedImage image = entry.image.get();
+        if (image == null) {
+            entries.remove(name);
+            bytes -= entry.bytes;
+        }
+        return image;
+    }
+
+    /**
+     * Sets the maximum number of bytes of decoded images to hold, evicting images until they fit.
+     */
+    public synchronized void setByteBudget(long byteBudget) {
+        this.byteBudget = byteBudget;
+        evictUntil(byteBudget);
+    }
+
+    /**
+     * Returns the number of bytes of the cached images.
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Caches the image unless it is null or larger than the whole budget.
+     */
+    private synchronized void put(String name, BufferedImage image) {
+        if (image == null) {
+            return;
+        }
+        long size = sizeOf(image);
+        if (size > byteBudget) {
+            return;
+        }
+        Entry previous = entries.remove(name);
+        if (previous != null) {
+            bytes -= previous.bytes;
+        }
+        evictUntil(byteBudget - size);
+        entries.put(name, new Entry(image, size));
+        bytes += size;
+    }
+
+    /**
+     * Evicts the least recently used images until the cached images take up at most maxBytes.
+     */
+    private void evictUntil(long maxBytes) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (bytes > maxBytes && iterator.hasNext()) {
+            bytes -= iterator.next().bytes;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Returns the number of bytes holding the pixels of the image.
+     */
+    private static long sizeOf(BufferedImage image) {
+        DataBuffer dataBuffer = image.getRaster().getDataBuffer();
+        return (long) dataBuffer.getSize() * dataBuffer.getNumBanks()
+                * DataBuffer.getDataTypeSize(dataBuffer.getDataType()) / Byte.SIZE;
+    }
+
+    /**
+     * A cached image and its size.
+     */
+    private static class Entry {
+        private final SoftReference<BufferedImage> image;
+        private final long bytes;
+
+        private Entry(BufferedImage image, long bytes) {
+            this.image = new SoftReference<>(image);
+            this.bytes = bytes;
+        }
+    }
+}
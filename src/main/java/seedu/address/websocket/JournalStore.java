@@ -0,0 +1,210 @@
+package seedu.address.websocket;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A cache of JSON responses keyed by string, saved as a JSON object plus an append-only journal of the responses added
+ * since.
+ *
+ * Every response is held in memory, so it can be looked up as soon as it is added. Adding a response appends a single
+ * line to the journal and forces it to disk, instead of rewriting the whole JSON object. Once the journal holds
+ * compactionThreshold records, the responses are written back to the JSON object and the journal is deleted.
+ *
+ * If the application stops while a record is being appended, the incomplete record is dropped when the journal is
+ * next read. If it stops during compaction, the journal is replayed over the new JSON object, which already holds its
+ * records.
+ */
+public class JournalStore {
+    public static final String JOURNAL_EXTENSION = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 64;
+
+    private static final String KEY = "key";
+    private static final String VALUE = "value";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalStore.class);
+
+    private final Path jsonPath;
+    private final Path journalPath;
+    private final Supplier<Optional<Object>> snapshot;
+    private final int compactionThreshold;
+    private JSONObject responses;
+    private int journalRecords;
+
+    /**
+     * Creates a store that is read on first use.
+     *
+     * @param jsonPath path of the JSON object that the store is compacted into.
+     * @param snapshot loads the last compacted JSON object, if there is one.
+     * @param compactionThreshold number of journal records that triggers a compaction.
+     */
+    public JournalStore(Path jsonPath, Supplier<Optional<Object>> snapshot, int compactionThreshold) {
+        requireNonNull(jsonPath);
+        requireNonNull(snapshot);
+        assert compactionThreshold > 0;
+        this.jsonPath = jsonPath;
+        this.journalPath = jsonPath.resolveSibling(jsonPath.getFileName() + JOURNAL_EXTENSION);
+        this.snapshot = snapshot;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the response with the key, or null if there is none.
+     */
+    public synchronized JSONObject get(String key) {
+        requireNonNull(key);
+        return (JSONObject) getResponses().get(key);
+    }
+
+    /**
+     * Returns every response, keyed like the JSON object. It is updated as responses are added and must not be
+     * modified.
+     */
+    public synchronized JSONObject getResponses() {
+        if (responses == null) {
+            responses = snapshot.get().map(obj -> (JSONObject) obj).orElseGet(JSONObject::new);
+            replayJournal();
+        }
+        return responses;
+    }
+
+    /**
+     * Adds a response, replacing any response with the same key.
+     */
+    public void put(String key, JSONObject response) {
+        requireNonNull(key);
+        requireNonNull(response);
+        putAll(Map.of(key, response));
+    }
+
+    /**
+     * Adds the responses with a single append to the journal, replacing any responses with the same keys.
+     */
+    public synchronized void putAll(Map<String, JSONObject> newResponses) {
+        requireNonNull(newResponses);
+        if (newResponses.isEmpty()) {
+            return;
+        }
+        getResponses().putAll(newResponses);
+
+        StringBuilder records = new StringBuilder();
+        for (Map.Entry<String, JSONObject> entry : newResponses.entrySet()) {
+            JSONObject record = new JSONObject();
+            record.put(KEY, entry.getKey());
+            record.put(VALUE, entry.getValue());
+            records.append(record.toJSONString()).append('\n');
+        }
+        try {
+            FileUtil.createParentDirsOfFile(journalPath);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            journalRecords += newResponses.size();
+        } catch (IOException e) {
+            logger.warning("Failed to append to " + journalPath + ": " + StringUtil.getDetails(e));
+        }
+
+        if (journalRecords >= compactionThreshold) {
+            compact();
+        }
+    }
+
+    /**
+     * Writes every response to the JSON object and deletes the journal. The JSON object is replaced only once it has
+     * been written in full.
+     */
+    public synchronized void compact() {
+        JSONObject allResponses = getResponses();
+        Path tempPath = jsonPath.resolveSibling(jsonPath.getFileName() + ".tmp");
+        try {
+            FileUtil.createParentDirsOfFile(jsonPath);
+            Files.write(tempPath, allResponses.toJSONString().getBytes(StandardCharsets.UTF_8));
+            Files.move(tempPath, jsonPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(journalPath);
+            logger.info("Compacted " + journalRecords + " journal records into " + jsonPath);
+            journalRecords = 0;
+        } catch (IOException e) {
+            logger.warning("Failed to compact " + journalPath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the number of records in the journal.
+     */
+    public synchronized int getJournalRecords() {
+        getResponses();
+        return journalRecords;
+    }
+
+    /**
+     * Adds the records in the journal to the responses. The journal is truncated before the first record that cannot
+     * be read, such as one left incomplete by a crash, so that later records are not appended after it.
+     */
+    private void replayJournal() {
+        if (!Files.isRegularFile(journalPath)) {
+            return;
+        }
+        try {
+            byte[] journal = Files.readAllBytes(journalPath);
+            JSONParser parser = new JSONParser();
+            int start = 0;
+            for (int end = 0; end < journal.length; end++) {
+                if (journal[end] != '\n') {
+                    continue;
+                }
+                try {
+                    JSONObject record = (JSONObject) parser.parse(
+                            new String(journal, start, end - start, StandardCharsets.UTF_8));
+                    responses.put(record.get(KEY), record.get(VALUE));
+                } catch (ParseException | ClassCastException e) {
+                    break;
+                }
+                journalRecords++;
+                start = end + 1;
+            }
+            if (start < journal.length) {
+                logger.warning("Dropping " + (journal.length - start) + " unreadable bytes at the end of "
+                        + journalPath);
+                truncateJournal(start);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to read " + journalPath + ": " + StringUtil.getDetails(e));
+        }
+        logger.info("Replayed " + journalRecords + " journal records from " + journalPath);
+    }
+
+    /**
+     * Truncates the journal to its first size bytes.
+     */
+    private void truncateJournal(long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            channel.force(false);
+        }
+    }
+}
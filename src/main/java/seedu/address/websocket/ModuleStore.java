@@ -0,0 +1,447 @@
+package seedu.address.websocket;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An on-disk store of modules, as one record of the JSON of each module keyed by its ModuleId.
+ *
+ * Records are appended to a data file. An index file holds the keys of the records in sorted order with their
+ * offsets, so the keys are listed and a module is found by a binary search without reading the data file, and only
+ * the values looked up are read from the memory-mapped data file. Opening the store only reads the index and the
+ * records appended since the index was last written, which is rewritten once DIRECTORY_THRESHOLD records have been
+ * appended, or on opening if there is no index of this version.
+ *
+ * A record left incomplete by a crash is dropped when the store is next opened. The index is replaced only once it
+ * has been written in full, and is ignored if it does not match the data file.
+ *
+ * Windows does not allow a mapped file to be truncated, replaced or deleted, so only the data file is mapped, and only
+ * once it has been checked. The store must be closed before another store opens the same files. The mapping is only
+ * read by the synchronized methods, and no duplicate of it outlives them, so it is unmapped only when it is no longer
+ * referenced by the store.
+ */
+public class ModuleStore implements AutoCloseable {
+    public static final String INDEX_EXTENSION = ".index";
+    public static final int DIRECTORY_THRESHOLD = 64;
+
+    private static final int DATA_MAGIC = 0x54424d44;
+    private static final int INDEX_MAGIC = 0x54424d49;
+    private static final int VERSION = 1;
+    private static final int INDEX_VERSION = 2;
+    private static final int DATA_HEADER_BYTES = 2 * Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(ModuleStore.class);
+
+    private final Path dataPath;
+    private final Path indexPath;
+    // The mapped data file, or an empty buffer if it could not be opened, or null until the store is opened.
+    private ByteBuffer data;
+    // Keys of the records in the index, sorted, and the offsets of their records.
+    private String[] directoryKeys;
+    private long[] directoryOffsets;
+    // Offsets of the records appended since the index was written, which replace those in the index.
+    private Map<String, Long> appended;
+
+    public ModuleStore(Path dataPath) {
+        requireNonNull(dataPath);
+        this.dataPath = dataPath;
+        this.indexPath = dataPath.resolveSibling(dataPath.getFileName() + INDEX_EXTENSION);
+    }
+
+    /**
+     * Returns the value of the record with the key, if there is one.
+     */
+    public synchronized Optional<String> get(String key) {
+        requireNonNull(key);
+        open();
+        Long offset = appended.get(key);
+        if (offset == null) {
+            offset = findInDirectory(key);
+        }
+        return offset == null ? Optional.empty() : Optional.of(readValue(offset));
+    }
+
+    /**
+     * Returns the keys of every record, sorted.
+     */
+    public synchronized List<String> keys() {
+        open();
+        TreeSet<String> keys = new TreeSet<>(Arrays.asList(directoryKeys));
+        keys.addAll(appended.keySet());
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * Returns the number of records.
+     */
+    public synchronized int size() {
+        open();
+        int size = directoryKeys.length;
+        for (String key : appended.keySet()) {
+            if (findInDirectory(key) == null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Appends a record, replacing any record with the same key.
+     */
+    public void add(String key, String value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        addAll(Map.of(key, value));
+    }
+
+    /**
+     * Appends the records with a single write, replacing any records with the same keys.
+     */
+    public synchronized void addAll(Map<String, String> records) {
+        requireNonNull(records);
+        open();
+        if (records.isEmpty() || data.limit() == 0) {
+            return;
+        }
+
+        long offset = data.limit();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Map<String, Long> offsets = new HashMap<>();
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            for (Map.Entry<String, String> record : records.entrySet()) {
+                offsets.put(record.getKey(), offset + bytes.size());
+                writeString(out, record.getKey());
+                writeString(out, record.getValue());
+            }
+            if (!FileUtil.isFileExists(dataPath)) {
+                FileUtil.createParentDirsOfFile(dataPath);
+                Files.write(dataPath, ByteBuffer.allocate(DATA_HEADER_BYTES).putInt(DATA_MAGIC).putInt(VERSION)
+                        .array());
+            }
+            try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            // The old mapping is only released once the new one has replaced it.
+            ByteBuffer oldData = data;
+            data = map(dataPath);
+            unmap(oldData);
+            appended.putAll(offsets);
+        } catch (IOException e) {
+            logger.warning("Failed to append to " + dataPath + ": " + StringUtil.getDetails(e));
+            // The records may have been written, so the store is opened from the files on its next use.
+            close();
+            return;
+        }
+
+        if (appended.size() >= DIRECTORY_THRESHOLD) {
+            writeDirectory();
+        }
+    }
+
+    /**
+     * Writes the index of every record, so that the records appended since are not read again on opening.
+     */
+    public synchronized void writeDirectory() {
+        open();
+        TreeMap<String, Long> offsets = offsets();
+        Path tempPath = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempPath)))) {
+                out.writeInt(INDEX_MAGIC);
+                out.writeInt(INDEX_VERSION);
+                out.writeLong(data.limit());
+                out.writeInt(offsets.size());
+                for (long offset : offsets.values()) {
+                    out.writeLong(offset);
+                }
+                for (String key : offsets.keySet()) {
+                    writeString(out, key);
+                }
+            }
+            Files.move(tempPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            directoryKeys = offsets.keySet().toArray(new String[0]);
+            directoryOffsets = offsets.values().stream().mapToLong(Long::longValue).toArray();
+            appended.clear();
+        } catch (IOException e) {
+            logger.warning("Failed to write " + indexPath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Releases the mapped data file. The store is opened again if it is used afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        ByteBuffer oldData = data;
+        data = null;
+        directoryKeys = null;
+        directoryOffsets = null;
+        appended = null;
+        unmap(oldData);
+    }
+
+    /**
+     * Opens the store the first time it is used, replacing a data file of another format.
+     */
+    private void open() {
+        if (data != null) {
+            return;
+        }
+        appended = new HashMap<>();
+        directoryKeys = new String[0];
+        directoryOffsets = new long[0];
+        try {
+            if (!isValidDataFile()) {
+                // The data file is only created once a record is added.
+                Files.deleteIfExists(dataPath);
+                Files.deleteIfExists(indexPath);
+                data = ByteBuffer.allocate(DATA_HEADER_BYTES).putInt(DATA_MAGIC).putInt(VERSION).flip();
+                return;
+            }
+            long scanned = readDirectory(Files.size(dataPath));
+            // Any incomplete record is truncated before the data file is mapped.
+            scanAppended(scanned);
+            data = map(dataPath);
+            if (scanned == DATA_HEADER_BYTES && !appended.isEmpty()) {
+                // Without an index, every record would be scanned again on the next opening.
+                writeDirectory();
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to open " + dataPath + ": " + StringUtil.getDetails(e));
+            data = ByteBuffer.allocate(0);
+        }
+    }
+
+    /**
+     * Returns true if the data file exists and starts with the header of this version.
+     */
+    private boolean isValidDataFile() throws IOException {
+        if (!FileUtil.isFileExists(dataPath)) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(DATA_HEADER_BYTES);
+        try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Reads until the header is full or the file ends.
+            }
+        }
+        header.flip();
+        if (header.remaining() == DATA_HEADER_BYTES && header.getInt() == DATA_MAGIC && header.getInt() == VERSION) {
+            return true;
+        }
+        logger.warning("Replacing " + dataPath + " of another format");
+        return false;
+    }
+
+    /**
+     * Adds the records from the offset to the end of the data file to the appended records. The data file is
+     * truncated before a record that is incomplete.
+     */
+    private void scanAppended(long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    Channels.newInputStream(channel.position(offset))));
+            long position = offset;
+            while (position < size) {
+                long end = -1;
+                String key = null;
+                if (size - position >= 2 * Integer.BYTES) {
+                    int keyLength = in.readInt();
+                    if (keyLength >= 0 && keyLength <= size - position - 2 * Integer.BYTES) {
+                        byte[] keyBytes = new byte[keyLength];
+                        in.readFully(keyBytes);
+                        int valueLength = in.readInt();
+                        end = position + 2 * Integer.BYTES + keyLength + valueLength;
+                        if (valueLength >= 0 && end <= size) {
+                            key = new String(keyBytes, StandardCharsets.UTF_8);
+                            skipFully(in, valueLength);
+                        }
+                    }
+                }
+                if (key == null) {
+                    logger.warning("Dropping incomplete record at the end of " + dataPath);
+                    channel.truncate(position);
+                    channel.force(false);
+                    return;
+                }
+                appended.put(key, position);
+                position = end;
+            }
+        }
+    }
+
+    /**
+     * Reads the index into memory if it exists and covers at most dataBytes bytes of the data file, and returns the
+     * number of bytes of the data file it covers. It is read rather than mapped, so that it can be replaced while the
+     * store is open.
+     */
+    private long readDirectory(long dataBytes) {
+        if (!FileUtil.isFileExists(indexPath)) {
+            return DATA_HEADER_BYTES;
+        }
+        try {
+            ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+            if (index.getInt() != INDEX_MAGIC || index.getInt() != INDEX_VERSION) {
+                return DATA_HEADER_BYTES;
+            }
+            long indexedBytes = index.getLong();
+            int count = index.getInt();
+            if (indexedBytes > dataBytes || count < 0 || count > index.remaining() / Long.BYTES) {
+                logger.warning("Ignoring index that does not match " + dataPath);
+                return DATA_HEADER_BYTES;
+            }
+            long[] offsets = new long[count];
+            index.asLongBuffer().get(offsets);
+            index.position(index.position() + count * Long.BYTES);
+            String[] keys = new String[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = readString(index);
+            }
+            if (index.hasRemaining()) {
+                throw new IOException("Unexpected bytes at the end of the index");
+            }
+            directoryKeys = keys;
+            directoryOffsets = offsets;
+            return indexedBytes;
+        } catch (IOException | BufferUnderflowException e) {
+            logger.warning("Failed to read " + indexPath + ": " + StringUtil.getDetails(e));
+            return DATA_HEADER_BYTES;
+        }
+    }
+
+    /**
+     * Returns the offset of the record with the key in the index, or null if it is not there.
+     */
+    private Long findInDirectory(String key) {
+        int position = Arrays.binarySearch(directoryKeys, key);
+        return position < 0 ? null : directoryOffsets[position];
+    }
+
+    /**
+     * Returns the offset of every record by key, with the appended records replacing those in the index.
+     */
+    private TreeMap<String, Long> offsets() {
+        TreeMap<String, Long> offsets = new TreeMap<>();
+        for (int i = 0; i < directoryKeys.length; i++) {
+            offsets.put(directoryKeys[i], directoryOffsets[i]);
+        }
+        offsets.putAll(appended);
+        return offsets;
+    }
+
+    /**
+     * Returns the value of the record at the offset.
+     */
+    private String readValue(long offset) {
+        ByteBuffer buffer = data.duplicate();
+        buffer.position((int) offset);
+        try {
+            readString(buffer);
+            return readString(buffer);
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupted record in " + dataPath, e);
+        }
+    }
+
+    /**
+     * Maps the whole file for reading.
+     */
+    private static MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Releases a mapped buffer now rather than when it is garbage collected, as the file cannot be truncated or
+     * replaced on Windows until then. The buffer must not be used afterwards.
+     */
+    private static void unmap(ByteBuffer buffer) {
+        if (!(buffer instanceof MappedByteBuffer)) {
+            return;
+        }
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(unsafeField.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.fine("Leaving the mapping to the garbage collector: " + e);
+        }
+    }
+
+    /**
+     * Skips exactly length bytes of the stream.
+     */
+    private static void skipFully(DataInputStream in, int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * Writes the length of the string in UTF-8 bytes followed by the bytes.
+     */
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by writeString.
+     */
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
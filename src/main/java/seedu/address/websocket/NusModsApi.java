@@ -1,6 +1,7 @@
 package seedu.address.websocket;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import org.json.simple.JSONArray;
@@ -12,7 +13,6 @@ import seedu.address.model.module.AcadYear;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.websocket.util.ApiQuery;
 import seedu.address.websocket.util.ParserUtil;
-import seedu.address.websocket.util.QueryResult;
 
 /**
  * NUSMods API websocket
@@ -67,14 +67,7 @@ public class NusModsApi {
      * @return JSONArray containing module code, title and available semesters for all modules in a year.
      */
     public Optional<JSONArray> getModuleList() {
-        ApiQuery query = new ApiQuery(BASE_URL + SLASH + acadYear.toStringDashed() + MODULE_LIST + JSON_EXTENSION);
-        QueryResult queryResult = query.execute();
-        if (queryResult.process(logger)) {
-            JSONArray obj = ParserUtil.parseStringToJsonArray(queryResult.getResponseResult());
-            return Optional.of(obj);
-        } else {
-            return Optional.empty();
-        }
+        return queryJsonArray(BASE_URL + SLASH + acadYear.toStringDashed() + MODULE_LIST + JSON_EXTENSION).join();
     }
 
     /**
@@ -83,14 +76,7 @@ public class NusModsApi {
      * @return JSONArray containing all module info except timetable and prereq tree for all modules in a year.
      */
     public Optional<JSONArray> getModuleInfo() {
-        ApiQuery query = new ApiQuery(BASE_URL + SLASH + acadYear.toStringDashed() + MODULE_INFO + JSON_EXTENSION);
-        QueryResult queryResult = query.execute();
-        if (queryResult.process(logger)) {
-            JSONArray obj = ParserUtil.parseStringToJsonArray(queryResult.getResponseResult());
-            return Optional.of(obj);
-        } else {
-            return Optional.empty();
-        }
+        return queryJsonArray(BASE_URL + SLASH + acadYear.toStringDashed() + MODULE_INFO + JSON_EXTENSION).join();
     }
 
     /**
@@ -100,15 +86,19 @@ public class NusModsApi {
      * @return JSONObject containing all info available for a specific module including prerequisite tree and timetable.
      */
     public Optional<JSONObject> getModule(ModuleCode moduleCode) {
-        ApiQuery query = new ApiQuery(BASE_URL + SLASH + acadYear.toStringDashed() + MODULES
+        return getModuleAsync(moduleCode).join();
+    }
+
+    /**
+     * Requests all info about moduleCode in the academic year without waiting for the response, so that many modules
+     * can be requested at once.
+     *
+     * @param moduleCode code of the specific module.
+     * @return a future of the JSONObject, which is empty if the request failed.
+     */
+    public CompletableFuture<Optional<JSONObject>> getModuleAsync(ModuleCode moduleCode) {
+        return queryJsonObject(BASE_URL + SLASH + acadYear.toStringDashed() + MODULES
                 + SLASH + moduleCode + JSON_EXTENSION);
-        QueryResult queryResult = query.execute();
-        if (queryResult.process(logger)) {
-            JSONObject obj = ParserUtil.parseStringToJsonObject(queryResult.getResponseResult());
-            return Optional.of(obj);
-        } else {
-            return Optional.empty();
-        }
     }
 
     /**
@@ -121,15 +111,8 @@ public class NusModsApi {
      * @return JSONArray representing the venues
      */
     public Optional<JSONArray> getVenues(String semester) {
-        ApiQuery query = new ApiQuery(BASE_URL + SLASH + acadYear.toStringDashed() + SEMESTERS
-                + SLASH + semester + VENUES + JSON_EXTENSION);
-        QueryResult queryResult = query.execute();
-        if (queryResult.process(logger)) {
-            JSONArray obj = ParserUtil.parseStringToJsonArray(queryResult.getResponseResult());
-            return Optional.of(obj);
-        } else {
-            return Optional.empty();
-        }
+        return queryJsonArray(BASE_URL + SLASH + acadYear.toStringDashed() + SEMESTERS
+                + SLASH + semester + VENUES + JSON_EXTENSION).join();
     }
 
     /**
@@ -142,15 +125,8 @@ public class NusModsApi {
      * @return JSONObject representing the venues
      */
     public Optional<JSONObject> getVenueInformation(String semester) {
-        ApiQuery query = new ApiQuery(BASE_URL + SLASH + acadYear.toStringDashed() + SEMESTERS
-                + SLASH + semester + VENUE_INFO + JSON_EXTENSION);
-        QueryResult queryResult = query.execute();
-        if (queryResult.process(logger)) {
-            JSONObject obj = ParserUtil.parseStringToJsonObject(queryResult.getResponseResult());
-            return Optional.of(obj);
-        } else {
-            return Optional.empty();
-        }
+        return queryJsonObject(BASE_URL + SLASH + acadYear.toStringDashed() + SEMESTERS
+                + SLASH + semester + VENUE_INFO + JSON_EXTENSION).join();
     }
 
     /**
@@ -158,14 +134,7 @@ public class NusModsApi {
      * @return JSONObject representing academic calendar.
      */
     public Optional<JSONObject> getAcademicCalendar() {
-        ApiQuery query = new ApiQuery(ACADEMIC_CALENDAR_URL);
-        QueryResult queryResult = query.execute();
-        if (queryResult.process(logger)) {
-            JSONObject obj = ParserUtil.parseStringToJsonObject(queryResult.getResponseResult());
-            return Optional.of(obj);
-        } else {
-            return Optional.empty();
-        }
+        return queryJsonObject(ACADEMIC_CALENDAR_URL).join();
     }
 
     /**
@@ -174,13 +143,30 @@ public class NusModsApi {
      * @return JSONArray representing public holidays in Singapore.
      */
     public Optional<JSONArray> getHolidays() {
-        ApiQuery query = new ApiQuery(HOLIDAYS_URL);
-        QueryResult queryResult = query.execute();
-        if (queryResult.process(logger)) {
-            JSONArray obj = ParserUtil.parseStringToJsonArray(queryResult.getResponseResult());
-            return Optional.of(obj);
-        } else {
-            return Optional.empty();
-        }
+        return queryJsonArray(HOLIDAYS_URL).join();
+    }
+
+    /**
+     * Requests a JSONObject from the url.
+     *
+     * @param url url of the JSONObject.
+     * @return a future of the JSONObject, which is empty if the request failed.
+     */
+    private CompletableFuture<Optional<JSONObject>> queryJsonObject(String url) {
+        return new ApiQuery(url).executeAsync().thenApply(queryResult -> queryResult.process(logger)
+                ? Optional.ofNullable(ParserUtil.parseStringToJsonObject(queryResult.getResponseResult()))
+                : Optional.empty());
+    }
+
+    /**
+     * Requests a JSONArray from the url.
+     *
+     * @param url url of the JSONArray.
+     * @return a future of the JSONArray, which is empty if the request failed.
+     */
+    private CompletableFuture<Optional<JSONArray>> queryJsonArray(String url) {
+        return new ApiQuery(url).executeAsync().thenApply(queryResult -> queryResult.process(logger)
+                ? Optional.ofNullable(ParserUtil.parseStringToJsonArray(queryResult.getResponseResult()))
+                : Optional.empty());
     }
 }
@@ -0,0 +1,413 @@
+package seedu.address.websocket;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.AcadYear;
+import seedu.address.model.module.Description;
+import seedu.address.model.module.Exam;
+import seedu.address.model.module.Lesson;
+import seedu.address.model.module.LessonNo;
+import seedu.address.model.module.LessonType;
+import seedu.address.model.module.Module;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ModuleId;
+import seedu.address.model.module.ModuleSummary;
+import seedu.address.model.module.ModuleSummaryList;
+import seedu.address.model.module.Semester;
+import seedu.address.model.module.SemesterNo;
+import seedu.address.model.module.Title;
+import seedu.address.model.module.Venue;
+import seedu.address.model.module.Weeks;
+import seedu.address.model.module.WeeksType;
+import seedu.address.model.module.exceptions.LessonTypeNotFoundException;
+import seedu.address.model.module.exceptions.SemesterNoNotFoundException;
+
+/**
+ * Parser to parse NusMods-related data straight from JSON text, without building a json-simple tree of it first.
+ *
+ * The results are the same as those of NusModsParser. Keys that are not used are skipped over.
+ */
+public class NusModsStreamParser {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-M-d");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+
+    /**
+     * Parses the ModuleSummaryList of an academic year from a JSON object of module summaries keyed by academic year.
+     * @param in stream of the JSON object, which is closed once it has been parsed.
+     * @param acadYear academic year to parse, and default academic year of its ModuleSummaries.
+     * @return parsed ModuleSummaryList.
+     * @throws ParseException if the academic year is missing, or a ModuleSummary is missing compulsory keys.
+     */
+    public static ModuleSummaryList parseModuleSummaryList(InputStream in, AcadYear acadYear) throws ParseException {
+        requireNonNull(in);
+        requireNonNull(acadYear);
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            expect(parser, JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.getCurrentName();
+                parser.nextToken();
+                if (key.equals(acadYear.toString())) {
+                    return parseModuleSummaries(parser, acadYear);
+                }
+                parser.skipChildren();
+            }
+            throw new ParseException("No module summaries for " + acadYear);
+        } catch (IOException e) {
+            throw new ParseException("Invalid module summaries: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses a Module from a JSON object.
+     * @param json JSON text of the module.
+     * @return parsed Module.
+     * @throws ParseException if missing compulsory keys.
+     */
+    public static Module parseModule(String json) throws ParseException {
+        requireNonNull(json);
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            parser.nextToken();
+            return parseModule(parser);
+        } catch (IOException e) {
+            throw new ParseException("Invalid module: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses a Module from the JSON object at the current token.
+     */
+    private static Module parseModule(JsonParser parser) throws IOException, ParseException {
+        requireStartObject(parser);
+        String acadYear = null;
+        String moduleCode = null;
+        String title = null;
+        String description = "";
+        List<Semester> semesterData = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            switch (key) {
+            case "acadYear":
+                acadYear = readText(parser, key);
+                break;
+            case "moduleCode":
+                moduleCode = readText(parser, key);
+                break;
+            case "title":
+                title = readText(parser, key);
+                break;
+            case "description":
+                description = readText(parser, key);
+                break;
+            case "semesterData":
+                semesterData = new ArrayList<>();
+                requireStartArray(parser, key);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    semesterData.add(parseSemester(parser));
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        requireKeys("module " + moduleCode, "acadYear", acadYear, "moduleCode", moduleCode, "title", title,
+                "semesterData", semesterData);
+
+        ModuleId moduleId = new ModuleId(new AcadYear(acadYear), new ModuleCode(moduleCode));
+        return new Module(moduleId, new Title(title), new Description(description), semesterData);
+    }
+
+    /**
+     * Parses the array of ModuleSummaries at the current token.
+     */
+    private static ModuleSummaryList parseModuleSummaries(JsonParser parser, AcadYear defaultAcadYear)
+            throws IOException, ParseException {
+        requireStartArray(parser, defaultAcadYear.toString());
+        List<ModuleSummary> moduleSummaries = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            requireStartObject(parser);
+            String acadYear = defaultAcadYear.toString();
+            String moduleCode = null;
+            String title = null;
+            List<Integer> semesters = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.getCurrentName();
+                parser.nextToken();
+                switch (key) {
+                case "acadYear":
+                    acadYear = readText(parser, key);
+                    break;
+                case "moduleCode":
+                    moduleCode = readText(parser, key);
+                    break;
+                case "title":
+                    title = readText(parser, key);
+                    break;
+                case "semesters":
+                    semesters = readInts(parser, key);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            requireKeys("module summary " + moduleCode, "moduleCode", moduleCode, "title", title,
+                    "semesters", semesters);
+
+            ModuleId moduleId = new ModuleId(new AcadYear(acadYear), new ModuleCode(moduleCode));
+            moduleSummaries.add(new ModuleSummary(moduleId, new Title(title), semesters));
+        }
+        return new ModuleSummaryList(moduleSummaries);
+    }
+
+    /**
+     * Parses a Semester from the JSON object at the current token.
+     */
+    private static Semester parseSemester(JsonParser parser) throws IOException, ParseException {
+        requireStartObject(parser);
+        String semester = null;
+        ArrayList<Lesson> timetable = null;
+        String examDate = null;
+        String examDuration = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            switch (key) {
+            case "semester":
+                semester = readText(parser, key);
+                break;
+            case "timetable":
+                timetable = new ArrayList<>();
+                requireStartArray(parser, key);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    timetable.add(parseLesson(parser));
+                }
+                break;
+            case "examDate":
+                examDate = readText(parser, key);
+                break;
+            case "examDuration":
+                examDuration = readText(parser, key);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        requireKeys("semester " + semester, "semester", semester, "timetable", timetable);
+
+        SemesterNo semesterNo;
+        try {
+            semesterNo = SemesterNo.findSemesterNo(semester);
+        } catch (SemesterNoNotFoundException e) {
+            throw new ParseException("Semester number not found: " + semester);
+        }
+
+        if (examDate != null) {
+            // Remove Z at end, which represents UTC in ISO 8601 format, and add Singapore's GMT offset.
+            LocalDateTime examDateTime = LocalDateTime.parse(examDate.replace("Z", ""))
+                    .plusHours(NusModsParser.GMT_OFFSET_SINGAPORE);
+            requireKeys("semester " + semester, "examDuration", examDuration);
+            Exam exam = new Exam(examDateTime, Integer.parseInt(examDuration));
+            return new Semester(semesterNo, timetable, exam);
+        }
+        return new Semester(semesterNo, timetable);
+    }
+
+    /**
+     * Parses a Lesson from the JSON object at the current token.
+     */
+    private static Lesson parseLesson(JsonParser parser) throws IOException, ParseException {
+        requireStartObject(parser);
+        String classNo = null;
+        String startTime = null;
+        String endTime = null;
+        Weeks weeks = null;
+        String lessonType = null;
+        String day = null;
+        String venue = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            switch (key) {
+            case "classNo":
+                classNo = readText(parser, key);
+                break;
+            case "startTime":
+                startTime = readText(parser, key);
+                break;
+            case "endTime":
+                endTime = readText(parser, key);
+                break;
+            case "weeks":
+                weeks = parseWeeks(parser);
+                break;
+            case "lessonType":
+                lessonType = readText(parser, key);
+                break;
+            case "day":
+                day = readText(parser, key);
+                break;
+            case "venue":
+                venue = readText(parser, key);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        requireKeys("lesson " + classNo, "classNo", classNo, "startTime", startTime, "endTime", endTime,
+                "weeks", weeks, "lessonType", lessonType, "day", day, "venue", venue);
+
+        LessonType type;
+        try {
+            type = LessonType.findLessonType(lessonType);
+        } catch (LessonTypeNotFoundException e) {
+            throw new ParseException("Lesson type not found: " + lessonType);
+        }
+        DayOfWeek dayOfWeek = DayOfWeek.valueOf(day.trim().toUpperCase());
+        try {
+            return new Lesson(new LessonNo(classNo), LocalTime.parse(startTime, TIME_FORMATTER),
+                    LocalTime.parse(endTime, TIME_FORMATTER), weeks, type, dayOfWeek, new Venue(venue));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(e.getMessage());
+        }
+    }
+
+    /**
+     * Parses Weeks from the JSON array of week numbers, or the JSON object of a date range, at the current token.
+     */
+    private static Weeks parseWeeks(JsonParser parser) throws IOException, ParseException {
+        List<Integer> weekNumbers = new ArrayList<>();
+        LocalDate startDate = LocalDate.MIN;
+        LocalDate endDate = LocalDate.MAX;
+        int weekInterval = -1;
+        WeeksType type;
+
+        if (parser.getCurrentToken() == JsonToken.START_ARRAY) { // weekNumbers only format
+            type = WeeksType.WEEK_NUMBERS;
+            weekNumbers = readInts(parser, "weeks");
+        } else {
+            requireStartObject(parser);
+            String start = null;
+            String end = null;
+            List<Integer> rangeWeekNumbers = null;
+            String interval = "1"; // Defaults to 1 if missing a specified weekInterval
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.getCurrentName();
+                parser.nextToken();
+                switch (key) {
+                case "start":
+                    start = readText(parser, key);
+                    break;
+                case "end":
+                    end = readText(parser, key);
+                    break;
+                case "weeks":
+                    rangeWeekNumbers = readInts(parser, key);
+                    break;
+                case "weekInterval":
+                    interval = readText(parser, key);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            requireKeys("weeks", "start", start, "end", end);
+            startDate = LocalDate.parse(start, DATE_FORMATTER);
+            endDate = LocalDate.parse(end, DATE_FORMATTER);
+
+            if (rangeWeekNumbers != null) { // start, end and weekNumbers format
+                type = WeeksType.START_END_WEEK_NUMBERS;
+                weekNumbers = rangeWeekNumbers;
+            } else { // start, end and weekInterval format
+                type = WeeksType.START_END_WEEK_INTERVAL;
+                weekInterval = Integer.parseInt(interval);
+            }
+        }
+
+        try {
+            return new Weeks(weekNumbers, startDate, endDate, weekInterval, type);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the text of the scalar value at the current token, which may be a string or a number.
+     */
+    private static String readText(JsonParser parser, String key) throws IOException, ParseException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == null || !token.isScalarValue() || token == JsonToken.VALUE_NULL) {
+            throw new ParseException("Expected a value for key " + key + " but found " + token);
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Returns the integers in the JSON array at the current token, which may be strings or numbers.
+     */
+    private static List<Integer> readInts(JsonParser parser, String key) throws IOException, ParseException {
+        requireStartArray(parser, key);
+        List<Integer> ints = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            ints.add(Integer.parseInt(readText(parser, key)));
+        }
+        return ints;
+    }
+
+    /**
+     * Moves to the next token and checks that it is the expected one.
+     */
+    private static void expect(JsonParser parser, JsonToken expected) throws IOException, ParseException {
+        JsonToken token = parser.nextToken();
+        if (token != expected) {
+            throw new ParseException("Expected " + expected + " but found " + token);
+        }
+    }
+
+    /**
+     * Checks that the current token starts a JSON object.
+     */
+    private static void requireStartObject(JsonParser parser) throws ParseException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new ParseException("Expected an object but found " + parser.getCurrentToken());
+        }
+    }
+
+    /**
+     * Checks that the current token starts a JSON array.
+     */
+    private static void requireStartArray(JsonParser parser, String key) throws ParseException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new ParseException("Expected an array for key " + key + " but found " + parser.getCurrentToken());
+        }
+    }
+
+    /**
+     * Checks that every compulsory key was found.
+     * @param context description of the object being parsed, for the error message.
+     * @param keysAndValues each compulsory key followed by its value, which is null if the key was not found.
+     * @throws ParseException if any of the keys was not found.
+     */
+    private static void requireKeys(String context, Object... keysAndValues) throws ParseException {
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            if (keysAndValues[i + 1] == null) {
+                throw new ParseException("Missing key " + keysAndValues[i] + " in " + context);
+            }
+        }
+    }
+}
@@ -1,22 +1,41 @@
 package seedu.address.websocket.util;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
-
-import javax.net.ssl.HttpsURLConnection;
+import java.util.zip.GZIPInputStream;
 
 import seedu.address.commons.core.LogsCenter;
 
 /**
- * An API query object
+ * An API query object. Every query shares a single HttpClient, so connections are kept alive between queries, and
+ * queries that are executed asynchronously are sent concurrently instead of one after another.
  */
 public class ApiQuery {
-    private static URL url;
-    private String urlString;
-    private Logger logger;
+    public static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    public static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final String GZIP = "gzip";
+    private static final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(CONNECT_TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    private static final Logger logger = LogsCenter.getLogger(ApiQuery.class);
+
+    private final URI uri;
+    private final String urlString;
 
     /**
      * Generate an instance of an API query with the given url.
@@ -24,81 +43,81 @@ public class ApiQuery {
      * @param url of the query
      */
     public ApiQuery(String url) {
-        URL generatedUrl = UrlUtil.generateUrl(url);
-        this.logger = LogsCenter.getLogger(this.getClass());
         this.urlString = url;
-        if (generatedUrl == null) {
-            this.url = null;
-        } else {
-            this.url = generatedUrl;
-        }
+        this.uri = generateUri(url);
     }
 
     /**
-     * Executes the query.
+     * Executes the query, blocking until it completes.
      *
      * @return QueryResult
      */
     public QueryResult execute() {
+        return executeAsync().join();
+    }
 
-        Integer responseCode = null;
-        String output = "";
-
-        if (this.url == null) {
-            output = "Malformed URL Exception";
-            return new QueryResult(responseCode, output);
+    /**
+     * Sends the query without waiting for its response.
+     *
+     * @return a future of the QueryResult, which is never completed exceptionally.
+     */
+    public CompletableFuture<QueryResult> executeAsync() {
+        if (this.uri == null) {
+            return CompletableFuture.completedFuture(new QueryResult(null, "Malformed URL Exception"));
         }
 
-        HttpsURLConnection conn = establishHttpsConnection(this.url);
-        if (conn == null) {
-            output = "Unable to establish connection";
-            conn.disconnect();
-            return new QueryResult(responseCode, output);
-        } else {
-            try {
-                responseCode = conn.getResponseCode();
-                if (responseCode != 200) {
-                    output = "HTTP response Error!";
-                    conn.disconnect();
-                    return new QueryResult(responseCode, output);
-                } else {
-                    try (BufferedReader br = new BufferedReader(new InputStreamReader(this.url.openStream()))) {
-                        String line;
-                        while ((line = br.readLine()) != null) {
-                            output += line;
-                            logger.fine(line);
-                        }
-                    } catch (IOException ioe) {
-                        output = "Unable to read response";
-                        conn.disconnect();
-                        return new QueryResult(responseCode, output);
-                    }
-                }
-            } catch (IOException ioe) {
-                output = "Connection error";
-                conn.disconnect();
-                return new QueryResult(responseCode, output);
+        HttpRequest request = HttpRequest.newBuilder(this.uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept-Encoding", GZIP)
+                .GET()
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(this::readResponse)
+                .exceptionally(e -> {
+                    logger.warning("Failed to query " + UrlUtil.sanitizeApiKey(urlString) + ": " + e.getMessage());
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    return new QueryResult(null, cause instanceof UncheckedIOException
+                            ? "Unable to read response" : "Connection error");
+                });
+    }
+
+    /**
+     * Reads the body of a successful response in full, decompressing it if it was sent compressed.
+     */
+    private QueryResult readResponse(HttpResponse<InputStream> response) {
+        int responseCode = response.statusCode();
+        try (InputStream body = response.body()) {
+            if (responseCode != 200) {
+                return new QueryResult(responseCode, "HTTP response Error!");
             }
+            boolean isCompressed = response.headers().firstValue("Content-Encoding")
+                    .map(GZIP::equalsIgnoreCase).orElse(false);
+            try (InputStream in = isCompressed ? new GZIPInputStream(body) : body) {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                in.transferTo(output);
+                logger.fine("Received " + output.size() + " bytes from " + UrlUtil.sanitizeApiKey(urlString));
+                return new QueryResult(responseCode, output.toString(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        conn.disconnect();
-        return new QueryResult(responseCode, output);
     }
 
     /**
-     * Establish the HTTPS connection.
-     *
-     * @param url of the connection
-     * @return HttpsURLConnection
+     * Generates the URI of a url, which is null if it is malformed or not an HTTP or HTTPS url.
      */
-    private HttpsURLConnection establishHttpsConnection(URL url) {
-        HttpsURLConnection conn;
+    private static URI generateUri(String url) {
+        URL generatedUrl = UrlUtil.generateUrl(url);
+        if (generatedUrl == null) {
+            return null;
+        }
+        String protocol = generatedUrl.getProtocol();
+        if (!protocol.equals("http") && !protocol.equals("https")) {
+            return null;
+        }
         try {
-            conn = (HttpsURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-            conn.connect();
-            return conn;
-        } catch (IOException ioe) {
-            System.out.println("Failed to establish connection with " + url.toString());
+            return generatedUrl.toURI();
+        } catch (URISyntaxException e) {
             return null;
         }
     }
@@ -1,14 +1,12 @@
 package seedu.address.websocket.util;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.net.HttpURLConnection;
 import java.net.URL;
-import java.net.URLConnection;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
-import java.util.Map;
+import java.nio.file.StandardCopyOption;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -21,75 +19,74 @@ import seedu.address.websocket.Cache;
  */
 public class ImageQuery {
 
+    private static final String WARNING_HEADER = "X-Staticmap-API-Warning";
+
     private static final Logger logger = LogsCenter.getLogger(ImageQuery.class);
 
     /**
-     * This mthod checks if the API response is valid then saves it into the directory
+     * This method checks if the API response is valid then saves it into the directory. The image is downloaded with
+     * a single request, and only replaces the file once it has been downloaded in full.
      * @param imageUrl
      * @param filePath
+     * @return true if the image was saved
      */
-
-    public static void execute(String imageUrl, String filePath) {
+    public static boolean execute(String imageUrl, String filePath) {
         try {
-            if (isValid(imageUrl)) {
-                saveImage(imageUrl, filePath);
-            } else {
-                throw new IllegalValueException(imageUrl + "Not identifiable by gmaps");
+            URL url = UrlUtil.generateUrl(imageUrl);
+            if (url == null) {
+                throw new IllegalValueException(imageUrl + " is not a valid url");
             }
-        } catch (IllegalValueException | IOException e) {
+            logger.info("Calling: " + UrlUtil.sanitizeApiKey(imageUrl));
+            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+            try {
+                if (conn.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                    throw new IOException("HTTP response " + conn.getResponseCode() + " for " + imageUrl);
+                }
+                if (conn.getHeaderField(WARNING_HEADER) != null) {
+                    logUnavailable(imageUrl);
+                    return false;
+                }
+                try (InputStream is = conn.getInputStream()) {
+                    saveImage(is, Path.of(filePath));
+                }
+                return true;
+            } finally {
+                conn.disconnect();
+            }
+        } catch (IllegalValueException | IOException | ClassCastException e) {
             logger.warning(e.getMessage());
+            return false;
         }
     }
 
     /**
-     *This method is used to check is the API response is valid.
+     * This method is used to log a location that Google Maps does not have an image of.
      * @param imageUrl
-     * @return
      */
-    private static boolean isValid(String imageUrl) {
-        boolean isValid = true;
-        try {
-            URL url = new URL(imageUrl);
-            URLConnection conn = url.openConnection();
-            logger.info("Calling: " + imageUrl);
-            Map<String, List<String>> map = conn.getHeaderFields();
-            for (Map.Entry<String, List<String>> entry : map.entrySet()) {
-                String key = entry.getKey();
-                if (key != null && key.equals("X-Staticmap-API-Warning")) {
-                    isValid = false;
-                    String name = imageUrl.split("center=")[1].split("&")[0];
-                    if (FileUtil.isFileExists(Path.of(Cache.loadImagePath(name)))) {
-                        logger.fine(name + " not available on gmaps but manually added");
-                    } else {
-                        logger.warning(name + " not on gmaps and not added");
-                    }
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+    private static void logUnavailable(String imageUrl) {
+        String name = imageUrl.split("center=")[1].split("&")[0];
+        if (FileUtil.isFileExists(Path.of(Cache.loadImagePath(name)))) {
+            logger.fine(name + " not available on gmaps but manually added");
+        } else {
+            logger.warning(name + " not on gmaps and not added");
         }
-        return isValid;
     }
 
     /**
-     * This method is used to save an image from api response
-     * @param imageUrl
+     * This method is used to stream an image to a temporary file next to the destination, then move it into place.
+     * @param is
      * @param destinationFile
      * @throws IOException
      */
-    private static void saveImage(String imageUrl, String destinationFile) throws IOException {
-        URL url = new URL(imageUrl);
-        InputStream is = url.openStream();
-        OutputStream os = new FileOutputStream(destinationFile);
-
-        byte[] b = new byte[2048];
-        int length;
-
-        while ((length = is.read(b)) != -1) {
-            os.write(b, 0, length);
+    private static void saveImage(InputStream is, Path destinationFile) throws IOException {
+        FileUtil.createParentDirsOfFile(destinationFile);
+        Path tempFile = destinationFile.resolveSibling(destinationFile.getFileName() + ".part");
+        try {
+            Files.copy(is, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempFile, destinationFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
-
-        is.close();
-        os.close();
     }
 }
@@ -19,20 +19,22 @@ import seedu.address.model.gmaps.Location;
  * Url Constructor Util
  */
 public class UrlUtil {
+    public static final String DEFAULT_GMAPS_BASE_URL = "https://maps.googleapis.com/maps/api/";
 
     private static String gmapsApiKey = "";
+    private static String gmapsBaseUrl = DEFAULT_GMAPS_BASE_URL;
 
     private static final Logger logger = LogsCenter.getLogger(UrlUtil.class);
 
     /**
-     * Generates a URL object from a String.
+     * Generates a URL object from a String, percent-encoding the pipes that separate Google Maps parameters.
      *
      * @param url String to be converted
      * @return URL object or null if URL is malformed
      */
     public static URL generateUrl(String url) {
         try {
-            URL query = new URL(url);
+            URL query = new URL(url.replace("|", "%7C"));
             return query;
         } catch (MalformedURLException mue) {
             return null;
@@ -87,7 +89,7 @@ public class UrlUtil {
         if (locationsColumn.size() > 10 || locationsRow.size() > 10) {
             throw new InvalidParameterException("GMAPS API Only can make request to 10 locations.");
         }
-        String baseUrl = "https://maps.googleapis.com/maps/api/distancematrix/json?units=imperial&";
+        String baseUrl = gmapsBaseUrl + "distancematrix/json?units=imperial&";
         String apiKeyQueryParams = "key=" + gmapsApiKey;
         String originQueryParams = "origins=";
         String destinationQueryParams = "destinations=";
@@ -109,7 +111,7 @@ public class UrlUtil {
      * @return
      */
     public static String generateGmapsPlacesUrl(String locationName) {
-        String baseUrl = "https://maps.googleapis.com/maps/api/place/findplacefromtext/json?location=.sg&"
+        String baseUrl = gmapsBaseUrl + "place/findplacefromtext/json?location=.sg&"
                 + "inputtype=textquery&fields=name,place_id,geometry&locationbias=circle:4000@1.2966426,103.7763939&";
         String apiKeyQueryParams = "key=" + gmapsApiKey + "&";
         String queryParams = "input=" + conditionalLocationName(locationName) + "&";
@@ -123,7 +125,7 @@ public class UrlUtil {
      * @return
      */
     public static String generateGmapsPlaceDetailsUrl(String placeId) {
-        String baseUrl = "https://maps.googleapis.com/maps/api/place/details/json?";
+        String baseUrl = gmapsBaseUrl + "place/details/json?";
         String placeIdQueryParams = "place_id=" + placeId + "&";
         String apiKeyQueryParams = "key=" + gmapsApiKey + "&";
         String fullUrl = baseUrl + placeIdQueryParams + apiKeyQueryParams;
@@ -136,7 +138,7 @@ public class UrlUtil {
      * @return
      */
     public static String generateGmapsStaticImage(String coordinates) {
-        String baseUrl = "https://maps.googleapis.com/maps/api/staticmap?size=500x500&zoom=17";
+        String baseUrl = gmapsBaseUrl + "staticmap?size=500x500&zoom=17";
         String markerQueryParam = "&markers=color:red|size:large|label:L|" + coordinates;
         String centerQueryParam = "&center=" + coordinates;
         String apiKeyQueryParams = "&key=" + gmapsApiKey + "&";
@@ -159,6 +161,14 @@ public class UrlUtil {
         UrlUtil.gmapsApiKey = gmapsApiKey;
     }
 
+    /**
+     * This method is used to set the base url of the Google Maps APIs, such as a local server when testing
+     * @param gmapsBaseUrl url ending with a slash
+     */
+    public static void setGmapsBaseUrl(String gmapsBaseUrl) {
+        UrlUtil.gmapsBaseUrl = gmapsBaseUrl;
+    }
+
     /**
      * This method is used to handle edge cases on Google Api so that it would support all the locations in NUS.
      * @param locationName
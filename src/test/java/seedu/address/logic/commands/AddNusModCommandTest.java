@@ -81,10 +81,13 @@ class AddNusModCommandTest {
         //execute same type of command twice
         new AddNusModCommand(name, moduleCode, lessonTypeNumMap).execute(model);
         CommandResult actualCommandResult = new AddNusModCommand(name, moduleCode, lessonTypeNumMap).execute(model);
-        CommandResult expectedCommandResult = new CommandResult(
-                String.format(AddNusModCommand.MESSAGE_FAILURE, AddNusModCommand.MESSAGE_EVENTS_CLASH));
+        String expectedPrefix = String.format(AddNusModCommand.MESSAGE_FAILURE,
+                String.format(AddNusModCommand.MESSAGE_EVENTS_CLASH, "Clash in event: "));
 
-        assertTrue(actualCommandResult.equals(expectedCommandResult));
+        // The feedback names the events whose timeslots clash.
+        String feedback = actualCommandResult.getFeedbackToUser();
+        assertTrue(feedback.startsWith(expectedPrefix));
+        assertTrue(feedback.contains(" clashes with "));
     }
 
     @Test
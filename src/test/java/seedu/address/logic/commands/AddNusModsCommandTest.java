@@ -87,10 +87,13 @@ class AddNusModsCommandTest {
         //execute twice with same link
         new AddNusModsCommand(name, validLink).execute(model);
         CommandResult actualCommandResult = new AddNusModsCommand(name, validLink).execute(model);
-        CommandResult expectedCommandResult = new CommandResult(
-                String.format(AddNusModsCommand.MESSAGE_FAILURE, AddNusModsCommand.MESSAGE_EVENTS_CLASH));
+        String expectedPrefix = String.format(AddNusModsCommand.MESSAGE_FAILURE,
+                String.format(AddNusModsCommand.MESSAGE_EVENTS_CLASH, "Clash in event: "));
 
-        assertTrue(actualCommandResult.equals(expectedCommandResult));
+        // The feedback names the events whose timeslots clash.
+        String feedback = actualCommandResult.getFeedbackToUser();
+        assertTrue(feedback.startsWith(expectedPrefix));
+        assertTrue(feedback.contains(" clashes with "));
     }
 
     @Test
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.group.GroupName;
+import seedu.address.testutil.grouputil.TypicalGroups;
+import seedu.address.testutil.modelutil.TypicalModel;
+
+class FindMeetingCommandTest {
+    private ModelManager model;
+
+    @BeforeEach
+    void init() {
+        model = TypicalModel.generateModelWithSchedules();
+    }
+
+    @Test
+    void execute_success() throws CommandException {
+        String feedback = new FindMeetingCommand(TypicalGroups.GROUP_NAME1, 2, 3).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(FindMeetingCommand.MESSAGE_SUCCESS, 2, 3,
+                TypicalGroups.GROUP_NAME1)));
+        assertTrue(feedback.contains("3. "));
+        assertFalse(feedback.contains("4. "));
+    }
+
+    @Test
+    void execute_quorumTooLarge() {
+        assertThrows(CommandException.class, () -> new FindMeetingCommand(TypicalGroups.GROUP_NAME1, 4, 3)
+                .execute(model), String.format(FindMeetingCommand.MESSAGE_QUORUM_TOO_LARGE,
+                TypicalGroups.GROUP_NAME1, 3));
+    }
+
+    @Test
+    void execute_groupNotFound() {
+        assertThrows(CommandException.class, () -> new FindMeetingCommand(new GroupName("notAGroup"), 1, 3)
+                .execute(model), FindMeetingCommand.MESSAGE_GROUP_NOT_FOUND);
+    }
+
+    @Test
+    void testEquals() {
+        FindMeetingCommand command = new FindMeetingCommand(TypicalGroups.GROUP_NAME1, 2, 3);
+        assertTrue(command.equals(new FindMeetingCommand(TypicalGroups.GROUP_NAME1, 2, 3)));
+        assertFalse(command.equals(new FindMeetingCommand(TypicalGroups.GROUP_NAME1, 3, 3)));
+        assertFalse(command.equals(new FindMeetingCommand(TypicalGroups.GROUP_NAME2, 2, 3)));
+    }
+}
@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.AppSettings;
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ModelManager;
 import seedu.address.model.display.exceptions.PersonTimeslotNotFoundException;
@@ -158,6 +160,48 @@ class SelectCommandTest {
     }
 
 
+    @Test
+    void executeOnPerson_lastWeekShown_weekSearched() throws PersonNotFoundException {
+        setScheduleWeeks(2);
+        model.updateScheduleWithPerson(ALICE.getName(), LocalDateTime.now(), ScheduleState.PERSON);
+
+        // The typical persons have no timeslots after the first week, so reaching the week means not finding the id.
+        assertThrows(CommandException.class, String.format(SelectCommand.MESSAGE_FAILURE,
+                SelectCommand.MESSAGE_TIMESLOT_NOT_FOUND), () -> new SelectCommand(1, Name.emptyName(), 1)
+                .execute(model));
+    }
+
+    @Test
+    void executeOnPerson_weekAfterLastShown_throwsCommandException() throws PersonNotFoundException {
+        setScheduleWeeks(2);
+        model.updateScheduleWithPerson(ALICE.getName(), LocalDateTime.now(), ScheduleState.PERSON);
+
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_INVALID_WEEK, 2), () ->
+                new SelectCommand(2, Name.emptyName(), 1).execute(model));
+    }
+
+    @Test
+    void executeOnGroup_weekBeyondDefault_weekSearched() throws GroupNotFoundException {
+        setScheduleWeeks(6);
+        model.updateScheduleWithGroup(GROUP_NAME1, LocalDateTime.now(), ScheduleState.GROUP);
+
+        assertThrows(CommandException.class, String.format(SelectCommand.MESSAGE_FAILURE,
+                SelectCommand.MESSAGE_TIMESLOT_NOT_FOUND), () -> new SelectCommand(5, ALICE.getName(), 1)
+                .execute(model));
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_INVALID_WEEK, 6), () ->
+                new SelectCommand(6, ALICE.getName(), 1).execute(model));
+    }
+
+    /**
+     * Sets the number of weeks that can be viewed in a schedule.
+     */
+    private void setScheduleWeeks(int scheduleWeeks) {
+        AppSettings appSettings = new AppSettings();
+        appSettings.setScheduleWeeks(scheduleWeeks);
+        model.setAppSettings(appSettings);
+    }
+
+
     @Test
     void testEquals_null() {
         assertFalse(new SelectCommand(0, ALICE.getName(), 1).equals(null));
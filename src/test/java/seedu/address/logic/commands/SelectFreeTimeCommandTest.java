@@ -13,6 +13,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.AppSettings;
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ModelManager;
 import seedu.address.model.display.scheduledisplay.ScheduleState;
@@ -21,6 +23,7 @@ import seedu.address.model.group.GroupName;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
 import seedu.address.model.mapping.Role;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.Assert;
 import seedu.address.testutil.grouputil.TypicalGroups;
 import seedu.address.testutil.modelutil.TypicalModel;
 
@@ -100,4 +103,18 @@ class SelectFreeTimeCommandTest {
         SelectFreeTimeCommand selectFreeTimeCommand = new SelectFreeTimeCommand(0, 8);
         assertTrue(selectFreeTimeCommand.equals(selectFreeTimeCommand));
     }
+
+    @Test
+    void executeWeekBoundaries() throws CommandException, GroupNotFoundException {
+        AppSettings appSettings = new AppSettings();
+        appSettings.setScheduleWeeks(2);
+        model.setAppSettings(appSettings);
+        model.updateScheduleWithGroup(tempGroupName, dateTimeStub, ScheduleState.GROUP);
+
+        // The typical persons have no timeslots after the first week, so the id is not found in the second week.
+        assertEquals("Invalid time slot ID: 8. Please enter a valid id as shown in the GUI.",
+                new SelectFreeTimeCommand(1, 8).execute(model).getFeedbackToUser());
+        Assert.assertThrows(CommandException.class, String.format(Messages.MESSAGE_INVALID_WEEK, 2), () ->
+                new SelectFreeTimeCommand(2, 8).execute(model));
+    }
 }
@@ -0,0 +1,89 @@
+package seedu.address.logic.internal.gmaps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.TimeBookInvalidState;
+import seedu.address.model.display.locationdata.ClosestCommonLocationData;
+import seedu.address.model.gmaps.Location;
+import seedu.address.model.gmaps.LocationGraph;
+
+class ClosestLocationCacheTest {
+    private ClosestLocation closestLocation;
+    private ClosestLocationCache closestLocationCache;
+
+    @BeforeEach
+    void init() throws TimeBookInvalidState {
+        ProcessVenues processVenues;
+        processVenues = new ProcessVenues().process();
+        ArrayList<Location> locations = processVenues.getLocations();
+        ArrayList<Location> validLocationList = processVenues.getValidLocationList();
+        ProcessLocationGraph processLocationGraph = new ProcessLocationGraph(validLocationList);
+        LocationGraph locationGraph = new LocationGraph(locations, validLocationList,
+                processLocationGraph.getDistanceMatrix());
+        closestLocation = new ClosestLocation(locationGraph);
+        closestLocationCache = new ClosestLocationCache(closestLocation);
+    }
+
+    @Test
+    void closestLocationData_sameAsClosestLocation() {
+        ArrayList<String> locationNameList = new ArrayList<>(Arrays.asList("LT17", "AS5", "BIAP"));
+        ClosestCommonLocationData expected = closestLocation.closestLocationData(locationNameList);
+        ClosestCommonLocationData result = closestLocationCache.closestLocationData(locationNameList);
+        assertEquals(expected.toString(), result.toString());
+        assertEquals(expected.getFirstAvg(), result.getFirstAvg());
+        assertEquals(expected.getSecondAvg(), result.getSecondAvg());
+        assertEquals(expected.getThirdAvg(), result.getThirdAvg());
+        assertEquals(expected.getInvalidLocation(), result.getInvalidLocation());
+    }
+
+    @Test
+    void closestLocationData_repeatedVenues_hit() {
+        ClosestCommonLocationData first = closestLocationCache.closestLocationData(
+                new ArrayList<>(Arrays.asList("LT17", "AS5")));
+        ClosestCommonLocationData second = closestLocationCache.closestLocationData(
+                new ArrayList<>(Arrays.asList("AS5", "LT17")));
+        assertSame(first, second);
+        assertEquals(1, closestLocationCache.getHitCount());
+        assertEquals(1, closestLocationCache.getMissCount());
+        assertEquals(1, closestLocationCache.size());
+    }
+
+    @Test
+    void closestLocationData_differentMultiset_miss() {
+        closestLocationCache.closestLocationData(new ArrayList<>(Arrays.asList("LT17", "AS5")));
+        closestLocationCache.closestLocationData(new ArrayList<>(Arrays.asList("LT17", "AS5", "AS5")));
+        assertEquals(0, closestLocationCache.getHitCount());
+        assertEquals(2, closestLocationCache.getMissCount());
+    }
+
+    @Test
+    void closestLocationData_full_leastRecentlyUsedEvicted() {
+        closestLocationCache = new ClosestLocationCache(closestLocation, 2);
+        closestLocationCache.closestLocationData(new ArrayList<>(Arrays.asList("LT17")));
+        closestLocationCache.closestLocationData(new ArrayList<>(Arrays.asList("AS5")));
+        closestLocationCache.closestLocationData(new ArrayList<>(Arrays.asList("LT17")));
+        closestLocationCache.closestLocationData(new ArrayList<>(Arrays.asList("LT19")));
+        assertEquals(2, closestLocationCache.size());
+
+        closestLocationCache.closestLocationData(new ArrayList<>(Arrays.asList("LT17")));
+        assertEquals(2, closestLocationCache.getHitCount());
+        closestLocationCache.closestLocationData(new ArrayList<>(Arrays.asList("AS5")));
+        assertEquals(4, closestLocationCache.getMissCount());
+    }
+
+    @Test
+    void clear() {
+        closestLocationCache.closestLocationData(new ArrayList<>(Arrays.asList("LT17")));
+        closestLocationCache.clear();
+        assertEquals(0, closestLocationCache.size());
+        closestLocationCache.closestLocationData(new ArrayList<>(Arrays.asList("LT17")));
+        assertEquals(2, closestLocationCache.getMissCount());
+    }
+}
@@ -13,17 +13,20 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.TimeBookInvalidState;
 import seedu.address.model.display.locationdata.ClosestCommonLocationData;
+import seedu.address.model.gmaps.DistanceObjective;
 import seedu.address.model.gmaps.Location;
 import seedu.address.model.gmaps.LocationGraph;
+import seedu.address.model.gmaps.NearestMeetingPoints;
 
 class ClosestLocationTest {
     private ClosestLocation closestLocation;
+    private ArrayList<Location> validLocationList;
     @BeforeEach
     void init() throws TimeBookInvalidState {
         ProcessVenues processVenues;
         processVenues = new ProcessVenues().process();
         ArrayList<Location> locations = processVenues.getLocations();
-        ArrayList<Location> validLocationList = processVenues.getValidLocationList();
+        validLocationList = processVenues.getValidLocationList();
         ProcessLocationGraph processLocationGraph = new ProcessLocationGraph(validLocationList);
         LocationGraph locationGraph = new LocationGraph(locations, validLocationList,
                 processLocationGraph.getDistanceMatrix());
@@ -97,7 +100,7 @@ class ClosestLocationTest {
         String expectedResult = "\n"
                 + "First closest location: LT17 | Average travelling distance/meters Avg distance: 0(meters)\n"
                 + "Second closest location: LT19 | Average travelling distance/meters Avg distance: 11(meters)\n"
-                + "Third closest location: SH | Average travelling distance/meters Avg distance: 403(meters)\n";
+                + "Third closest location: LT16 | Average travelling distance/meters Avg distance: 23(meters)\n";
         assertEquals(expectedResult, result);
     }
 
@@ -108,7 +111,7 @@ class ClosestLocationTest {
         String expectedResult = "\n"
                 + "First closest location: LT17 | Average travelling distance/meters Avg distance: 0(meters)\n"
                 + "Second closest location: LT19 | Average travelling distance/meters Avg distance: 7(meters)\n"
-                + "Third closest location: SH | Average travelling distance/meters Avg distance: 268(meters)\n"
+                + "Third closest location: LT16 | Average travelling distance/meters Avg distance: 15(meters)\n"
                 + "Could not recognise these locations:\n"
                 + "BIAP\n";
         assertEquals(expectedResult, result);
@@ -125,4 +128,148 @@ class ClosestLocationTest {
                         + "Invalid Source location: BIAP, BIAP, BIAP\n";
         assertEquals(expectedResult, result);
     }
+
+    @Test
+    void closestLocationData_moreResults_sortedDistinctPlaces() {
+        ArrayList<String> locationNameList = new ArrayList<>(Arrays.asList("SDE1", "SDE1"));
+        ClosestCommonLocationData result = closestLocation.closestLocationData(locationNameList, 8,
+                DistanceObjective.AVERAGE);
+        ArrayList<String> closestLocations = result.getClosestLocations();
+        assertEquals(8, closestLocations.size());
+        assertEquals("SDE", closestLocations.get(0));
+        // SDE, SDE1, SDE4 and GBT were all resolved to the same place.
+        assertFalse(closestLocations.contains("SDE1"));
+        assertFalse(closestLocations.contains("SDE4"));
+        assertFalse(closestLocations.contains("GBT"));
+    }
+
+    @Test
+    void closestLocationData_objectives() {
+        ClosestLocation smallClosestLocation = new ClosestLocation(createSmallGraph("placeB"));
+        ArrayList<String> locationNameList = new ArrayList<>(Arrays.asList("A", "B"));
+
+        ClosestCommonLocationData average = smallClosestLocation.closestLocationData(locationNameList, 3,
+                DistanceObjective.AVERAGE);
+        assertEquals(Arrays.asList("A", "B", "C"), average.getClosestLocations());
+        assertEquals("Avg distance: 50(meters)", average.getFirstAvg());
+
+        ClosestCommonLocationData minimax = smallClosestLocation.closestLocationData(locationNameList, 3,
+                DistanceObjective.MINIMAX);
+        assertEquals(Arrays.asList("C", "A", "B"), minimax.getClosestLocations());
+        assertEquals("Max distance: 60(meters)", minimax.getFirstAvg());
+    }
+
+    @Test
+    void closestLocationData_samePlace_returnedOnce() {
+        ClosestLocation smallClosestLocation = new ClosestLocation(createSmallGraph("placeA"));
+        ArrayList<String> locationNameList = new ArrayList<>(Arrays.asList("A", "B"));
+        ClosestCommonLocationData result = smallClosestLocation.closestLocationData(locationNameList, 3,
+                DistanceObjective.AVERAGE);
+        assertEquals(Arrays.asList("A", "C"), result.getClosestLocations());
+        assertNull(result.getThirdClosest());
+    }
+
+    @Test
+    void closestLocationData_missingDistances_estimatedFromCoordinates() {
+        // B has no distances at all, and the distance between A and C is missing.
+        LocationGraph graph = createGraphWithCoordinates(new int[] {
+            0, LocationGraph.NO_DISTANCE, LocationGraph.NO_DISTANCE, 140,
+            LocationGraph.NO_DISTANCE, 0, LocationGraph.NO_DISTANCE, LocationGraph.NO_DISTANCE,
+            LocationGraph.NO_DISTANCE, LocationGraph.NO_DISTANCE, 0, 280,
+            140, LocationGraph.NO_DISTANCE, 280, 0});
+        ClosestLocation smallClosestLocation = new ClosestLocation(graph);
+
+        // A and C are 300 meters apart in a straight line, and walking distances are 1.4 times longer.
+        ClosestCommonLocationData estimated = smallClosestLocation.closestLocationData(
+                new ArrayList<>(Arrays.asList("A", "C")), 1, DistanceObjective.MINIMAX);
+        assertEquals(Arrays.asList("D"), estimated.getClosestLocations());
+        assertEquals("Max distance: 280(meters)", estimated.getFirstAvg());
+
+        // B is 10 meters from A, so it uses the distances from A to get to C.
+        ClosestCommonLocationData snapped = smallClosestLocation.closestLocationData(
+                new ArrayList<>(Arrays.asList("B", "C")), 1, DistanceObjective.MINIMAX);
+        assertTrue(snapped.getInvalidLocation().isEmpty());
+        assertEquals(Arrays.asList("D"), snapped.getClosestLocations());
+        assertEquals("Max distance: 280(meters)", snapped.getFirstAvg());
+    }
+
+    @Test
+    void closestLocationData_singleVenue_sameAsWithoutTable() {
+        int depth = ClosestLocation.NEAREST_MEETING_POINTS;
+        for (int i = 0; i < closestLocation.getNearestMeetingPoints().getSize(); i++) {
+            ArrayList<String> venue = new ArrayList<>(Arrays.asList(validLocationName(i)));
+            // More results than the table holds are computed from the distances instead.
+            ClosestCommonLocationData computed = closestLocation.closestLocationData(venue, depth + 1,
+                    DistanceObjective.AVERAGE);
+            ClosestCommonLocationData lookedUp = closestLocation.closestLocationData(venue, depth,
+                    DistanceObjective.AVERAGE);
+            int count = lookedUp.getClosestLocations().size();
+            assertEquals(computed.getClosestLocations().subList(0, count), lookedUp.getClosestLocations());
+            for (int rank = 0; rank < count; rank++) {
+                assertEquals(computed.getDistance(rank), lookedUp.getDistance(rank));
+            }
+        }
+    }
+
+    @Test
+    void closestLocationData_tableInGraph_tableUsed() {
+        LocationGraph graph = createSmallGraph("placeB");
+        graph.setNearestMeetingPoints(new NearestMeetingPoints(3, 1, new int[] {2, 2, 2}, new int[] {7, 7, 7}));
+        ClosestCommonLocationData result = new ClosestLocation(graph).closestLocationData(
+                new ArrayList<>(Arrays.asList("A")), 1, DistanceObjective.AVERAGE);
+        assertEquals(Arrays.asList("C"), result.getClosestLocations());
+        assertEquals("Avg distance: 7(meters)", result.getFirstAvg());
+    }
+
+    /**
+     * Returns the name of the valid location at index in the location graph, without its NUS_ prefix.
+     */
+    private String validLocationName(int index) {
+        return validLocationList.get(index).getValidLocation().substring("NUS_".length());
+    }
+
+    /**
+     * Creates a graph of A, B, C and D along a line of longitude, 0, 10, 300 and 100 meters north of A.
+     */
+    private static LocationGraph createGraphWithCoordinates(int[] distances) {
+        double[] metersNorth = {0, 10, 300, 100};
+        ArrayList<Location> validLocationList = new ArrayList<>();
+        ArrayList<Location> locations = new ArrayList<>();
+        for (int i = 0; i < metersNorth.length; i++) {
+            String name = String.valueOf((char) ('A' + i));
+            Location validLocation = new Location("NUS_" + name);
+            validLocation.setValidLocation("NUS_" + name);
+            validLocation.setPlaceId("place" + name);
+            validLocation.setLat(String.valueOf(1.3 + Math.toDegrees(metersNorth[i] / 6371008.8)));
+            validLocation.setLng("103.77");
+            validLocationList.add(validLocation);
+            Location location = new Location(name);
+            location.setValidLocation("NUS_" + name);
+            locations.add(location);
+        }
+        return new LocationGraph(locations, validLocationList, distances);
+    }
+
+    /**
+     * Creates a graph of A, B and C, where C is 60 meters from both A and B, which are 100 meters apart.
+     */
+    private static LocationGraph createSmallGraph(String placeIdOfB) {
+        ArrayList<Location> validLocationList = new ArrayList<>();
+        String[] placeIds = {"placeA", placeIdOfB, "placeC"};
+        ArrayList<Location> locations = new ArrayList<>();
+        for (int i = 0; i < placeIds.length; i++) {
+            String name = String.valueOf((char) ('A' + i));
+            Location validLocation = new Location("NUS_" + name);
+            validLocation.setValidLocation("NUS_" + name);
+            validLocation.setPlaceId(placeIds[i]);
+            validLocationList.add(validLocation);
+            Location location = new Location(name);
+            location.setValidLocation("NUS_" + name);
+            locations.add(location);
+        }
+        return new LocationGraph(locations, validLocationList, new int[] {
+            0, 100, 60,
+            100, 0, 60,
+            60, 60, 0});
+    }
 }
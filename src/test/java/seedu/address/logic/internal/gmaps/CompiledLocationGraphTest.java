@@ -0,0 +1,117 @@
+package seedu.address.logic.internal.gmaps;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.gmaps.Location;
+import seedu.address.model.gmaps.LocationGraph;
+import seedu.address.model.gmaps.NearestMeetingPoints;
+
+class CompiledLocationGraphTest {
+    private static final long STAMP = 42;
+
+    @TempDir
+    public Path tempDir;
+
+    private Path path;
+    private LocationGraph locationGraph;
+
+    @BeforeEach
+    void init() {
+        path = tempDir.resolve("LocationGraph.bin");
+
+        Location lt17 = new Location("LT17");
+        lt17.setValidLocation("NUS_LT17");
+        lt17.setPlaceId("placeId");
+        lt17.setLat("1.29");
+        lt17.setLng("103.77");
+        Location unknown = new Location("UNKNOWN");
+        Location validLt17 = new Location("NUS_LT17");
+        validLt17.setValidLocation("NUS_LT17");
+        Location validCom1 = new Location("NUS_COM1");
+        validCom1.setValidLocation("NUS_COM1");
+
+        locationGraph = new LocationGraph(new ArrayList<>(Arrays.asList(lt17, unknown)),
+                new ArrayList<>(Arrays.asList(validLt17, validCom1)),
+                new int[] {0, 250, LocationGraph.NO_DISTANCE, 0});
+    }
+
+    @Test
+    void load_sameStamp_sameLocationGraph() {
+        CompiledLocationGraph.save(path, locationGraph, STAMP);
+        LocationGraph loaded = CompiledLocationGraph.load(path, STAMP).get();
+
+        assertArrayEquals(locationGraph.getDistanceMatrix(), loaded.getDistanceMatrix());
+        assertEquals(locationGraph.getLocations().toString(), loaded.getLocations().toString());
+        assertEquals(locationGraph.getValidLocationList().toString(), loaded.getValidLocationList().toString());
+        assertEquals("1.29,103.77", loaded.getLocations().get(0).getLatLng());
+        assertNull(loaded.getLocations().get(1).getValidLocation());
+    }
+
+    @Test
+    void load_nearestMeetingPoints_sameNearestMeetingPoints() {
+        assertTrue(CompiledLocationGraph.load(saved(), STAMP).get().getNearestMeetingPoints().isEmpty());
+
+        locationGraph.setNearestMeetingPoints(new NearestMeetingPoints(2, 2,
+                new int[] {0, 1, 1, NearestMeetingPoints.NO_POINT}, new int[] {0, 250, 0, 0}));
+        NearestMeetingPoints loaded = CompiledLocationGraph.load(saved(), STAMP).get()
+                .getNearestMeetingPoints().get();
+        assertEquals(2, loaded.getDepth());
+        assertArrayEquals(new int[] {0, 1, 1, NearestMeetingPoints.NO_POINT}, loaded.getPoints());
+        assertArrayEquals(new int[] {0, 250, 0, 0}, loaded.getDistances());
+    }
+
+    @Test
+    void load_differentStamp_empty() {
+        CompiledLocationGraph.save(path, locationGraph, STAMP);
+        assertTrue(CompiledLocationGraph.load(path, STAMP + 1).isEmpty());
+    }
+
+    @Test
+    void save_afterStaleLoad_replaced() {
+        CompiledLocationGraph.save(path, locationGraph, STAMP);
+        // The sequence on launch after the responses change, which must be able to replace the file it just read.
+        assertTrue(CompiledLocationGraph.load(path, STAMP + 1).isEmpty());
+        CompiledLocationGraph.save(path, locationGraph, STAMP + 1);
+        assertTrue(CompiledLocationGraph.load(path, STAMP + 1).isPresent());
+    }
+
+    @Test
+    void load_shorterThanHeader_empty() throws IOException {
+        Files.write(path, new byte[] {0x54, 0x42});
+        assertTrue(CompiledLocationGraph.load(path, STAMP).isEmpty());
+    }
+
+    @Test
+    void load_missingFile_empty() {
+        assertTrue(CompiledLocationGraph.load(path, STAMP).isEmpty());
+    }
+
+    @Test
+    void load_truncatedFile_empty() throws IOException {
+        CompiledLocationGraph.save(path, locationGraph, STAMP);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+        assertTrue(CompiledLocationGraph.load(path, STAMP).isEmpty());
+    }
+
+    /**
+     * Saves the location graph and returns the path it was saved to.
+     */
+    private Path saved() {
+        CompiledLocationGraph.save(path, locationGraph, STAMP);
+        return path;
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.logic.internal.gmaps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.gmaps.Location;
+import seedu.address.model.gmaps.LocationGraph;
+import seedu.address.testutil.StubHttpServer;
+import seedu.address.websocket.util.UrlUtil;
+
+class DistanceMatrixFetcherTest {
+    private static final int SIZE = 25;
+    private static final int TILES = 9;
+    private static final String PLACE_ID_PREFIX = "place";
+
+    private StubHttpServer server;
+    private ArrayList<Location> validLocationList;
+    private List<Map<String, JSONObject>> commits;
+
+    @BeforeEach
+    void init() {
+        server = new StubHttpServer();
+        server.respondTo("/distancematrix/json", "application/json", DistanceMatrixFetcherTest::distanceMatrix);
+        UrlUtil.setGmapsBaseUrl(server.getBaseUrl());
+        UrlUtil.setGmapsApiKey("stub");
+
+        validLocationList = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            Location location = new Location("NUS_" + i);
+            location.setPlaceId(PLACE_ID_PREFIX + i);
+            validLocationList.add(location);
+        }
+        commits = new ArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        UrlUtil.setGmapsBaseUrl(UrlUtil.DEFAULT_GMAPS_BASE_URL);
+        UrlUtil.setGmapsApiKey("");
+        server.close();
+    }
+
+    @Test
+    void fetch_emptyCache_fetchesEveryTileAndCommitsOnce() {
+        DistanceMatrixFetcher fetcher = new DistanceMatrixFetcher(new JSONObject(), commits::add, 3, 1000);
+        int[] distanceMatrix = new ProcessLocationGraph(validLocationList, fetcher).getDistanceMatrix();
+
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < SIZE; j++) {
+                assertEquals(distance(i, j), distanceMatrix[i * SIZE + j]);
+            }
+        }
+        assertEquals(1, commits.size());
+        assertEquals(TILES, commits.get(0).size());
+        assertTrue(server.getMaxRequestsInFlight() <= 3);
+    }
+
+    @Test
+    void fetch_cachedTiles_notRequested() {
+        new ProcessLocationGraph(validLocationList,
+                new DistanceMatrixFetcher(new JSONObject(), commits::add, 3, 1000));
+        JSONObject cachedResponses = new JSONObject();
+        cachedResponses.putAll(commits.get(0));
+        int requestCount = server.getRequestCount();
+
+        int[] distanceMatrix = new ProcessLocationGraph(validLocationList,
+                new DistanceMatrixFetcher(cachedResponses, commits::add, 3, 1000)).getDistanceMatrix();
+
+        assertEquals(distance(SIZE - 1, 0), distanceMatrix[(SIZE - 1) * SIZE]);
+        assertEquals(requestCount, server.getRequestCount());
+        assertEquals(1, commits.size());
+    }
+
+    @Test
+    void fetch_rateLimited_requestsSpacedOut() {
+        long start = System.nanoTime();
+        new DistanceMatrixFetcher(new JSONObject(), commits::add, TILES, 50)
+                .fetch(DistanceMatrixFetcher.tilesOf(validLocationList));
+
+        // The last of the tiles can only start (TILES - 1) / 50 seconds after the first.
+        assertTrue(System.nanoTime() - start >= (TILES - 1) * 1_000_000_000L / 50);
+        assertEquals(TILES, commits.get(0).size());
+    }
+
+    @Test
+    void fetch_noApiKey_emptyResponses() {
+        UrlUtil.setGmapsApiKey("");
+        int[] distanceMatrix = new ProcessLocationGraph(validLocationList,
+                new DistanceMatrixFetcher(new JSONObject(), commits::add, 3, 1000)).getDistanceMatrix();
+
+        assertEquals(LocationGraph.NO_DISTANCE, distanceMatrix[1]);
+        assertEquals(0, server.getRequestCount());
+        assertTrue(commits.isEmpty());
+    }
+
+    private static int distance(int origin, int destination) {
+        return Math.abs(origin - destination) * 100;
+    }
+
+    /**
+     * Returns a Distance Matrix response between the places in the query, with distances given by distance().
+     */
+    private static byte[] distanceMatrix(URI uri) {
+        Map<String, List<Integer>> places = new HashMap<>();
+        for (String parameter : uri.getQuery().split("&")) {
+            String[] keyValue = parameter.split("=", 2);
+            List<Integer> placeNumbers = new ArrayList<>();
+            for (String place : keyValue[keyValue.length - 1].split("\\|")) {
+                if (place.startsWith("place_id:" + PLACE_ID_PREFIX)) {
+                    placeNumbers.add(Integer.parseInt(place.substring(("place_id:" + PLACE_ID_PREFIX).length())));
+                }
+            }
+            places.put(keyValue[0], placeNumbers);
+        }
+
+        JSONArray rows = new JSONArray();
+        for (int origin : places.get("origins")) {
+            JSONArray elements = new JSONArray();
+            for (int destination : places.get("destinations")) {
+                JSONObject distance = new JSONObject();
+                distance.put("value", (long) distance(origin, destination));
+                JSONObject element = new JSONObject();
+                element.put("status", "OK");
+                element.put("distance", distance);
+                elements.add(element);
+            }
+            JSONObject row = new JSONObject();
+            row.put("elements", elements);
+            rows.add(row);
+        }
+        JSONObject response = new JSONObject();
+        response.put("status", "OK");
+        response.put("rows", rows);
+        return response.toJSONString().getBytes(StandardCharsets.UTF_8);
+    }
+}
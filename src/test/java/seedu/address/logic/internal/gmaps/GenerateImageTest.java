@@ -1,18 +1,31 @@
 package seedu.address.logic.internal.gmaps;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.TimeBookInvalidState;
 import seedu.address.model.gmaps.Location;
+import seedu.address.testutil.StubHttpServer;
 import seedu.address.websocket.util.UrlUtil;
 
 class GenerateImageTest {
+    private static final int LOCATIONS = 6;
+
+    @TempDir
+    public Path tempDir;
 
     @Test
     void executeNoKeyThrowError() {
@@ -36,5 +49,91 @@ class GenerateImageTest {
         UrlUtil.setGmapsApiKey("");
     }
 
+    @Test
+    void execute_stubServer_savesEveryImageWithOneRequestEach() throws Exception {
+        try (StubHttpServer server = startServer(false)) {
+            new GenerateImage(validLocations(), tempDir, 3).execute();
+
+            assertEquals(LOCATIONS, server.getRequestCount());
+            assertTrue(server.getMaxRequestsInFlight() <= 3);
+            for (int i = 0; i < LOCATIONS; i++) {
+                assertArrayEquals(image(i), Files.readAllBytes(tempDir.resolve("NUS_" + i + ".png")));
+            }
+            assertFalse(Files.exists(tempDir.resolve(GenerateImage.MANIFEST_FILE_NAME)));
+        } finally {
+            reset();
+        }
+    }
+
+    @Test
+    void execute_failedImage_resumesWithoutSavedImages() throws Exception {
+        try (StubHttpServer server = startServer(true)) {
+            new GenerateImage(validLocations(), tempDir, 3).execute();
+            assertFalse(Files.exists(tempDir.resolve("NUS_0.png")));
+            assertEquals(LOCATIONS - 1, Files.readAllLines(tempDir.resolve(GenerateImage.MANIFEST_FILE_NAME)).size());
+
+            int requestCount = server.getRequestCount();
+            new GenerateImage(validLocations(), tempDir, 3).execute();
+            assertEquals(requestCount + 1, server.getRequestCount());
+        } finally {
+            reset();
+        }
+    }
+
+    @Test
+    void execute_movedLocation_imageSavedAgain() throws Exception {
+        try (StubHttpServer server = startServer(true)) {
+            new GenerateImage(validLocations(), tempDir, 3).execute();
+            int requestCount = server.getRequestCount();
+
+            ArrayList<Location> validLocations = validLocations();
+            validLocations.get(1).setLat("2.0");
+            new GenerateImage(validLocations, tempDir, 3).execute();
+            assertEquals(requestCount + 2, server.getRequestCount());
+        } finally {
+            reset();
+        }
+    }
+
+    /**
+     * Starts a server with a static map of every location, except the first if isMissingFirst.
+     */
+    private StubHttpServer startServer(boolean isMissingFirst) {
+        StubHttpServer server = new StubHttpServer();
+        server.respondTo("/staticmap", "image/png", uri -> {
+            String center = uri.getQuery().split("center=")[1].split("&")[0];
+            int index = Integer.parseInt(center.split(",")[1]);
+            return isMissingFirst && index == 0 ? null : image(index);
+        });
+        UrlUtil.setGmapsBaseUrl(server.getBaseUrl());
+        UrlUtil.setGmapsApiKey("stub");
+        return server;
+    }
+
+    /**
+     * Points Google Maps requests back at Google, without an API key.
+     */
+    private void reset() {
+        UrlUtil.setGmapsBaseUrl(UrlUtil.DEFAULT_GMAPS_BASE_URL);
+        UrlUtil.setGmapsApiKey("");
+    }
+
+    /**
+     * Returns valid locations whose longitudes are their indexes.
+     */
+    private ArrayList<Location> validLocations() {
+        ArrayList<Location> validLocations = new ArrayList<>();
+        for (int i = 0; i < LOCATIONS; i++) {
+            Location validLocation = new Location("NUS_" + i);
+            validLocation.setValidLocation("NUS_" + i);
+            validLocation.setLat("1.0");
+            validLocation.setLng(String.valueOf(i));
+            validLocations.add(validLocation);
+        }
+        return validLocations;
+    }
 
+    private static byte[] image(int index) {
+        return ("image " + index).getBytes(StandardCharsets.UTF_8);
+    }
 }
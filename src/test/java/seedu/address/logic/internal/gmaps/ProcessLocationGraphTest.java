@@ -2,8 +2,6 @@ package seedu.address.logic.internal.gmaps;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
-import java.util.ArrayList;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -11,18 +9,20 @@ import seedu.address.commons.exceptions.IllegalValueException;
 
 class ProcessLocationGraphTest {
     private ProcessLocationGraph processLocationGraph;
+    private int size;
     @BeforeEach
     void init() {
         ProcessVenues processVenues = new ProcessVenues().process();
+        size = processVenues.getValidLocationList().size();
         processLocationGraph = new ProcessLocationGraph(processVenues.getValidLocationList());
     }
 
     @Test
     void populateMatrix() {
-        ArrayList<ArrayList<Long>> distanceMatrix = processLocationGraph.getDistanceMatrix();
+        int[] distanceMatrix = processLocationGraph.getDistanceMatrix();
         assertDoesNotThrow(() -> {
-            for (int i = 0; i < distanceMatrix.size(); i++) {
-                if (distanceMatrix.get(i).get(i) != 0) {
+            for (int i = 0; i < size; i++) {
+                if (distanceMatrix[i * size + i] != 0) {
                     throw new IllegalValueException("Venue i to venue i is not 0 meter away");
                 }
             }
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUPNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUORUM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.personutil.TypicalPersonDescriptor.WHITESPACE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindMeetingCommand;
+import seedu.address.testutil.grouputil.TypicalGroups;
+
+class FindMeetingCommandParserTest {
+
+    private FindMeetingCommandParser parser = new FindMeetingCommandParser();
+
+    @Test
+    void parse_successNoTop() {
+        assertParseSuccess(parser,
+                WHITESPACE + PREFIX_GROUPNAME + TypicalGroups.GROUP_NAME1 + WHITESPACE + PREFIX_QUORUM + 2,
+                new FindMeetingCommand(TypicalGroups.GROUP_NAME1, 2, FindMeetingCommand.DEFAULT_NUMBER_OF_SLOTS));
+    }
+
+    @Test
+    void parse_successTop() {
+        assertParseSuccess(parser,
+                WHITESPACE + PREFIX_GROUPNAME + TypicalGroups.GROUP_NAME1 + WHITESPACE + PREFIX_QUORUM + 2
+                        + WHITESPACE + PREFIX_TOP + 3,
+                new FindMeetingCommand(TypicalGroups.GROUP_NAME1, 2, 3));
+    }
+
+    @Test
+    void parse_noQuorum() {
+        assertParseFailure(parser,
+                WHITESPACE + PREFIX_GROUPNAME + TypicalGroups.GROUP_NAME1,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindMeetingCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    void parse_invalidQuorum() {
+        assertParseFailure(parser,
+                WHITESPACE + PREFIX_GROUPNAME + TypicalGroups.GROUP_NAME1 + WHITESPACE + PREFIX_QUORUM + 0,
+                "A quorum has to be a positive integer.");
+    }
+}
@@ -333,12 +333,13 @@ public class ParserUtilTest {
 
     @Test
     public void parseWeek_invalidFormat() {
-        assertThrows(ParseException.class, () -> ParserUtil.parseWeek("7"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseWeek("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseWeek("18"));
 
         try {
-            ParserUtil.parseEventName("7");
+            ParserUtil.parseWeek("18");
         } catch (ParseException e) {
-            assertEquals("A week has to be an integer from 1 to 4.",
+            assertEquals("A week has to be an integer from 1 to 17.",
                     e.getMessage());
         }
     }
@@ -348,16 +349,18 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseWeek("asd"));
 
         try {
-            ParserUtil.parseEventName("asd");
+            ParserUtil.parseWeek("asd");
         } catch (ParseException e) {
-            assertEquals("A week has to be an integer from 1 to 4.",
+            assertEquals("A week has to be an integer from 1 to 17.",
                     e.getMessage());
         }
     }
 
     @Test
     public void parseWeek_valid() throws ParseException {
+        assertEquals(0, ParserUtil.parseWeek("1"));
         assertEquals(3, ParserUtil.parseWeek("4"));
+        assertEquals(16, ParserUtil.parseWeek("17"));
     }
 
     //============================ parseDay ======================================
@@ -1,10 +1,13 @@
 package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.CompletionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,8 +36,8 @@ class GmapsModelManagerTest {
         String result = gmapsModelManager.closestLocationDataString(locationNameList);
         String expectedResult = "\nFirst closest location: LT17 | Average travelling distance/meters Avg distance: "
                 + "0(meters)\nSecond closest location: LT19 | Average travelling distance/meters Avg distance: "
-                + "11(meters)\nThird closest location: SH | Average travelling distance/meters Avg distance: "
-                + "403(meters)\n";
+                + "11(meters)\nThird closest location: LT16 | Average travelling distance/meters Avg distance: "
+                + "23(meters)\n";
         assertEquals(expectedResult, result);
     }
 
@@ -54,4 +57,42 @@ class GmapsModelManagerTest {
     void generateImageFailureNoKey() {
         assertThrows(TimeBookInvalidState.class, ()->gmapsModelManager.generateImage());
     }
+
+    @Test
+    void closestLocationData_beforeReady_pending() {
+        ArrayList<Runnable> tasks = new ArrayList<>();
+        GmapsModelManager backgroundModelManager = new GmapsModelManager(tasks::add);
+        ArrayList<String> locationNameList = new ArrayList<>(Arrays.asList("LT17", "LT17", "LT17"));
+
+        assertFalse(backgroundModelManager.isReady());
+        ClosestCommonLocationData result = backgroundModelManager.closestLocationData(locationNameList);
+        assertTrue(result.isPending());
+        assertFalse(result.isOk());
+        assertEquals(new ArrayList<String>(), backgroundModelManager.validLocationSuggester("LT1"));
+
+        tasks.forEach(Runnable::run);
+        assertTrue(backgroundModelManager.getReadiness().isDone());
+        assertTrue(backgroundModelManager.isReady());
+        assertFalse(backgroundModelManager.isFailed());
+        assertEquals("LT17", backgroundModelManager.closestLocationData(locationNameList).getFirstClosest());
+    }
+
+    @Test
+    void closestLocationData_failedToLoad_failureShown() {
+        GmapsModelManager backgroundModelManager = new GmapsModelManager(task -> { });
+        ArrayList<String> locationNameList = new ArrayList<>(Arrays.asList("LT17", "LT17", "LT17"));
+        backgroundModelManager.getReadiness().completeExceptionally(
+                new CompletionException(new TimeBookInvalidState("No venues")));
+
+        assertTrue(backgroundModelManager.isFailed());
+        assertFalse(backgroundModelManager.isReady());
+        String expectedMessage = String.format(GmapsModelManager.MESSAGE_LOAD_FAILED, "No venues");
+        ClosestCommonLocationData result = backgroundModelManager.closestLocationData(locationNameList);
+        assertFalse(result.isPending());
+        assertFalse(result.isOk());
+        assertTrue(result.getErrorResponse().startsWith(expectedMessage));
+        assertEquals("Cannot get result because " + expectedMessage,
+                backgroundModelManager.closestLocationDataString(locationNameList));
+        assertThrows(TimeBookInvalidState.class, () -> backgroundModelManager.generateImage());
+    }
 }
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.grouputil.TypicalGroups.GROUP0;
@@ -22,12 +24,17 @@ import static seedu.address.testutil.scheduleutil.TypicalEvents.EVENT_NAME2;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.display.scheduledisplay.GroupScheduleDisplay;
+import seedu.address.model.display.scheduledisplay.ScheduleDisplay;
+import seedu.address.model.display.scheduledisplay.ScheduleState;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupId;
 import seedu.address.model.group.GroupList;
@@ -434,4 +441,48 @@ public class ModelManagerTest {
         assertThrows(MappingNotFoundException.class, () ->
                 modelManager.findRole(elle.getPersonId(), group1.getGroupId()));
     }
+
+    @Test
+    void updateScheduleWithGroup_unchanged_reusesScheduleDisplay() throws GroupNotFoundException {
+        LocalDateTime now = LocalDateTime.now();
+        modelManager.updateScheduleWithGroup(GROUP_NAME1, now, ScheduleState.GROUP);
+        ScheduleDisplay scheduleDisplay = modelManager.getScheduleDisplay();
+
+        modelManager.updateScheduleWithGroup(TypicalGroups.GROUP_NAME2, now, ScheduleState.GROUP);
+        assertNotSame(scheduleDisplay, modelManager.getScheduleDisplay());
+
+        GroupScheduleDisplay groupScheduleDisplay = (GroupScheduleDisplay) scheduleDisplay;
+        groupScheduleDisplay.setFilteredNames(List.of(ALICE.getName()));
+        modelManager.updateScheduleWithGroup(GROUP_NAME1, now, ScheduleState.GROUP);
+        assertSame(scheduleDisplay, modelManager.getScheduleDisplay());
+        assertTrue(groupScheduleDisplay.getFilteredNames().isEmpty());
+    }
+
+    @Test
+    void updateScheduleWithGroup_timeBookChanged_regeneratesScheduleDisplay() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        modelManager.updateScheduleWithGroup(GROUP_NAME1, now, ScheduleState.GROUP);
+        ScheduleDisplay scheduleDisplay = modelManager.getScheduleDisplay();
+        long revision = modelManager.getRevision();
+
+        modelManager.addEvent(ALICE.getName(), TypicalEvents.generateTypicalEvent1());
+        assertTrue(modelManager.getRevision() > revision);
+
+        modelManager.updateScheduleWithGroup(GROUP_NAME1, now, ScheduleState.GROUP);
+        assertNotSame(scheduleDisplay, modelManager.getScheduleDisplay());
+    }
+
+    @Test
+    void updateScheduleWithUser_differentState_notReused() {
+        LocalDateTime now = LocalDateTime.now();
+        modelManager.updateScheduleWithUser(now, ScheduleState.HOME);
+        ScheduleDisplay scheduleDisplay = modelManager.getScheduleDisplay();
+
+        modelManager.updateScheduleWithUser(now, ScheduleState.PERSON);
+        assertEquals(ScheduleState.PERSON, modelManager.getState());
+        assertNotSame(scheduleDisplay, modelManager.getScheduleDisplay());
+
+        modelManager.updateScheduleWithUser(now, ScheduleState.HOME);
+        assertSame(scheduleDisplay, modelManager.getScheduleDisplay());
+    }
 }
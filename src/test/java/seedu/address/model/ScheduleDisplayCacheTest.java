@@ -0,0 +1,54 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.display.scheduledisplay.PersonScheduleDisplay;
+import seedu.address.model.display.scheduledisplay.ScheduleDisplay;
+import seedu.address.model.display.scheduledisplay.ScheduleState;
+
+class ScheduleDisplayCacheTest {
+
+    private static final LocalDate DATE = LocalDate.of(2019, 11, 13);
+
+    @Test
+    void get_keyedOnSubjectDateAndRevision() {
+        ScheduleDisplayCache cache = new ScheduleDisplayCache(4);
+        ScheduleDisplay scheduleDisplay = new PersonScheduleDisplay(new ArrayList<>());
+        cache.put(ScheduleState.PERSON, 1, DATE, 0, scheduleDisplay);
+
+        assertSame(scheduleDisplay, cache.get(ScheduleState.PERSON, 1, DATE, 0));
+        assertNull(cache.get(ScheduleState.PERSON, 2, DATE, 0));
+        assertNull(cache.get(ScheduleState.HOME, 1, DATE, 0));
+        assertNull(cache.get(ScheduleState.PERSON, 1, DATE.plusDays(1), 0));
+        assertNull(cache.get(ScheduleState.PERSON, 1, DATE, 1));
+    }
+
+    @Test
+    void put_full_evictsLeastRecentlyUsed() {
+        ScheduleDisplayCache cache = new ScheduleDisplayCache(2);
+        cache.put(ScheduleState.PERSON, 1, DATE, 0, new PersonScheduleDisplay(new ArrayList<>()));
+        cache.put(ScheduleState.PERSON, 2, DATE, 0, new PersonScheduleDisplay(new ArrayList<>()));
+        cache.get(ScheduleState.PERSON, 1, DATE, 0);
+        cache.put(ScheduleState.PERSON, 3, DATE, 0, new PersonScheduleDisplay(new ArrayList<>()));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(ScheduleState.PERSON, 2, DATE, 0));
+        assertEquals(ScheduleState.PERSON, cache.get(ScheduleState.PERSON, 1, DATE, 0).getState());
+    }
+
+    @Test
+    void put_newRevision_dropsEarlierRevisions() {
+        ScheduleDisplayCache cache = new ScheduleDisplayCache(4);
+        cache.put(ScheduleState.PERSON, 1, DATE, 0, new PersonScheduleDisplay(new ArrayList<>()));
+        cache.put(ScheduleState.PERSON, 2, DATE, 1, new PersonScheduleDisplay(new ArrayList<>()));
+
+        assertEquals(1, cache.size());
+    }
+}
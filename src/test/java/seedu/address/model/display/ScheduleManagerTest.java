@@ -2,24 +2,37 @@ package seedu.address.model.display;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.grouputil.TypicalGroups.GROUP_NAME1;
 import static seedu.address.testutil.personutil.TypicalPersonDescriptor.ALICE;
 
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.GmapsModelManager;
 import seedu.address.model.TimeBook;
+import seedu.address.model.display.scheduledisplay.GroupScheduleDisplay;
 import seedu.address.model.display.scheduledisplay.ScheduleState;
 import seedu.address.model.display.sidepanel.SidePanelDisplayType;
+import seedu.address.model.display.timeslots.FreeTimeslot;
+import seedu.address.model.display.timeslots.PersonSchedule;
+import seedu.address.model.display.timeslots.PersonTimeslot;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.EventClashException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.modelutil.TypicalModel;
+import seedu.address.testutil.scheduleutil.TypicalEvents;
 
 class ScheduleManagerTest {
 
@@ -124,6 +137,152 @@ class ScheduleManagerTest {
 
     }
 
+    @Test
+    void updateDisplayWithPersons_parallel_sameAsSerial() {
+        ArrayList<Person> persons = timeBook.getPersonList().getPersons();
+        LocalDateTime now = LocalDateTime.now();
+
+        scheduleManager.setParallelism(1);
+        scheduleManager.updateScheduleWithPersons(persons, now, ScheduleState.GROUP);
+        GroupScheduleDisplay serialDisplay = (GroupScheduleDisplay) scheduleManager.getScheduleDisplay();
+
+        scheduleManager.setParallelism(4);
+        assertEquals(4, scheduleManager.getParallelism());
+        scheduleManager.updateScheduleWithPersons(persons, now, ScheduleState.GROUP);
+        GroupScheduleDisplay parallelDisplay = (GroupScheduleDisplay) scheduleManager.getScheduleDisplay();
+
+        assertEquals(serialDisplay.getPersonDisplays().size(), parallelDisplay.getPersonDisplays().size());
+        for (int i = 0; i < serialDisplay.getPersonSchedules().size(); i++) {
+            PersonSchedule serialSchedule = serialDisplay.getPersonSchedules().get(i);
+            PersonSchedule parallelSchedule = parallelDisplay.getPersonSchedules().get(i);
+            assertEquals(serialSchedule.getPersonDisplay().getName(), parallelSchedule.getPersonDisplay().getName());
+            for (int week = 0; week < serialSchedule.getScheduleDisplay().size(); week++) {
+                for (DayOfWeek day : DayOfWeek.values()) {
+                    ArrayList<PersonTimeslot> serialTimeslots = serialSchedule.getScheduleDisplay().get(week).get(day);
+                    ArrayList<PersonTimeslot> parallelTimeslots =
+                            parallelSchedule.getScheduleDisplay().get(week).get(day);
+                    assertEquals(serialTimeslots.size(), parallelTimeslots.size());
+                    for (int j = 0; j < serialTimeslots.size(); j++) {
+                        assertEquals(serialTimeslots.get(j).getId(), parallelTimeslots.get(j).getId());
+                        assertEquals(serialTimeslots.get(j).getColor(), parallelTimeslots.get(j).getColor());
+                    }
+                }
+            }
+        }
+
+        for (int week = 0; week < serialDisplay.getFreeSchedule().size(); week++) {
+            for (DayOfWeek day : DayOfWeek.values()) {
+                ArrayList<FreeTimeslot> serialTimeslots =
+                        serialDisplay.getFreeSchedule().get(week).getFreeSchedule().get(day);
+                ArrayList<FreeTimeslot> parallelTimeslots =
+                        parallelDisplay.getFreeSchedule().get(week).getFreeSchedule().get(day);
+                assertEquals(serialTimeslots.size(), parallelTimeslots.size());
+                for (int j = 0; j < serialTimeslots.size(); j++) {
+                    assertEquals(serialTimeslots.get(j).getId(), parallelTimeslots.get(j).getId());
+                    assertEquals(serialTimeslots.get(j).getStartTime(), parallelTimeslots.get(j).getStartTime());
+                    assertEquals(serialTimeslots.get(j).getEndTime(), parallelTimeslots.get(j).getEndTime());
+                    assertEquals(serialTimeslots.get(j).getVenues(), parallelTimeslots.get(j).getVenues());
+                }
+            }
+        }
+    }
+
+    @Test
+    void updateDisplayWithPersons_memberChanged_onlyMemberRegenerated() throws EventClashException {
+        ArrayList<Person> persons = timeBook.getPersonList().getPersons();
+        LocalDateTime now = LocalDateTime.now();
+
+        scheduleManager.updateScheduleWithPersons(persons, now, ScheduleState.GROUP);
+        GroupScheduleDisplay firstDisplay = (GroupScheduleDisplay) scheduleManager.getScheduleDisplay();
+        assertEquals(persons.size(), scheduleManager.getScheduleCacheSize());
+
+        persons.get(0).addEvent(TypicalEvents.generateEmptyEvent());
+        scheduleManager.updateScheduleWithPersons(persons, now, ScheduleState.GROUP);
+        GroupScheduleDisplay secondDisplay = (GroupScheduleDisplay) scheduleManager.getScheduleDisplay();
+
+        assertNotSame(firstDisplay.getPersonSchedules().get(0).getScheduleDisplay(),
+                secondDisplay.getPersonSchedules().get(0).getScheduleDisplay());
+        for (int i = 1; i < persons.size(); i++) {
+            assertSame(firstDisplay.getPersonSchedules().get(i).getScheduleDisplay(),
+                    secondDisplay.getPersonSchedules().get(i).getScheduleDisplay());
+        }
+
+        scheduleManager.updateScheduleWithPersons(persons, now.plusDays(1), ScheduleState.GROUP);
+        GroupScheduleDisplay nextDayDisplay = (GroupScheduleDisplay) scheduleManager.getScheduleDisplay();
+        assertNotSame(secondDisplay.getPersonSchedules().get(1).getScheduleDisplay(),
+                nextDayDisplay.getPersonSchedules().get(1).getScheduleDisplay());
+
+        scheduleManager.clearScheduleCache();
+        assertEquals(0, scheduleManager.getScheduleCacheSize());
+    }
+
+    @Test
+    void updateDisplayWithPersons_otherColors_bothKept() {
+        ArrayList<Person> persons = timeBook.getPersonList().getPersons();
+        ArrayList<Person> reversedPersons = new ArrayList<>(persons);
+        Collections.reverse(reversedPersons);
+        LocalDateTime now = LocalDateTime.now();
+
+        scheduleManager.updateScheduleWithPersons(persons, now, ScheduleState.GROUP);
+        GroupScheduleDisplay firstDisplay = (GroupScheduleDisplay) scheduleManager.getScheduleDisplay();
+        // Reversing the members changes the colour each is shown in.
+        scheduleManager.updateScheduleWithPersons(reversedPersons, now, ScheduleState.GROUP);
+        scheduleManager.updateScheduleWithPersons(persons, now, ScheduleState.GROUP);
+        GroupScheduleDisplay secondDisplay = (GroupScheduleDisplay) scheduleManager.getScheduleDisplay();
+
+        for (int i = 0; i < persons.size(); i++) {
+            assertSame(firstDisplay.getPersonSchedules().get(i).getScheduleDisplay(),
+                    secondDisplay.getPersonSchedules().get(i).getScheduleDisplay());
+        }
+    }
+
+    @Test
+    void evictScheduleCache_deletedPerson_onlyPersonRegenerated() {
+        ArrayList<Person> persons = timeBook.getPersonList().getPersons();
+        LocalDateTime now = LocalDateTime.now();
+
+        scheduleManager.updateScheduleWithPersons(persons, now, ScheduleState.GROUP);
+        GroupScheduleDisplay firstDisplay = (GroupScheduleDisplay) scheduleManager.getScheduleDisplay();
+        scheduleManager.evictScheduleCache(persons.get(0).getPersonId());
+        assertEquals(persons.size() - 1, scheduleManager.getScheduleCacheSize());
+
+        scheduleManager.updateScheduleWithPersons(persons, now, ScheduleState.GROUP);
+        GroupScheduleDisplay secondDisplay = (GroupScheduleDisplay) scheduleManager.getScheduleDisplay();
+        assertNotSame(firstDisplay.getPersonSchedules().get(0).getScheduleDisplay(),
+                secondDisplay.getPersonSchedules().get(0).getScheduleDisplay());
+        assertSame(firstDisplay.getPersonSchedules().get(1).getScheduleDisplay(),
+                secondDisplay.getPersonSchedules().get(1).getScheduleDisplay());
+    }
+
+    @Test
+    void updateDisplayWithPersons_onlyFirstWeekGenerated() {
+        ArrayList<Person> persons = timeBook.getPersonList().getPersons();
+        scheduleManager.setScheduleWeeks(13);
+        scheduleManager.updateScheduleWithPersons(persons, LocalDateTime.now(), ScheduleState.GROUP);
+        GroupScheduleDisplay display = (GroupScheduleDisplay) scheduleManager.getScheduleDisplay();
+
+        assertEquals(13, display.getFreeSchedule().size());
+        for (PersonSchedule personSchedule : display.getPersonSchedules()) {
+            assertEquals(13, personSchedule.getScheduleDisplay().size());
+            assertTrue(personSchedule.isWeekGenerated(0));
+            assertFalse(personSchedule.isWeekGenerated(1));
+        }
+
+        assertNotNull(display.getFreeSchedule().get(12));
+        for (PersonSchedule personSchedule : display.getPersonSchedules()) {
+            assertTrue(personSchedule.isWeekGenerated(12));
+            assertFalse(personSchedule.isWeekGenerated(1));
+        }
+    }
+
+    @Test
+    void setScheduleWeeks_limitedToSemester() {
+        scheduleManager.setScheduleWeeks(100);
+        assertEquals(17, scheduleManager.getScheduleWeeks());
+        scheduleManager.setScheduleWeeks(0);
+        assertEquals(1, scheduleManager.getScheduleWeeks());
+    }
+
     @Test
     void updateSidePanelDisplay_person() {
         scheduleManager.updateSidePanelDisplay(SidePanelDisplayType.PERSON,
@@ -10,7 +10,7 @@ import static seedu.address.testutil.personutil.TypicalPersonDescriptor.ALICE;
 import static seedu.address.testutil.personutil.TypicalPersonDescriptor.ZACK;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,7 +44,7 @@ class GroupScheduleDisplayTest {
 
     @Test
     void getFreeSchedule() {
-        ArrayList<FreeSchedule> freeSchedules = groupScheduleDisplay.getFreeSchedule();
+        List<FreeSchedule> freeSchedules = groupScheduleDisplay.getFreeSchedule();
         assertTrue(freeSchedules.size() == 4);
     }
 
@@ -0,0 +1,221 @@
+package seedu.address.model.display.timeslots;
+
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.schedule.Venue;
+import seedu.address.ui.uicomponent.schedule.WeekScheduleBuilder;
+
+class FreeScheduleGeneratorTest {
+
+    private static final LocalTime SCHEDULE_START_TIME = LocalTime.of(8, 0);
+    private static final LocalTime SCHEDULE_END_TIME = LocalTime.of(20, 0);
+    private static final int FREE_TIMESLOT_THRESHOLD = 15;
+    private static final LocalDateTime NOW = LocalDateTime.of(2019, 11, 13, 9, 0);
+
+    private FreeScheduleGenerator generator;
+
+    @BeforeEach
+    void init() {
+        generator = new FreeScheduleGenerator(SCHEDULE_START_TIME, SCHEDULE_END_TIME,
+                FREE_TIMESLOT_THRESHOLD, venues -> null);
+    }
+
+    @Test
+    void generate_emptySchedules_wholeDayFree() {
+        FreeSchedule freeSchedule = generator.generate(List.of(WeekScheduleBuilder.getEmptySchedule()), NOW);
+
+        int id = 1;
+        for (int i = 0; i < 7; i++) {
+            ArrayList<FreeTimeslot> freeTimeslots = freeSchedule.getFreeSchedule().get(NOW.getDayOfWeek().plus(i));
+            assertEquals(1, freeTimeslots.size());
+            assertEquals(id++, freeTimeslots.get(0).getId());
+            assertEquals(SCHEDULE_START_TIME, freeTimeslots.get(0).getStartTime());
+            assertEquals(SCHEDULE_END_TIME, freeTimeslots.get(0).getEndTime());
+            assertEquals(new ArrayList<>(), freeTimeslots.get(0).getVenues());
+        }
+    }
+
+    @Test
+    void generate_typicalSchedules_sameAsMinuteScan() {
+        List<WeekSchedule> weekSchedules = List.of(WeekScheduleBuilder.getValidSchedule(),
+                WeekScheduleBuilder.getInvalidSchedule(), WeekScheduleBuilder.getEmptySchedule());
+
+        assertSameFreeSchedule(generateByMinuteScan(weekSchedules, NOW), generator.generate(weekSchedules, NOW));
+    }
+
+    @Test
+    void generate_randomSchedules_sameAsMinuteScan() {
+        Random random = new Random(2103);
+        for (int run = 0; run < 200; run++) {
+            ArrayList<WeekSchedule> weekSchedules = new ArrayList<>();
+            int members = 1 + random.nextInt(8);
+            for (int i = 0; i < members; i++) {
+                weekSchedules.add(generateRandomWeekSchedule(random));
+            }
+            LocalDateTime now = NOW.plusDays(random.nextInt(7));
+
+            assertSameFreeSchedule(generateByMinuteScan(weekSchedules, now), generator.generate(weekSchedules, now));
+        }
+    }
+
+    @Test
+    void generate_groupAvailability_sameAsWeekSchedules() {
+        Random random = new Random(2103);
+        for (int run = 0; run < 200; run++) {
+            ArrayList<WeekSchedule> weekSchedules = new ArrayList<>();
+            int members = 1 + random.nextInt(8);
+            for (int i = 0; i < members; i++) {
+                weekSchedules.add(generateRandomWeekSchedule(random));
+            }
+            GroupAvailability groupAvailability =
+                    new GroupAvailability(weekSchedules, SCHEDULE_START_TIME, SCHEDULE_END_TIME);
+
+            assertSameFreeSchedule(generator.generate(weekSchedules, NOW),
+                    generator.generateFromAvailability(groupAvailability, NOW));
+        }
+    }
+
+    @Test
+    void generateFromAvailability_busyMembers_sameAsGroupAvailability() {
+        Random random = new Random(2103);
+        ArrayList<WeekSchedule> weekSchedules = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            weekSchedules.add(generateRandomWeekSchedule(random));
+        }
+        GroupAvailability groupAvailability =
+                new GroupAvailability(weekSchedules, SCHEDULE_START_TIME, SCHEDULE_END_TIME);
+        FreeSchedule withAvailability = generator.generateFromAvailability(groupAvailability, NOW);
+        FreeSchedule withoutAvailability = generator.generate(weekSchedules, NOW);
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            for (LocalTime time = SCHEDULE_START_TIME; time.isBefore(SCHEDULE_END_TIME); time = time.plusMinutes(5)) {
+                assertEquals(groupAvailability.getBusyMembers(day, time), withAvailability.getBusyMembers(day, time));
+                assertEquals(List.of(), withoutAvailability.getBusyMembers(day, time));
+            }
+        }
+    }
+
+    /**
+     * Asserts that both FreeSchedules have the same FreeTimeslots, ignoring the closest common location data.
+     */
+    private void assertSameFreeSchedule(FreeSchedule expected, FreeSchedule actual) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            ArrayList<FreeTimeslot> expectedTimeslots = expected.getFreeSchedule().get(day);
+            ArrayList<FreeTimeslot> actualTimeslots = actual.getFreeSchedule().get(day);
+            assertEquals(expectedTimeslots.size(), actualTimeslots.size());
+            for (int i = 0; i < expectedTimeslots.size(); i++) {
+                assertEquals(expectedTimeslots.get(i).getId(), actualTimeslots.get(i).getId());
+                assertEquals(expectedTimeslots.get(i).getStartTime(), actualTimeslots.get(i).getStartTime());
+                assertEquals(expectedTimeslots.get(i).getEndTime(), actualTimeslots.get(i).getEndTime());
+                assertEquals(expectedTimeslots.get(i).getVenues(), actualTimeslots.get(i).getVenues());
+            }
+        }
+    }
+
+    /**
+     * Generates a WeekSchedule with up to 5 timeslots a day, some of which start or end outside the schedule.
+     */
+    private WeekSchedule generateRandomWeekSchedule(Random random) {
+        HashMap<DayOfWeek, ArrayList<PersonTimeslot>> weekSchedule = new HashMap<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            ArrayList<PersonTimeslot> timeslots = new ArrayList<>();
+            int count = random.nextInt(6);
+            for (int i = 0; i < count; i++) {
+                LocalTime startTime = LocalTime.of(7, 0).plusMinutes(random.nextInt(14 * 60))
+                        .plusSeconds(random.nextInt(4) == 0 ? random.nextInt(60) : 0);
+                LocalTime endTime = startTime.plusMinutes(random.nextInt(180) - 10);
+                timeslots.add(new PersonTimeslot("event" + i, null, startTime, endTime,
+                        new Venue("venue" + random.nextInt(5)), null, true, null));
+            }
+            timeslots.sort(Comparator.comparing(PersonTimeslot::getStartTime));
+            weekSchedule.put(day, timeslots);
+        }
+        return new WeekSchedule(weekSchedule);
+    }
+
+    /**
+     * Reference implementation which checks every minute of the schedule for a clash.
+     */
+    private FreeSchedule generateByMinuteScan(List<WeekSchedule> personSchedules, LocalDateTime now) {
+        HashMap<DayOfWeek, ArrayList<FreeTimeslot>> freeSchedule = new HashMap<>();
+        int freeTimeslotIdCounter = 1;
+
+        int currentDay = now.getDayOfWeek().getValue();
+        for (int i = currentDay; i <= 7 + currentDay - 1; i++) {
+            DayOfWeek day = DayOfWeek.of(((i - 1) % 7) + 1);
+            freeSchedule.put(day, new ArrayList<>());
+
+            LocalTime currentTime = SCHEDULE_START_TIME;
+            ArrayList<String> lastVenues = new ArrayList<>();
+            for (int j = 0; j < personSchedules.size(); j++) {
+                lastVenues.add(null);
+            }
+            LocalTime newFreeTimeslotStartTime = null;
+
+            while (true) {
+                boolean isClash = false;
+                ArrayList<String> currentLastVenues = new ArrayList<>(lastVenues);
+                for (int j = 0; j < personSchedules.size(); j++) {
+                    for (PersonTimeslot timeslot : personSchedules.get(j).get(day)) {
+                        if (timeslot.isClash(currentTime)) {
+                            isClash = true;
+                            currentLastVenues.set(j, timeslot.getVenue().toString());
+                            break;
+                        }
+                    }
+                }
+
+                if (!isClash) {
+                    if (newFreeTimeslotStartTime == null) {
+                        newFreeTimeslotStartTime = currentTime;
+                    }
+                } else if (newFreeTimeslotStartTime != null) {
+                    if (newFreeTimeslotStartTime.until(currentTime, MINUTES) >= FREE_TIMESLOT_THRESHOLD) {
+                        freeSchedule.get(day).add(createFreeTimeslot(freeTimeslotIdCounter++, lastVenues,
+                                newFreeTimeslotStartTime, currentTime));
+                    }
+                    newFreeTimeslotStartTime = null;
+                }
+                lastVenues = currentLastVenues;
+
+                if (currentTime.equals(SCHEDULE_END_TIME)) {
+                    if (!isClash
+                            && newFreeTimeslotStartTime.until(currentTime, MINUTES) >= FREE_TIMESLOT_THRESHOLD) {
+                        freeSchedule.get(day).add(createFreeTimeslot(freeTimeslotIdCounter++, lastVenues,
+                                newFreeTimeslotStartTime, currentTime));
+                    }
+                    break;
+                }
+                currentTime = currentTime.plusMinutes(1);
+            }
+        }
+        return new FreeSchedule(freeSchedule);
+    }
+
+    /**
+     * Creates a FreeTimeslot with the non-null venues of lastVenues.
+     */
+    private FreeTimeslot createFreeTimeslot(int id, ArrayList<String> lastVenues,
+                                            LocalTime startTime, LocalTime endTime) {
+        ArrayList<String> venues = new ArrayList<>();
+        for (String venue : lastVenues) {
+            if (venue != null) {
+                venues.add(venue);
+            }
+        }
+        return new FreeTimeslot(id, venues, null, startTime, endTime);
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.display.timeslots;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.ui.uicomponent.schedule.WeekScheduleBuilder;
+
+class GroupAvailabilityTest {
+
+    private static final LocalTime SCHEDULE_START_TIME = LocalTime.of(8, 0);
+    private static final LocalTime SCHEDULE_END_TIME = LocalTime.of(20, 0);
+
+    private GroupAvailability groupAvailability;
+
+    @BeforeEach
+    void init() {
+        groupAvailability = new GroupAvailability(List.of(WeekScheduleBuilder.getValidSchedule(),
+                WeekScheduleBuilder.getInvalidSchedule(), WeekScheduleBuilder.getEmptySchedule()),
+                SCHEDULE_START_TIME, SCHEDULE_END_TIME);
+    }
+
+    @Test
+    void size() {
+        assertEquals(3, groupAvailability.size());
+    }
+
+    @Test
+    void isFree() {
+        assertFalse(groupAvailability.isFree(DayOfWeek.SATURDAY, LocalTime.of(9, 15)));
+        assertTrue(groupAvailability.isFree(DayOfWeek.SATURDAY, LocalTime.of(12, 0)));
+        assertTrue(groupAvailability.isFree(DayOfWeek.SUNDAY, LocalTime.of(9, 15)));
+    }
+
+    @Test
+    void getBusyMembers() {
+        assertEquals(List.of(0, 1), groupAvailability.getBusyMembers(DayOfWeek.MONDAY, LocalTime.of(8, 30)));
+        assertEquals(List.of(1), groupAvailability.getBusyMembers(DayOfWeek.SATURDAY, LocalTime.of(9, 15)));
+        assertEquals(List.of(0, 1), groupAvailability.getBusyMembers(DayOfWeek.TUESDAY, LocalTime.of(11, 0)));
+        assertEquals(List.of(), groupAvailability.getBusyMembers(DayOfWeek.SUNDAY, LocalTime.of(11, 0)));
+    }
+
+    @Test
+    void getLastVenue() {
+        assertEquals("Central library", groupAvailability.getLastVenue(0, DayOfWeek.MONDAY, 90));
+        assertNull(groupAvailability.getLastVenue(0, DayOfWeek.SUNDAY, 90));
+        assertNull(groupAvailability.getLastVenue(2, DayOfWeek.MONDAY, 90));
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.model.display.timeslots;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+class LazyWeekListTest {
+
+    @Test
+    void get_generatesOnFirstAccessOnly() {
+        ArrayList<Integer> generatedWeeks = new ArrayList<>();
+        LazyWeekList<String> weeks = new LazyWeekList<>(17, week -> {
+            generatedWeeks.add(week);
+            return "week " + week;
+        });
+
+        assertEquals(17, weeks.size());
+        assertTrue(generatedWeeks.isEmpty());
+        assertFalse(weeks.isGenerated(5));
+
+        assertEquals("week 5", weeks.get(5));
+        assertEquals("week 5", weeks.get(5));
+        assertTrue(weeks.isGenerated(5));
+        assertFalse(weeks.isGenerated(0));
+        assertEquals(1, generatedWeeks.size());
+    }
+
+    @Test
+    void get_outOfRange_throwsException() {
+        LazyWeekList<String> weeks = new LazyWeekList<>(4, week -> "week " + week);
+        assertThrows(IndexOutOfBoundsException.class, () -> weeks.get(4));
+    }
+}
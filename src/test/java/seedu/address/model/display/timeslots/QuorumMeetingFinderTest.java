@@ -0,0 +1,207 @@
+package seedu.address.model.display.timeslots;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.schedule.Venue;
+
+class QuorumMeetingFinderTest {
+
+    private static final LocalTime SCHEDULE_START_TIME = LocalTime.of(8, 0);
+    private static final LocalTime SCHEDULE_END_TIME = LocalTime.of(20, 0);
+    private static final int MINIMUM_DURATION = 15;
+    private static final LocalDate START_DATE = LocalDate.of(2019, 11, 13);
+    private static final int MINUTES = 12 * 60;
+
+    private QuorumMeetingFinder finder;
+
+    @BeforeEach
+    void init() {
+        finder = new QuorumMeetingFinder(SCHEDULE_START_TIME, SCHEDULE_END_TIME, MINIMUM_DURATION, venues -> null);
+    }
+
+    @Test
+    void find_fewerFreeThanQuorum_empty() {
+        List<List<WeekSchedule>> memberWeekSchedules = List.of(
+                List.of(busyOnlyOn(START_DATE.getDayOfWeek(), 8, 20)),
+                List.of(busyOnlyOn(START_DATE.getDayOfWeek(), 8, 20)));
+        List<Name> members = List.of(new Name("Alice"), new Name("Bob"));
+
+        assertTrue(finder.find(members, memberWeekSchedules, START_DATE, 1, 5).isEmpty());
+        assertTrue(finder.find(members, memberWeekSchedules, START_DATE, 3, 5).isEmpty());
+    }
+
+    @Test
+    void find_partialQuorum_ranksByAttendeesThenDuration() {
+        DayOfWeek day = START_DATE.getDayOfWeek();
+        List<List<WeekSchedule>> memberWeekSchedules = List.of(
+                List.of(busyOnlyOn(day, 8, 10, 12, 20)),
+                List.of(busyOnlyOn(day, 8, 9, 11, 20)),
+                List.of(busyOnlyOn(day, 8, 11, 14, 20)));
+        List<Name> members = List.of(new Name("Alice"), new Name("Bob"), new Name("Carl"));
+
+        ArrayList<MeetingSlot> meetingSlots = finder.find(members, memberWeekSchedules, START_DATE, 2, 5);
+
+        assertEquals(2, meetingSlots.size());
+        assertEquals(LocalTime.of(10, 0), meetingSlots.get(0).getStartTime());
+        assertEquals(LocalTime.of(11, 0), meetingSlots.get(0).getEndTime());
+        assertEquals(List.of(new Name("Alice"), new Name("Bob")), meetingSlots.get(0).getAttendees());
+        assertEquals(List.of("venue", "venue"), meetingSlots.get(0).getVenues());
+        assertEquals(LocalTime.of(11, 0), meetingSlots.get(1).getStartTime());
+        assertEquals(LocalTime.of(12, 0), meetingSlots.get(1).getEndTime());
+        assertEquals(List.of(new Name("Alice"), new Name("Carl")), meetingSlots.get(1).getAttendees());
+
+        // A single attendee is free for longer, but ranks below every slot with two.
+        meetingSlots = finder.find(members, memberWeekSchedules, START_DATE, 1, 3);
+        assertEquals(3, meetingSlots.size());
+        assertEquals(2, meetingSlots.get(1).getAttendees().size());
+        assertEquals(1, meetingSlots.get(2).getAttendees().size());
+        assertEquals(180, meetingSlots.get(2).getDuration());
+    }
+
+    @Test
+    void find_randomSchedules_sameAsMinuteScan() {
+        Random random = new Random(2103);
+        for (int run = 0; run < 20; run++) {
+            int memberCount = 1 + random.nextInt(6);
+            ArrayList<Name> members = new ArrayList<>();
+            ArrayList<List<WeekSchedule>> memberWeekSchedules = new ArrayList<>();
+            for (int member = 0; member < memberCount; member++) {
+                members.add(new Name("member" + member));
+                memberWeekSchedules.add(List.of(generateRandomWeekSchedule(random),
+                        generateRandomWeekSchedule(random)));
+            }
+            int quorum = 1 + random.nextInt(memberCount);
+
+            ArrayList<String> expected = findByMinuteScan(memberWeekSchedules, quorum);
+            ArrayList<String> actual = new ArrayList<>();
+            for (MeetingSlot meetingSlot : finder.find(members, memberWeekSchedules, START_DATE, quorum,
+                    Integer.MAX_VALUE)) {
+                actual.add(meetingSlot.getDate() + " " + meetingSlot.getStartTime() + " "
+                        + meetingSlot.getEndTime() + " " + meetingSlot.getAttendees().size());
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    /**
+     * Returns a WeekSchedule which is busy for the whole schedule except on day, where it is busy between each
+     * pair of hours.
+     */
+    private WeekSchedule busyOnlyOn(DayOfWeek day, int... hours) {
+        HashMap<DayOfWeek, ArrayList<PersonTimeslot>> weekSchedule = new HashMap<>();
+        for (DayOfWeek otherDay : DayOfWeek.values()) {
+            ArrayList<PersonTimeslot> timeslots = new ArrayList<>();
+            if (otherDay != day) {
+                timeslots.add(new PersonTimeslot("busy", null, SCHEDULE_START_TIME, SCHEDULE_END_TIME,
+                        new Venue("venue"), null, true, null));
+            } else {
+                for (int i = 0; i < hours.length; i += 2) {
+                    timeslots.add(new PersonTimeslot("event" + i, null, LocalTime.of(hours[i], 0),
+                            LocalTime.of(hours[i + 1], 0), new Venue("venue"), null, true, null));
+                }
+            }
+            weekSchedule.put(otherDay, timeslots);
+        }
+        return new WeekSchedule(weekSchedule);
+    }
+
+    /**
+     * Generates a WeekSchedule with up to 5 timeslots a day on half hours, some of which start or end outside the
+     * schedule.
+     */
+    private WeekSchedule generateRandomWeekSchedule(Random random) {
+        HashMap<DayOfWeek, ArrayList<PersonTimeslot>> weekSchedule = new HashMap<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            ArrayList<PersonTimeslot> timeslots = new ArrayList<>();
+            int count = random.nextInt(6);
+            for (int i = 0; i < count; i++) {
+                LocalTime startTime = LocalTime.of(7, 0).plusMinutes(30 * random.nextInt(28));
+                LocalTime endTime = startTime.plusMinutes(30 * (1 + random.nextInt(6)));
+                timeslots.add(new PersonTimeslot("event" + i, null, startTime, endTime,
+                        new Venue("venue"), null, true, null));
+            }
+            timeslots.sort(Comparator.comparing(PersonTimeslot::getStartTime));
+            weekSchedule.put(day, timeslots);
+        }
+        return new WeekSchedule(weekSchedule);
+    }
+
+    /**
+     * Reference implementation which tries every start and end minute, keeping the windows that cannot be made
+     * longer with the same attendees, in the same order as the finder.
+     */
+    private ArrayList<String> findByMinuteScan(List<List<WeekSchedule>> memberWeekSchedules, int quorum) {
+        ArrayList<Object[]> windows = new ArrayList<>();
+        for (int week = 0; week < memberWeekSchedules.get(0).size(); week++) {
+            for (int i = 0; i < 7; i++) {
+                LocalDate date = START_DATE.plusDays(week * 7 + i);
+                BitSet[] free = new BitSet[MINUTES];
+                for (int minute = 0; minute < MINUTES; minute++) {
+                    free[minute] = new BitSet();
+                    LocalTime time = SCHEDULE_START_TIME.plusMinutes(minute);
+                    for (int member = 0; member < memberWeekSchedules.size(); member++) {
+                        boolean isBusy = false;
+                        for (PersonTimeslot timeslot
+                                : memberWeekSchedules.get(member).get(week).get(date.getDayOfWeek())) {
+                            if (!time.isBefore(timeslot.getStartTime()) && time.isBefore(timeslot.getEndTime())) {
+                                isBusy = true;
+                            }
+                        }
+                        free[minute].set(member, !isBusy);
+                    }
+                }
+
+                for (int start = 0; start < MINUTES; start++) {
+                    BitSet attendees = (BitSet) free[start].clone();
+                    for (int end = start + 1; end <= MINUTES && attendees.cardinality() >= quorum; end++) {
+                        if (end < MINUTES && containsAll(free[end], attendees)) {
+                            continue;
+                        }
+                        if ((start == 0 || !containsAll(free[start - 1], attendees))
+                                && end - start >= MINIMUM_DURATION) {
+                            windows.add(new Object[] {date, start, end, attendees.cardinality()});
+                        }
+                        if (end < MINUTES) {
+                            attendees.and(free[end]);
+                        }
+                    }
+                }
+            }
+        }
+
+        windows.sort(Comparator.comparingInt((Object[] window) -> -(int) window[3])
+                .thenComparingInt(window -> (int) window[1] - (int) window[2])
+                .thenComparing(window -> (LocalDate) window[0])
+                .thenComparingInt(window -> (int) window[1]));
+        ArrayList<String> result = new ArrayList<>();
+        for (Object[] window : windows) {
+            result.add(window[0] + " " + SCHEDULE_START_TIME.plusMinutes((int) window[1]) + " "
+                    + SCHEDULE_START_TIME.plusMinutes((int) window[2]) + " " + window[3]);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if every bit of other is also set in bits.
+     */
+    private static boolean containsAll(BitSet bits, BitSet other) {
+        BitSet missing = (BitSet) other.clone();
+        missing.andNot(bits);
+        return missing.isEmpty();
+    }
+}
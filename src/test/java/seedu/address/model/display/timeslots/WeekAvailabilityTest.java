@@ -0,0 +1,82 @@
+package seedu.address.model.display.timeslots;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.ui.uicomponent.schedule.WeekScheduleBuilder;
+
+class WeekAvailabilityTest {
+
+    private static final LocalTime SCHEDULE_START_TIME = LocalTime.of(8, 0);
+    private static final LocalTime SCHEDULE_END_TIME = LocalTime.of(20, 0);
+
+    private WeekAvailability weekAvailability;
+
+    @BeforeEach
+    void init() {
+        weekAvailability = WeekAvailability.fromWeekSchedule(WeekScheduleBuilder.getValidSchedule(),
+                SCHEDULE_START_TIME, SCHEDULE_END_TIME);
+    }
+
+    @Test
+    void getMinutes() {
+        assertEquals(12 * 60 + 1, weekAvailability.getMinutes());
+    }
+
+    @Test
+    void isBusy_sameAsPersonTimeslots() {
+        WeekSchedule weekSchedule = WeekScheduleBuilder.getValidSchedule();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            for (LocalTime time = SCHEDULE_START_TIME; !time.isAfter(SCHEDULE_END_TIME); time = time.plusMinutes(1)) {
+                LocalTime currentTime = time;
+                boolean isClash = weekSchedule.get(day).stream().anyMatch(timeslot -> timeslot.isClash(currentTime));
+                assertEquals(isClash, weekAvailability.isBusy(day, time));
+            }
+        }
+    }
+
+    @Test
+    void isBusy_outsideSchedule_false() {
+        assertFalse(weekAvailability.isBusy(DayOfWeek.FRIDAY, LocalTime.of(7, 59)));
+        assertTrue(weekAvailability.isBusy(DayOfWeek.FRIDAY, LocalTime.of(20, 0)));
+        assertFalse(weekAvailability.isBusy(DayOfWeek.FRIDAY, LocalTime.of(20, 1)));
+    }
+
+    @Test
+    void or() {
+        WeekAvailability free = WeekAvailability.free(SCHEDULE_START_TIME, SCHEDULE_END_TIME);
+        assertFalse(free.isBusy(DayOfWeek.MONDAY, LocalTime.of(8, 30)));
+
+        WeekAvailability union = free.or(weekAvailability);
+        assertTrue(union.isBusy(DayOfWeek.MONDAY, LocalTime.of(8, 30)));
+        assertFalse(union.isBusy(DayOfWeek.MONDAY, LocalTime.of(9, 30)));
+        assertFalse(free.isBusy(DayOfWeek.MONDAY, LocalTime.of(8, 30)));
+    }
+
+    @Test
+    void nextAndPreviousMinutes() {
+        // Monday is busy from 08:00 to 09:00, 10:00 to 12:00 and 14:00 to 16:00.
+        assertEquals(0, weekAvailability.nextBusyMinute(DayOfWeek.MONDAY, 0));
+        assertEquals(61, weekAvailability.nextFreeMinute(DayOfWeek.MONDAY, 0));
+        assertEquals(120, weekAvailability.nextBusyMinute(DayOfWeek.MONDAY, 61));
+        assertEquals(60, weekAvailability.previousBusyMinute(DayOfWeek.MONDAY, 119));
+        assertEquals(-1, weekAvailability.nextBusyMinute(DayOfWeek.MONDAY, 481));
+        assertEquals(481, weekAvailability.nextFreeMinute(DayOfWeek.MONDAY, 400));
+
+        // Friday is busy for the whole day.
+        assertEquals(-1, weekAvailability.nextFreeMinute(DayOfWeek.FRIDAY, 0));
+        assertEquals(720, weekAvailability.previousBusyMinute(DayOfWeek.FRIDAY, 1000));
+
+        // Sunday is free for the whole day.
+        assertEquals(-1, weekAvailability.nextBusyMinute(DayOfWeek.SUNDAY, 0));
+        assertEquals(-1, weekAvailability.previousBusyMinute(DayOfWeek.SUNDAY, 720));
+        assertEquals(720, weekAvailability.nextFreeMinute(DayOfWeek.SUNDAY, 720));
+    }
+}
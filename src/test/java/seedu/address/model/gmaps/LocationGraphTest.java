@@ -1,9 +1,13 @@
 package seedu.address.model.gmaps;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -41,8 +45,31 @@ class LocationGraphTest {
         assertDoesNotThrow(() -> locationGraph.getLocationRow(3));
     }
 
+    @Test
+    void getLocationColumn() {
+        assertThrows(IllegalValueException.class, () -> locationGraph.getLocationColumn(-1));
+        assertThrows(IllegalValueException.class, () -> locationGraph.getLocationColumn(1000));
+        assertDoesNotThrow(() -> locationGraph.getLocationColumn(3));
+    }
+
     @Test
     void getDistanceMatrix() {
-        assertEquals(locationGraph.getDistanceMatrix(), processLocationGraph.getDistanceMatrix());
+        assertArrayEquals(locationGraph.getDistanceMatrix(), processLocationGraph.getDistanceMatrix());
+    }
+
+    @Test
+    void rowsAndColumns() throws IllegalValueException {
+        ArrayList<Location> validLocationList = new ArrayList<>(List.of(new Location("A"), new Location("B"),
+                new Location("C")));
+        LocationGraph graph = new LocationGraph(validLocationList, validLocationList, new int[] {
+            0, 10, LocationGraph.NO_DISTANCE,
+            11, 0, 20,
+            30, 21, 0});
+
+        assertEquals(3, graph.getSize());
+        assertEquals(20, graph.getDistance(1, 2));
+        assertEquals(LocationGraph.NO_DISTANCE, graph.getDistance(0, 2));
+        assertArrayEquals(new int[] {11, 0, 20}, graph.getLocationRow(1));
+        assertArrayEquals(new int[] {LocationGraph.NO_DISTANCE, 20, 0}, graph.getLocationColumn(2));
     }
 }
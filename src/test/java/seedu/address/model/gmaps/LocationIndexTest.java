@@ -0,0 +1,84 @@
+package seedu.address.model.gmaps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LocationIndexTest {
+    private LocationIndex locationIndex;
+
+    @BeforeEach
+    void init() {
+        Location lt17 = new Location("LT17");
+        lt17.setValidLocation("NUS_LT17");
+        Location com1Room = new Location("COM1-0201");
+        com1Room.setValidLocation("NUS_COM1");
+        Location lt1 = new Location("LT1");
+        lt1.setValidLocation("NUS_LT1");
+        Location unknown = new Location("LT-UNKNOWN");
+        Location com1RoomWithoutValidLocation = new Location("COM1-0113");
+
+        ArrayList<Location> validLocationList = new ArrayList<>();
+        for (String name : Arrays.asList("NUS_COM1", "NUS_LT17", "NUS_LT1")) {
+            Location validLocation = new Location(name);
+            validLocation.setValidLocation(name);
+            validLocationList.add(validLocation);
+        }
+        locationIndex = new LocationIndex(new ArrayList<>(Arrays.asList(lt17, com1Room, lt1, unknown,
+                com1RoomWithoutValidLocation)),
+                validLocationList);
+    }
+
+    @Test
+    void indexOfLocation() {
+        assertEquals(0, locationIndex.indexOfLocation("LT17"));
+        assertEquals(2, locationIndex.indexOfLocation("LT1"));
+        assertEquals(LocationIndex.NOT_FOUND, locationIndex.indexOfLocation("NUS_LT17"));
+    }
+
+    @Test
+    void indexOfValidLocation() {
+        assertEquals(1, locationIndex.indexOfValidLocation("NUS_LT17"));
+        assertEquals(LocationIndex.NOT_FOUND, locationIndex.indexOfValidLocation("LT17"));
+    }
+
+    @Test
+    void indexOfValidLocationFor_locationName_validLocationOfLocation() {
+        assertEquals(0, locationIndex.indexOfValidLocationFor("COM1-0201"));
+        assertEquals(2, locationIndex.indexOfValidLocationFor("LT1"));
+    }
+
+    @Test
+    void indexOfValidLocationFor_validLocationWithoutPrefix_validLocation() {
+        assertEquals(0, locationIndex.indexOfValidLocationFor("COM1"));
+    }
+
+    @Test
+    void indexOfValidLocationFor_unknownVenueInBuilding_validLocationOfBuilding() {
+        assertEquals(0, locationIndex.indexOfValidLocationFor("COM1-0204"));
+        assertEquals(0, locationIndex.indexOfValidLocationFor("COM1/B1"));
+    }
+
+    @Test
+    void indexOfValidLocationFor_locationWithoutValidLocation_validLocationOfBuilding() {
+        assertEquals(0, locationIndex.indexOfValidLocationFor("COM1-0113"));
+    }
+
+    @Test
+    void indexOfValidLocationFor_unknownName_notFound() {
+        assertEquals(LocationIndex.NOT_FOUND, locationIndex.indexOfValidLocationFor("LT-UNKNOWN"));
+        assertEquals(LocationIndex.NOT_FOUND, locationIndex.indexOfValidLocationFor("foobar"));
+    }
+
+    @Test
+    void suggest() {
+        assertEquals(Arrays.asList("LT17", "LT1"), locationIndex.suggest("LT1"));
+        assertEquals(Arrays.asList("LT17", "LT1", "LT-UNKNOWN"), locationIndex.suggest("LT"));
+        assertEquals(Arrays.asList("LT17", "COM1-0201", "LT1", "LT-UNKNOWN", "COM1-0113"), locationIndex.suggest(""));
+        assertEquals(new ArrayList<String>(), locationIndex.suggest("LT2"));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.gmaps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LocationKdTreeTest {
+
+    @Test
+    void nearest_randomPoints_sameAsBruteForce() {
+        Random random = new Random(2103);
+        double[] lats = new double[200];
+        double[] lngs = new double[200];
+        for (int i = 0; i < lats.length; i++) {
+            lats[i] = i % 7 == 0 ? Double.NaN : 1.29 + random.nextDouble() * 0.02;
+            lngs[i] = 103.77 + random.nextDouble() * 0.02;
+        }
+        LocationKdTree tree = new LocationKdTree(lats, lngs);
+
+        for (int query = 0; query < 500; query++) {
+            double lat = 1.285 + random.nextDouble() * 0.03;
+            double lng = 103.765 + random.nextDouble() * 0.03;
+            int expected = LocationKdTree.NOT_FOUND;
+            for (int i = 0; i < lats.length; i++) {
+                if (!Double.isNaN(lats[i]) && (expected == LocationKdTree.NOT_FOUND
+                        || LocationKdTree.haversine(lat, lng, lats[i], lngs[i])
+                        < LocationKdTree.haversine(lat, lng, lats[expected], lngs[expected]))) {
+                    expected = i;
+                }
+            }
+            assertEquals(expected, tree.nearest(lat, lng));
+        }
+    }
+
+    @Test
+    void nearest_noCoordinates_notFound() {
+        LocationKdTree tree = new LocationKdTree(new double[] {Double.NaN}, new double[] {103.77});
+        assertEquals(LocationKdTree.NOT_FOUND, tree.nearest(1.3, 103.77));
+        assertEquals(LocationKdTree.NOT_FOUND, new LocationKdTree(new double[0], new double[0]).nearest(1.3, 103.77));
+    }
+
+    @Test
+    void haversine() {
+        assertEquals(0, LocationKdTree.haversine(1.2966, 103.7764, 1.2966, 103.7764));
+        // One degree of latitude is about 111.2 km.
+        assertEquals(111195, LocationKdTree.haversine(1, 103, 2, 103), 1);
+        assertEquals(LocationKdTree.haversine(1.29, 103.77, 1.30, 103.78),
+                LocationKdTree.haversine(1.30, 103.78, 1.29, 103.77), 1e-9);
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.module.exceptions.ModuleNotFoundException;
+
+class ModuleListTest {
+    private static final ModuleId CS2103T = new ModuleId("2019/2020", "CS2103T");
+    private static final ModuleId CS2101 = new ModuleId("2019/2020", "CS2101");
+    private static final ModuleId CS1010 = new ModuleId("2019/2020", "CS1010");
+
+    private List<ModuleId> loaded;
+    private ModuleList moduleList;
+
+    @BeforeEach
+    void setUp() {
+        loaded = new ArrayList<>();
+        moduleList = new ModuleList(List.of(CS2103T, CS2101), moduleId -> {
+            loaded.add(moduleId);
+            return Optional.of(new Module(moduleId, new Title("Title"), new Description(""), new ArrayList<>()));
+        });
+    }
+
+    @Test
+    void containsAndGetModuleIds_notLoaded() {
+        assertTrue(moduleList.contains(CS2103T));
+        assertFalse(moduleList.contains(CS1010));
+        assertEquals(List.of(CS2103T, CS2101), moduleList.getModuleIds());
+        assertTrue(loaded.isEmpty());
+    }
+
+    @Test
+    void findModule_loadedOnce() {
+        assertEquals(CS2101, moduleList.findModule(CS2101).getModuleId());
+        assertEquals(CS2101, moduleList.findModule(CS2101).getModuleId());
+        assertEquals(List.of(CS2101), loaded);
+        assertThrows(ModuleNotFoundException.class, () -> moduleList.findModule(CS1010));
+    }
+
+    @Test
+    void getModules_remainingLoaded() {
+        moduleList.findModule(CS2101);
+        assertEquals(2, moduleList.getModules().size());
+        assertEquals(List.of(CS2101, CS2103T), loaded);
+        assertTrue(moduleList.contains(CS2103T));
+    }
+}
@@ -8,14 +8,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.personutil.TypicalPersonDescriptor.ALICE;
 import static seedu.address.testutil.personutil.TypicalPersonDescriptor.BENSON;
 import static seedu.address.testutil.scheduleutil.TypicalEvents.EVENT_NAME1;
+import static seedu.address.testutil.scheduleutil.TypicalTimeslots.START_TIME1;
+import static seedu.address.testutil.scheduleutil.TypicalTimeslots.START_TIME2;
+import static seedu.address.testutil.scheduleutil.TypicalTimeslots.START_TIME3;
 import static seedu.address.testutil.scheduleutil.TypicalTimeslots.TIME_SLOT1;
 import static seedu.address.testutil.scheduleutil.TypicalTimeslots.TIME_SLOT2;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.EventClashException;
+import seedu.address.model.person.exceptions.EventNotFoundException;
 import seedu.address.testutil.personutil.PersonBuilder;
 import seedu.address.testutil.scheduleutil.TypicalEvents;
 import seedu.address.testutil.scheduleutil.TypicalSchedule;
@@ -66,6 +73,59 @@ class ScheduleTest {
 
     }
 
+    @Test
+    void getVersion_changesOnAddAndDelete() throws EventClashException, EventNotFoundException {
+        Schedule schedule = TypicalSchedule.generateEmptySchedule(alice.getPersonId());
+        assertEquals(0, schedule.getVersion());
+
+        schedule.addEvent(TypicalEvents.generateTypicalEvent1());
+        assertEquals(1, schedule.getVersion());
+
+        assertThrows(EventClashException.class, () ->
+                schedule.addEvent(TypicalEvents.generateTypicalEvent1()));
+        assertEquals(1, schedule.getVersion());
+
+        schedule.deleteEvent(EVENT_NAME1);
+        assertEquals(2, schedule.getVersion());
+    }
+
+    @Test
+    void timeslotsBetween() throws EventClashException, EventNotFoundException {
+        Schedule schedule = TypicalSchedule.generateEmptySchedule(alice.getPersonId());
+        schedule.addEvent(TypicalEvents.generateTypicalEvent2());
+        schedule.addEvent(TypicalEvents.generateTypicalEvent1());
+
+        ArrayList<EventTimeslot> timeslots = schedule.timeslotsBetween(START_TIME1, START_TIME3.plusMinutes(1));
+        assertEquals(3, timeslots.size());
+        assertEquals(START_TIME1, timeslots.get(0).getTimeslot().getStartTime());
+        assertEquals(EVENT_NAME1, timeslots.get(0).getEvent().getEventName());
+        assertEquals(START_TIME2, timeslots.get(1).getTimeslot().getStartTime());
+        assertEquals(START_TIME3, timeslots.get(2).getTimeslot().getStartTime());
+
+        assertEquals(1, schedule.timeslotsBetween(START_TIME2, START_TIME3).size());
+        assertEquals(0, schedule.timeslotsBetween(START_TIME3, START_TIME1).size());
+
+        schedule.deleteEvent(EVENT_NAME1);
+        assertEquals(2, schedule.timeslotsBetween(START_TIME1, START_TIME3.plusMinutes(1)).size());
+
+        schedule.addEvent(TypicalEvents.generateTypicalEvent1());
+        assertEquals(3, schedule.timeslotsBetween(START_TIME1, START_TIME3.plusMinutes(1)).size());
+    }
+
+    @Test
+    void findClashes() throws EventClashException {
+        Schedule schedule = TypicalSchedule.generateEmptySchedule(alice.getPersonId());
+        schedule.addEvent(TypicalEvents.generateTypicalEvent2());
+        assertTrue(schedule.findClashes(List.of(TypicalEvents.generateTypicalEvent1())).isEmpty());
+
+        Event clashingEvent = TypicalEvents.generateTypicalEvent2();
+        ArrayList<TimeslotClash> clashes = schedule.findClashes(List.of(clashingEvent));
+        assertEquals(2, clashes.size());
+        assertEquals(clashingEvent, clashes.get(0).getEventTimeslot().getEvent());
+        assertEquals(START_TIME2, clashes.get(0).getOtherEventTimeslot().getTimeslot().getStartTime());
+        assertEquals(START_TIME3, clashes.get(1).getOtherEventTimeslot().getTimeslot().getStartTime());
+    }
+
     @Test
     void deleteEvent_success() {
         Schedule schedule = TypicalSchedule.generateEmptySchedule(alice.getPersonId());
@@ -0,0 +1,98 @@
+package seedu.address.model.person.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.scheduleutil.TypicalTimeslots.TIME_SLOT1;
+import static seedu.address.testutil.scheduleutil.TypicalTimeslots.TIME_SLOT2;
+import static seedu.address.testutil.scheduleutil.TypicalTimeslots.VENUE1;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TimeslotClashCheckerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2019, 11, 11, 8, 0);
+
+    @Test
+    void findClashes_noClash() {
+        Event event1 = new Event("event1", new ArrayList<>(List.of(TIME_SLOT1)));
+        Event event2 = new Event("event2", new ArrayList<>(List.of(TIME_SLOT2)));
+
+        assertTrue(TimeslotClashChecker.findClashes(List.of(event1, event2)).isEmpty());
+        assertFalse(TimeslotClashChecker.hasClash(List.of(event1, event2)));
+    }
+
+    @Test
+    void findClashes_clash_reportsTimeslots() {
+        Timeslot clashingTimeslot = new Timeslot(TIME_SLOT1.getStartTime().plusMinutes(30),
+                TIME_SLOT1.getEndTime().plusMinutes(30), VENUE1);
+        Event event1 = new Event("event1", new ArrayList<>(List.of(TIME_SLOT2, TIME_SLOT1)));
+        Event event2 = new Event("event2", new ArrayList<>(List.of(clashingTimeslot)));
+
+        ArrayList<TimeslotClash> clashes = TimeslotClashChecker.findClashes(List.of(event2, event1));
+        assertEquals(1, clashes.size());
+        assertSame(event2, clashes.get(0).getEventTimeslot().getEvent());
+        assertSame(clashingTimeslot, clashes.get(0).getEventTimeslot().getTimeslot());
+        assertSame(event1, clashes.get(0).getOtherEventTimeslot().getEvent());
+        assertSame(TIME_SLOT1, clashes.get(0).getOtherEventTimeslot().getTimeslot());
+        assertTrue(TimeslotClashChecker.hasClash(List.of(event1, event2)));
+    }
+
+    @Test
+    void findClashes_sameEvent_notClash() {
+        Event event = new Event("event", new ArrayList<>(List.of(TIME_SLOT1, TIME_SLOT1)));
+        assertFalse(TimeslotClashChecker.hasClash(List.of(event)));
+    }
+
+    @Test
+    void findClashes_touchingTimeslots_notClash() {
+        Timeslot nextTimeslot = new Timeslot(TIME_SLOT1.getEndTime(), TIME_SLOT1.getEndTime().plusHours(1), VENUE1);
+        Event event1 = new Event("event1", new ArrayList<>(List.of(TIME_SLOT1)));
+        Event event2 = new Event("event2", new ArrayList<>(List.of(nextTimeslot)));
+        assertFalse(TimeslotClashChecker.hasClash(List.of(event1, event2)));
+    }
+
+    @Test
+    void findClashes_randomEvents_sameAsPairwise() {
+        Random random = new Random(7);
+        for (int run = 0; run < 50; run++) {
+            ArrayList<Event> events = new ArrayList<>();
+            for (int e = 0; e < 6; e++) {
+                ArrayList<Timeslot> timeslots = new ArrayList<>();
+                for (int t = 0; t < 10; t++) {
+                    LocalDateTime startTime = START.plusMinutes(30 * random.nextInt(24 * 14));
+                    timeslots.add(new Timeslot(startTime, startTime.plusMinutes(30 * random.nextInt(5)), VENUE1));
+                }
+                events.add(new Event("event" + e, timeslots));
+            }
+
+            int expectedClashes = 0;
+            for (int i = 0; i < events.size(); i++) {
+                for (int j = i + 1; j < events.size(); j++) {
+                    for (Timeslot timeslot : events.get(i).getTimeslots()) {
+                        for (Timeslot otherTimeslot : events.get(j).getTimeslots()) {
+                            if (timeslot.isClash(otherTimeslot)) {
+                                expectedClashes++;
+                            }
+                        }
+                    }
+                }
+            }
+
+            ArrayList<TimeslotClash> clashes = TimeslotClashChecker.findClashes(events);
+            assertEquals(expectedClashes, clashes.size());
+            assertEquals(expectedClashes > 0, TimeslotClashChecker.hasClash(events));
+            for (TimeslotClash clash : clashes) {
+                assertTrue(events.indexOf(clash.getEventTimeslot().getEvent())
+                        < events.indexOf(clash.getOtherEventTimeslot().getEvent()));
+                assertTrue(clash.getEventTimeslot().getTimeslot().isClash(clash.getOtherEventTimeslot().getTimeslot()));
+            }
+        }
+    }
+}
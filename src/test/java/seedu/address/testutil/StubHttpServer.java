@@ -0,0 +1,139 @@
+package seedu.address.testutil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * An HTTP server on the loopback address that serves canned responses, so that API clients can be tested offline.
+ * Requests to a path without a response get a 404.
+ */
+public class StubHttpServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger requestsInFlight = new AtomicInteger();
+    private final AtomicInteger maxRequestsInFlight = new AtomicInteger();
+    private final AtomicInteger compressedResponseCount = new AtomicInteger();
+    private volatile long delayMillis;
+    private volatile boolean isCompressing;
+
+    public StubHttpServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Responds to requests under {@code path} with the bytes returned for the request URI, or a 404 if it is null.
+     */
+    public void respondTo(String path, String contentType, Function<URI, byte[]> response) {
+        server.createContext(path, exchange -> handle(exchange, contentType, response));
+    }
+
+    /**
+     * Delays every response by {@code delayMillis}, to simulate network latency.
+     */
+    public void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * Compresses responses with gzip when the request accepts it.
+     */
+    public void setCompressing(boolean isCompressing) {
+        this.isCompressing = isCompressing;
+    }
+
+    /**
+     * Returns the base URL of the server, ending with a slash.
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public int getMaxRequestsInFlight() {
+        return maxRequestsInFlight.get();
+    }
+
+    public int getCompressedResponseCount() {
+        return compressedResponseCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Counts the request and sends the response after the delay. A request stops counting as in flight once its
+     * response is ready to be sent, as the client may start its next request as soon as it has been sent.
+     */
+    private void handle(HttpExchange exchange, String contentType, Function<URI, byte[]> response)
+            throws IOException {
+        requestCount.incrementAndGet();
+        maxRequestsInFlight.accumulateAndGet(requestsInFlight.incrementAndGet(), Math::max);
+        byte[] body;
+        try {
+            Thread.sleep(delayMillis);
+            body = response.apply(exchange.getRequestURI());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            body = null;
+        } finally {
+            requestsInFlight.decrementAndGet();
+        }
+
+        try {
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (isCompressing && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                body = compress(body);
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+                compressedResponseCount.incrementAndGet();
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns the bytes compressed with gzip.
+     */
+    private static byte[] compress(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -69,7 +69,7 @@ public class ScheduleViewTest extends ApplicationTest {
     public void start(Stage stage) {
         ScheduleView scheduleView = new ScheduleView(List.of(TEST_SCHEDULE), TEST_SCHEDULE_TITLE, LocalDate.now());
         //Generate schedule using the TEST_SCHEDULE.
-        scheduleView.setFreeTime(TEST_FREE_SCHEDULE);
+        scheduleView.setFreeTime(TEST_FREE_SCHEDULE, List.of(TEST_SCHEDULE_TITLE));
         scheduleView.generateSchedule();
         Parent sceneRoot = scheduleView.getRoot();
         Scene scene = new Scene(sceneRoot);
@@ -2,19 +2,15 @@ package seedu.address.websocket;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.Arrays;
 
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.internal.gmaps.GmapsJsonUtils;
-import seedu.address.model.gmaps.Location;
 import seedu.address.model.module.AcadCalendar;
 import seedu.address.model.module.Holidays;
 import seedu.address.model.module.Module;
@@ -84,15 +80,6 @@ class CacheTest {
         assertEquals(new JSONObject(), response);
     }
 
-    @Test
-    void loadDistanceMatrix() {
-        ArrayList<Location> input = new ArrayList<Location>(
-                Arrays.asList(new Location("Bar"), new Location("Bar"),
-                        new Location("Bar")));
-        JSONObject distanceMatrixResponse = Cache.loadDistanceMatrix(input, input);
-        assertEquals(distanceMatrixResponse, new JSONObject());
-    }
-
     @Test
     public void loadImagePath() {
         String actualPath = Cache.loadImagePath("NUS_foo");
@@ -118,11 +105,4 @@ class CacheTest {
         String actualPath = Cache.writeImagePath("NUS_foo");
         assertEquals("src/main/resources//ApiResponseCache/GoogleMapsApi/GmapsImages/NUS_foo.png", actualPath);
     }
-
-    @Test
-    public void saveToJsonNullEntry() {
-        assertThrows(NullPointerException.class, () -> Cache.saveToJson("test", "test", null));
-        assertThrows(NullPointerException.class, () -> Cache.saveToJson("test", null, "test"));
-        assertThrows(NullPointerException.class, () -> Cache.saveToJson(null, "test", "test"));
-    }
 }
@@ -0,0 +1,99 @@
+package seedu.address.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ImageCacheTest {
+    // A 10 by 10 TYPE_INT_ARGB image takes up 400 bytes.
+    private static final long IMAGE_BYTES = 400;
+
+    private List<String> decoded;
+    private List<Runnable> tasks;
+    private ImageCache imageCache;
+
+    @BeforeEach
+    void init() {
+        decoded = new ArrayList<>();
+        tasks = new ArrayList<>();
+        imageCache = new ImageCache(this::decode, tasks::add, 2 * IMAGE_BYTES);
+    }
+
+    @Test
+    void get_cached_decodedOnce() {
+        BufferedImage image = imageCache.get("A");
+        assertSame(image, imageCache.get("A"));
+        assertEquals(List.of("A"), decoded);
+        assertEquals(IMAGE_BYTES, imageCache.getBytes());
+    }
+
+    @Test
+    void get_overBudget_leastRecentlyUsedEvicted() {
+        imageCache.get("A");
+        imageCache.get("B");
+        imageCache.get("A");
+        imageCache.get("C");
+
+        assertTrue(imageCache.getIfPresent("A") != null);
+        assertNull(imageCache.getIfPresent("B"));
+        assertTrue(imageCache.getIfPresent("C") != null);
+        assertEquals(2 * IMAGE_BYTES, imageCache.getBytes());
+    }
+
+    @Test
+    void get_missingImage_notCached() {
+        assertNull(imageCache.get("missing"));
+        assertNull(imageCache.get("missing"));
+        assertEquals(List.of("missing", "missing"), decoded);
+        assertEquals(0, imageCache.getBytes());
+    }
+
+    @Test
+    void getAsync_decodedInBackgroundOnce() {
+        CompletableFuture<BufferedImage> first = imageCache.getAsync("A");
+        CompletableFuture<BufferedImage> second = imageCache.getAsync("A");
+        assertFalse(first.isDone());
+        assertSame(first, second);
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        assertSame(first.join(), imageCache.getIfPresent("A"));
+        assertTrue(imageCache.getAsync("A").isDone());
+        assertEquals(List.of("A"), decoded);
+    }
+
+    @Test
+    void prefetch_imagesCached() {
+        imageCache.prefetch(List.of("A", "B"));
+        tasks.forEach(Runnable::run);
+
+        imageCache.get("A");
+        imageCache.get("B");
+        assertEquals(List.of("A", "B"), decoded);
+    }
+
+    @Test
+    void setByteBudget_smaller_evicts() {
+        imageCache.get("A");
+        imageCache.get("B");
+        imageCache.setByteBudget(IMAGE_BYTES);
+
+        assertNull(imageCache.getIfPresent("A"));
+        assertEquals(IMAGE_BYTES, imageCache.getBytes());
+    }
+
+    private BufferedImage decode(String name) {
+        decoded.add(name);
+        return name.equals("missing") ? null : new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.SimpleJsonUtil;
+
+class JournalStoreTest {
+    @TempDir
+    public Path tempDir;
+
+    private Path jsonPath;
+    private Path journalPath;
+
+    @BeforeEach
+    void init() {
+        jsonPath = tempDir.resolve("Places.json");
+        journalPath = tempDir.resolve("Places.json" + JournalStore.JOURNAL_EXTENSION);
+    }
+
+    @Test
+    void put_newResponse_visibleImmediately() {
+        JournalStore store = createStore(10);
+        assertNull(store.get("a"));
+        store.put("a", response("OK"));
+        assertEquals(response("OK"), store.get("a"));
+        assertEquals(response("OK"), store.getResponses().get("a"));
+        assertEquals(1, store.getJournalRecords());
+        assertFalse(Files.exists(jsonPath));
+    }
+
+    @Test
+    void getResponses_reopened_journalReplayedOverJson() throws IOException {
+        Files.writeString(jsonPath, "{\"a\":{\"status\":\"OLD\"},\"b\":{\"status\":\"OK\"}}");
+        JournalStore store = createStore(10);
+        store.put("a", response("NEW"));
+        store.putAll(Map.of("c", response("OK"), "d", response("OK")));
+
+        JournalStore reopened = createStore(10);
+        assertEquals(4, reopened.getResponses().size());
+        assertEquals(response("NEW"), reopened.get("a"));
+        assertEquals(3, reopened.getJournalRecords());
+    }
+
+    @Test
+    void getResponses_incompleteRecord_droppedAndTruncated() throws IOException {
+        JournalStore store = createStore(10);
+        store.put("a", response("OK"));
+        long completeSize = Files.size(journalPath);
+        Files.write(journalPath, "{\"key\":\"b\",\"val".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournalStore reopened = createStore(10);
+        assertEquals(response("OK"), reopened.get("a"));
+        assertNull(reopened.get("b"));
+        assertEquals(completeSize, Files.size(journalPath));
+
+        reopened.put("c", response("OK"));
+        assertEquals(2, createStore(10).getResponses().size());
+    }
+
+    @Test
+    void putAll_thresholdReached_compactedIntoJson() {
+        JournalStore store = createStore(2);
+        store.put("a", response("OK"));
+        assertTrue(Files.exists(journalPath));
+        store.put("b", response("OK"));
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(0, store.getJournalRecords());
+        JSONObject json = (JSONObject) SimpleJsonUtil.readJsonFile(jsonPath).get();
+        assertEquals(2, json.size());
+        assertEquals(response("OK"), json.get("b"));
+        assertEquals(2, createStore(2).getResponses().size());
+    }
+
+    @Test
+    void getResponses_crashAfterCompaction_journalReplayedAgain() throws IOException {
+        JournalStore store = createStore(10);
+        store.put("a", response("OK"));
+        byte[] journal = Files.readAllBytes(journalPath);
+        store.compact();
+        // The journal is left behind, as if the application stopped before deleting it.
+        Files.write(journalPath, journal);
+
+        JournalStore reopened = createStore(10);
+        assertEquals(1, reopened.getResponses().size());
+        assertEquals(response("OK"), reopened.get("a"));
+    }
+
+    /**
+     * Creates a store at jsonPath that is compacted after compactionThreshold records.
+     */
+    private JournalStore createStore(int compactionThreshold) {
+        return new JournalStore(jsonPath, () -> SimpleJsonUtil.readJsonFile(jsonPath), compactionThreshold);
+    }
+
+    /**
+     * Returns a response with the status.
+     */
+    private static JSONObject response(String status) {
+        JSONObject response = new JSONObject();
+        response.put("status", status);
+        return response;
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ModuleStoreTest {
+    @TempDir
+    public Path tempDir;
+
+    private Path dataPath;
+    private Path indexPath;
+    private List<ModuleStore> stores;
+
+    @BeforeEach
+    void init() {
+        dataPath = tempDir.resolve("modules.store");
+        indexPath = tempDir.resolve("modules.store" + ModuleStore.INDEX_EXTENSION);
+        stores = new ArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // The temporary directory cannot be deleted on Windows while a file in it is mapped.
+        stores.forEach(ModuleStore::close);
+    }
+
+    /**
+     * Returns a store of the data file, which is closed after the test.
+     */
+    private ModuleStore newStore() {
+        ModuleStore store = new ModuleStore(dataPath);
+        stores.add(store);
+        return store;
+    }
+
+    @Test
+    void get_emptyStore_emptyAndNoFiles() {
+        ModuleStore store = newStore();
+        assertEquals(Optional.empty(), store.get("2019/2020 CS2103T"));
+        assertEquals(0, store.size());
+        assertFalse(Files.exists(dataPath));
+    }
+
+    @Test
+    void add_newRecord_visibleImmediatelyAndAfterReopening() {
+        ModuleStore store = newStore();
+        store.add("2019/2020 CS2103T", "{\"title\":\"Software Engineering\"}");
+        store.add("2019/2020 CS2101", "{\"title\":\"Communication\"}");
+        store.add("2019/2020 CS2103T", "{\"title\":\"SE\"}");
+        assertEquals(Optional.of("{\"title\":\"SE\"}"), store.get("2019/2020 CS2103T"));
+        assertEquals(2, store.size());
+
+        ModuleStore reopened = newStore();
+        assertEquals(Optional.of("{\"title\":\"SE\"}"), reopened.get("2019/2020 CS2103T"));
+        assertEquals(Arrays.asList("2019/2020 CS2101", "2019/2020 CS2103T"), reopened.keys());
+    }
+
+    @Test
+    void writeDirectory_records_foundThroughIndex() {
+        ModuleStore store = newStore();
+        Map<String, String> records = new HashMap<>();
+        for (int i = 0; i < ModuleStore.DIRECTORY_THRESHOLD; i++) {
+            records.put("2019/2020 CS" + (1000 + i), "{\"index\":" + i + "}");
+        }
+        store.addAll(records);
+        assertTrue(Files.exists(indexPath));
+        store.add("2019/2020 CS0001", "{\"index\":-1}");
+
+        ModuleStore reopened = newStore();
+        assertEquals(ModuleStore.DIRECTORY_THRESHOLD + 1, reopened.size());
+        assertEquals(Optional.of("{\"index\":0}"), reopened.get("2019/2020 CS1000"));
+        assertEquals(Optional.of("{\"index\":63}"), reopened.get("2019/2020 CS1063"));
+        assertEquals(Optional.of("{\"index\":-1}"), reopened.get("2019/2020 CS0001"));
+        assertEquals(Optional.empty(), reopened.get("2019/2020 CS0999"));
+        List<String> keys = reopened.keys();
+        assertEquals("2019/2020 CS0001", keys.get(0));
+        assertEquals("2019/2020 CS1063", keys.get(keys.size() - 1));
+    }
+
+    @Test
+    void keys_indexedRecords_dataFileNotRead() throws IOException {
+        ModuleStore store = newStore();
+        store.add("2019/2020 CS2103T", "{}");
+        store.add("2019/2020 CS2101", "{}");
+        store.writeDirectory();
+        store.close();
+        // Overwrites the records after the header, so reading any of them would fail.
+        byte[] bytes = Files.readAllBytes(dataPath);
+        Arrays.fill(bytes, 8, bytes.length, (byte) 0xff);
+        Files.write(dataPath, bytes);
+
+        ModuleStore reopened = newStore();
+        assertEquals(Arrays.asList("2019/2020 CS2101", "2019/2020 CS2103T"), reopened.keys());
+        assertEquals(2, reopened.size());
+    }
+
+    @Test
+    void open_noIndex_indexWritten() {
+        ModuleStore store = newStore();
+        store.add("2019/2020 CS2103T", "{}");
+        store.close();
+        assertFalse(Files.exists(indexPath));
+
+        assertEquals(1, newStore().size());
+        assertTrue(Files.exists(indexPath));
+    }
+
+    @Test
+    void open_incompleteRecord_droppedAndTruncated() throws IOException {
+        ModuleStore store = newStore();
+        store.add("2019/2020 CS2103T", "{}");
+        long completeSize = Files.size(dataPath);
+        store.close();
+        Files.write(dataPath, new byte[] {0, 0, 0, 20, 'C', 'S'}, StandardOpenOption.APPEND);
+
+        ModuleStore reopened = newStore();
+        assertEquals(Optional.of("{}"), reopened.get("2019/2020 CS2103T"));
+        assertEquals(1, reopened.size());
+        assertEquals(completeSize, Files.size(dataPath));
+
+        reopened.add("2019/2020 CS2101", "{}");
+        assertEquals(2, newStore().size());
+    }
+
+    @Test
+    void open_indexBeyondData_indexIgnored() throws IOException {
+        ModuleStore store = newStore();
+        store.add("2019/2020 CS2103T", "{}");
+        store.writeDirectory();
+        byte[] index = Files.readAllBytes(indexPath);
+        store.add("2019/2020 CS2101", "{}");
+        store.writeDirectory();
+        store.close();
+        // An index that covers more of the data file than there is, as if the data file were replaced.
+        Files.write(dataPath, Arrays.copyOf(Files.readAllBytes(dataPath), 8));
+        Files.write(indexPath, index);
+
+        assertEquals(0, newStore().size());
+    }
+
+    @Test
+    void close_usedAgain_reopened() throws IOException {
+        ModuleStore store = newStore();
+        store.add("2019/2020 CS2103T", "{}");
+        store.close();
+        Files.delete(dataPath);
+
+        assertEquals(Optional.empty(), store.get("2019/2020 CS2103T"));
+        store.add("2019/2020 CS2101", "{}");
+        assertEquals(Arrays.asList("2019/2020 CS2101"), newStore().keys());
+    }
+}
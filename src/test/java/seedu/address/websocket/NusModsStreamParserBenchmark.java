@@ -0,0 +1,103 @@
+package seedu.address.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.model.module.AcadYear;
+
+/**
+ * Compares the time and memory taken to parse NUSMods responses with json-simple and with NusModsStreamParser.
+ * It only prints its measurements, so it is run by hand rather than with the other tests.
+ */
+@Disabled("Benchmark, run by hand")
+class NusModsStreamParserBenchmark {
+    private static final String MODULES_SUMMARY_PATH = "/ApiResponseCache/NusModsApi/modules_summary.json";
+    private static final AcadYear ACAD_YEAR = new AcadYear("2019/2020");
+    private static final int WARMUP_ITERATIONS = 30;
+
+    private final ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * A parse that is measured.
+     */
+    private interface Task {
+        Object run() throws Exception;
+    }
+
+    @Test
+    void parseModuleSummaryList() throws Exception {
+        byte[] summaries;
+        try (InputStream in = NusModsStreamParserBenchmark.class.getResourceAsStream(MODULES_SUMMARY_PATH)) {
+            summaries = in.readAllBytes();
+        }
+        measure("summaries json-simple", 50, () -> {
+            JSONObject obj = (JSONObject) new JSONParser().parse(
+                    new InputStreamReader(new ByteArrayInputStream(summaries), StandardCharsets.UTF_8));
+            return NusModsParser.parseModuleSummaryList((JSONArray) obj.get(ACAD_YEAR.toString()), ACAD_YEAR);
+        });
+        measure("summaries streaming", 50, () ->
+                NusModsStreamParser.parseModuleSummaryList(new ByteArrayInputStream(summaries), ACAD_YEAR));
+    }
+
+    @Test
+    void parseModule() throws Exception {
+        String module = generateModule(40);
+        assertEquals(NusModsParser.parseModule((JSONObject) new JSONParser().parse(module)),
+                NusModsStreamParser.parseModule(module));
+        measure("module json-simple", 2000, () ->
+                NusModsParser.parseModule((JSONObject) new JSONParser().parse(module)));
+        measure("module streaming", 2000, () -> NusModsStreamParser.parseModule(module));
+    }
+
+    /**
+     * Runs the task after warming it up, and prints the average time and bytes allocated per iteration.
+     */
+    private void measure(String name, int iterations, Task task) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            task.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        long endTime = System.nanoTime();
+        long endBytes = threadBean.getThreadAllocatedBytes(threadId);
+        double millis = (endTime - startTime) / 1e6 / iterations;
+        double megabytes = (endBytes - startBytes) / 1e6 / iterations;
+        System.out.printf("%-24s %8.3f ms %8.2f MB%n", name, millis, megabytes);
+    }
+
+    /**
+     * Returns a module with the number of tutorials in each of its two semesters, and a long description.
+     */
+    private static String generateModule(int tutorials) {
+        StringBuilder timetable = new StringBuilder();
+        for (int i = 0; i < tutorials; i++) {
+            if (i > 0) {
+                timetable.append(',');
+            }
+            timetable.append("{\"classNo\":\"").append(i).append("\",\"startTime\":\"1000\",\"endTime\":\"1200\","
+                    + "\"weeks\":{\"start\":\"2019-8-12\",\"end\":\"2019-11-15\",\"weeks\":[1,3,5,7,9,11]},"
+                    + "\"venue\":\"COM1-B103\",\"day\":\"Monday\",\"lessonType\":\"Tutorial\",\"size\":30}");
+        }
+        return "{\"acadYear\":\"2019/2020\",\"description\":\"" + "x".repeat(800) + "\",\"title\":\"SE\","
+                + "\"prereqTree\":{\"and\":[{\"or\":[\"CS2030\",\"CS1020\"]},\"CS2040\"]},\"moduleCode\":\"CS2103T\","
+                + "\"semesterData\":[{\"semester\":1,\"examDate\":\"2019-11-30T01:00:00.000Z\",\"examDuration\":120,"
+                + "\"timetable\":[" + timetable + "]},{\"semester\":2,\"timetable\":[" + timetable + "]}]}";
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.AcadYear;
+import seedu.address.model.module.Module;
+
+class NusModsStreamParserTest {
+    private static final String LESSON_WEEK_NUMBERS = "{\"classNo\":\"01\",\"startTime\":\"1000\",\"endTime\":\"1200\","
+            + "\"weeks\":[1,2,3,4,5,6,7,8,9,10,11,12,13],\"venue\":\"COM1-B103\",\"day\":\"Monday\","
+            + "\"lessonType\":\"Lecture\",\"size\":300}";
+    private static final String LESSON_START_END_WEEK_NUMBERS = "{\"classNo\":\"T1\",\"startTime\":\"0800\","
+            + "\"endTime\":\"0900\",\"weeks\":{\"start\":\"2019-8-12\",\"end\":\"2019-11-15\",\"weeks\":[1,3,5]},"
+            + "\"venue\":\"AS6-0213\",\"day\":\"Tuesday\",\"lessonType\":\"Tutorial\"}";
+    private static final String LESSON_START_END_WEEK_INTERVAL = "{\"classNo\":\"2\",\"startTime\":\"1400\","
+            + "\"endTime\":\"1600\",\"weeks\":{\"start\":\"2019-8-12\",\"end\":\"2019-11-15\",\"weekInterval\":2},"
+            + "\"venue\":\"I3-AUD\",\"day\":\"Friday\",\"lessonType\":\"Laboratory\"}";
+    private static final String LESSON_DEFAULT_WEEK_INTERVAL = "{\"classNo\":\"3\",\"startTime\":\"1400\","
+            + "\"endTime\":\"1600\",\"weeks\":{\"start\":\"2019-8-12\",\"end\":\"2019-11-15\"},"
+            + "\"venue\":\"I3-AUD\",\"day\":\"Friday\",\"lessonType\":\"Laboratory\"}";
+    private static final String MODULE = "{\"acadYear\":\"2019/2020\",\"preclusion\":\"CS2103\","
+            + "\"description\":\"Software engineering.\",\"title\":\"Software Engineering\","
+            + "\"prereqTree\":{\"and\":[{\"or\":[\"CS2030\",\"CS1020\"]},\"CS2040\"]},\"moduleCode\":\"CS2103T\","
+            + "\"semesterData\":[{\"semester\":1,\"examDate\":\"2019-11-30T01:00:00.000Z\",\"examDuration\":120,"
+            + "\"timetable\":[" + LESSON_WEEK_NUMBERS + "," + LESSON_START_END_WEEK_NUMBERS + "]},"
+            + "{\"semester\":2,\"timetable\":[" + LESSON_START_END_WEEK_INTERVAL + ","
+            + LESSON_DEFAULT_WEEK_INTERVAL + "]}]}";
+
+    @Test
+    void parseModule_validModule_sameAsNusModsParser() throws Exception {
+        Module expected = NusModsParser.parseModule((JSONObject) new JSONParser().parse(MODULE));
+        assertEquals(expected, NusModsStreamParser.parseModule(MODULE));
+        assertEquals(2, expected.getSemesterData().size());
+    }
+
+    @Test
+    void parseModule_missingDescription_sameAsNusModsParser() throws Exception {
+        String json = MODULE.replace("\"description\":\"Software engineering.\",", "");
+        Module expected = NusModsParser.parseModule((JSONObject) new JSONParser().parse(json));
+        assertEquals(expected, NusModsStreamParser.parseModule(json));
+    }
+
+    @Test
+    void parseModule_missingKeys_throwsParseException() {
+        assertThrows(ParseException.class, () -> NusModsStreamParser.parseModule(
+                MODULE.replace("\"moduleCode\":\"CS2103T\",", "")));
+        assertThrows(ParseException.class, () -> NusModsStreamParser.parseModule(
+                MODULE.replace("\"examDuration\":120,", "")));
+        assertThrows(ParseException.class, () -> NusModsStreamParser.parseModule(
+                MODULE.replace("\"venue\":\"AS6-0213\",", "")));
+        assertThrows(ParseException.class, () -> NusModsStreamParser.parseModule(
+                MODULE.replace("\"start\":\"2019-8-12\",\"end\":\"2019-11-15\",\"weekInterval\":2",
+                        "\"end\":\"2019-11-15\",\"weekInterval\":2")));
+        assertThrows(ParseException.class, () -> NusModsStreamParser.parseModule("{\"acadYear\":"));
+    }
+
+    @Test
+    void parseModuleSummaryList_otherYearsSkipped_sameAsNusModsParser() throws Exception {
+        String summaries = "[{\"moduleCode\":\"CS2103T\",\"title\":\"Software Engineering\",\"semesters\":[1,2]},"
+                + "{\"moduleCode\":\"CS2101\",\"title\":\"Communication\",\"semesters\":[\"1\"],"
+                + "\"acadYear\":\"2018/2019\"}]";
+        String json = "{\"2018/2019\":[{\"moduleCode\":\"CS1010\",\"title\":\"Programming\",\"semesters\":[1]}],"
+                + "\"2019/2020\":" + summaries + "}";
+        AcadYear acadYear = new AcadYear("2019/2020");
+
+        JSONArray arr = (JSONArray) new JSONParser().parse(summaries);
+        assertEquals(NusModsParser.parseModuleSummaryList(arr, acadYear).getModuleSummaries(),
+                NusModsStreamParser.parseModuleSummaryList(stream(json), acadYear).getModuleSummaries());
+    }
+
+    @Test
+    void parseModuleSummaryList_missingYear_throwsParseException() {
+        String json = "{\"2018/2019\":[{\"moduleCode\":\"CS1010\",\"title\":\"Programming\",\"semesters\":[1]}]}";
+        assertThrows(ParseException.class, () -> NusModsStreamParser.parseModuleSummaryList(stream(json),
+                new AcadYear("2019/2020")));
+    }
+
+    /**
+     * Returns a stream of the UTF-8 bytes of the string.
+     */
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,19 +1,89 @@
 package seedu.address.websocket.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.testutil.StubHttpServer;
 
 class ApiQueryTest {
+    private static final String RESPONSE = "{\"status\":\"OK\",\n\"results\":[\"NUS_COM1\"]}\n";
+
     private Logger logger = LogsCenter.getLogger(this.getClass());
+    private StubHttpServer server;
+
+    @BeforeEach
+    void init() {
+        server = new StubHttpServer();
+        server.respondTo("/ok", "application/json", uri -> RESPONSE.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
     @Test
     void execute() {
         ApiQuery happyApiQuery = new ApiQuery("https://www.google.com.sg");
         QueryResult happyQueryResult = happyApiQuery.execute();
         assertTrue(happyQueryResult.process(logger));
     }
+
+    @Test
+    void execute_stubResponse_wholeBodyReturned() {
+        QueryResult queryResult = new ApiQuery(server.getBaseUrl() + "ok").execute();
+        assertTrue(queryResult.process(logger));
+        assertEquals(RESPONSE, queryResult.getResponseResult());
+    }
+
+    @Test
+    void execute_compressedResponse_decompressed() {
+        server.setCompressing(true);
+        QueryResult queryResult = new ApiQuery(server.getBaseUrl() + "ok").execute();
+        assertEquals(RESPONSE, queryResult.getResponseResult());
+        assertEquals(1, server.getCompressedResponseCount());
+    }
+
+    @Test
+    void execute_errors_notProcessed() {
+        assertFalse(new ApiQuery(server.getBaseUrl() + "missing").execute().process(logger));
+        QueryResult malformed = new ApiQuery("not a url").execute();
+        assertFalse(malformed.process(logger));
+        assertEquals("Malformed URL Exception", malformed.getResponseResult());
+    }
+
+    @Test
+    void executeAsync_manyQueries_sentConcurrently() {
+        server.setDelayMillis(200);
+        List<CompletableFuture<QueryResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(new ApiQuery(server.getBaseUrl() + "ok").executeAsync());
+        }
+        for (CompletableFuture<QueryResult> future : futures) {
+            assertEquals(RESPONSE, future.join().getResponseResult());
+        }
+        assertTrue(server.getMaxRequestsInFlight() > 1);
+    }
+
+    @Test
+    void executeAsync_closedServer_connectionError() {
+        StubHttpServer closedServer = new StubHttpServer();
+        String url = closedServer.getBaseUrl() + "ok";
+        closedServer.close();
+        QueryResult queryResult = new ApiQuery(url).executeAsync().join();
+        assertFalse(queryResult.process(logger));
+        assertEquals("Connection error", queryResult.getResponseResult());
+    }
 }